@@ -1,5 +1,6 @@
 package com.moa.moa_backend.domain.digest.controller;
 
+import com.moa.moa_backend.domain.digest.dto.DigestRefreshJobResponse;
 import com.moa.moa_backend.domain.digest.dto.ProjectDigestResponse;
 import com.moa.moa_backend.domain.digest.service.ProjectDigestService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -8,18 +9,30 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Size;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
-@RequiredArgsConstructor
 @RequestMapping("/api/projects/{projectId}")
 @Tag(name = "ProjectDigest", description = "프로젝트 전체 요약 API")
 public class ProjectDigestController {
 
     private final ProjectDigestService projectDigestService;
+    private final long streamTimeoutMs;
+
+    public ProjectDigestController(
+            ProjectDigestService projectDigestService,
+            @Value("${moa.digest.stream.timeout-ms:60000}") long streamTimeoutMs
+    ) {
+        this.projectDigestService = projectDigestService;
+        this.streamTimeoutMs = streamTimeoutMs;
+    }
 
     /**
      * 프로젝트 요약 refresh 요청 바디
@@ -61,6 +74,7 @@ public class ProjectDigestController {
                     - body.prompt가 비어있거나 null이면 DEFAULT 요약을 갱신한다.
                     - body.prompt가 있으면 CUSTOM 요약을 생성/갱신한다(프로젝트당 1개).
                     - DEFAULT는 최신이면 재생성하지 않고, meta.refresh.status=SKIPPED 로 내려준다.
+                    - async=true 이면 접수만 하고 202(jobId)를 즉시 반환한다. 진행 상태는 GET digest의 meta.refresh로 확인한다.
                     """
     )
     @ApiResponse(
@@ -68,12 +82,23 @@ public class ProjectDigestController {
             description = "갱신 성공(또는 스킵/실패 시에도 200 + meta.refresh로 상태 노출 정책)",
             content = @Content(schema = @Schema(implementation = ProjectDigestResponse.class))
     )
-    public ProjectDigestResponse refresh(
+    @ApiResponse(
+            responseCode = "202",
+            description = "비동기 갱신 접수 (async=true)",
+            content = @Content(schema = @Schema(implementation = DigestRefreshJobResponse.class))
+    )
+    @ApiResponse(responseCode = "409", description = "이미 요약 갱신이 진행 중")
+    @ApiResponse(responseCode = "503", description = "비동기 갱신 대기열이 가득 참")
+    public ResponseEntity<?> refresh(
             @Parameter(description = "요청 사용자 ID", required = true, example = "1")
             @RequestHeader("X-User-Id") Long userId,
 
             @Parameter(description = "프로젝트 ID", required = true, example = "10")
             @PathVariable Long projectId,
+
+            @Parameter(description = "비동기 처리 여부 (true면 202 + jobId)", example = "false")
+            @RequestParam(name = "async", defaultValue = "false") boolean async,
+
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     description = "커스텀 프롬프트(optional). 없거나 빈 값이면 DEFAULT 동작.",
                     required = false,
@@ -82,7 +107,50 @@ public class ProjectDigestController {
             @org.springframework.web.bind.annotation.RequestBody(required = false) @Valid RefreshRequest req
     ) {
         String prompt = (req == null) ? null : req.prompt();
-        return projectDigestService.refresh(userId, projectId, prompt);
+        if (async) {
+            return ResponseEntity.accepted().body(projectDigestService.refreshAsync(userId, projectId, prompt));
+        }
+        return ResponseEntity.ok(projectDigestService.refresh(userId, projectId, prompt));
     }
-}
 
+    @PostMapping(value = "/digest:refresh-stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "프로젝트 요약 스트리밍 생성/갱신 (SSE)",
+            description = """
+                    - 요청 body는 digest:refresh와 동일하다.
+                    - event: chunk → LLM이 생성 중인 마크다운 조각
+                    - event: done  → 저장까지 끝난 최종 응답 (digest:refresh 응답과 동일한 JSON)
+                    - event: error → 처리 중 오류 (ErrorResponse JSON)
+                    - 404/409/503은 스트림 시작 전에 HTTP status로 응답한다.
+                    - 연결이 끊겨도 생성/저장은 계속되며, 결과는 GET digest로 확인한다.
+                    """
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "스트림 시작",
+            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)
+    )
+    @ApiResponse(responseCode = "409", description = "이미 요약 갱신이 진행 중")
+    @ApiResponse(responseCode = "503", description = "갱신 대기열이 가득 참")
+    public SseEmitter refreshStream(
+            @Parameter(description = "요청 사용자 ID", required = true, example = "1")
+            @RequestHeader("X-User-Id") Long userId,
+
+            @Parameter(description = "프로젝트 ID", required = true, example = "10")
+            @PathVariable Long projectId,
+
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "커스텀 프롬프트(optional). 없거나 빈 값이면 DEFAULT 동작.",
+                    required = false,
+                    content = @Content(schema = @Schema(implementation = RefreshRequest.class))
+            )
+            @org.springframework.web.bind.annotation.RequestBody(required = false) @Valid RefreshRequest req,
+
+            HttpServletRequest request
+    ) {
+        String prompt = (req == null) ? null : req.prompt();
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        projectDigestService.refreshStreaming(userId, projectId, prompt, new SseDigestStreamSink<>(emitter, request.getRequestURI()));
+        return emitter;
+    }
+}
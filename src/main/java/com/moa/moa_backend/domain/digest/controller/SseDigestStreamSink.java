@@ -0,0 +1,70 @@
+package com.moa.moa_backend.domain.digest.controller;
+
+import com.moa.moa_backend.domain.digest.service.DigestStreamSink;
+import com.moa.moa_backend.global.error.ApiException;
+import com.moa.moa_backend.global.error.ErrorCode;
+import com.moa.moa_backend.global.error.ErrorResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * SseEmitter 기반 스트리밍 sink
+ * - event: chunk (마크다운 조각) / done (최종 응답 JSON) / error (ErrorResponse JSON)
+ * - 클라이언트가 끊겨도 생성/저장은 계속 진행 (결과는 GET digest로 확인 가능)
+ */
+@Slf4j
+final class SseDigestStreamSink<R> implements DigestStreamSink<R> {
+
+    static final String EVENT_CHUNK = "chunk";
+    static final String EVENT_DONE = "done";
+    static final String EVENT_ERROR = "error";
+
+    private final SseEmitter emitter;
+    private final String path;
+
+    // 끊긴 뒤에는 send 시도 안 함 (매 조각마다 IOException 로그 방지)
+    private volatile boolean disconnected = false;
+
+    SseDigestStreamSink(SseEmitter emitter, String path) {
+        this.emitter = emitter;
+        this.path = path;
+        emitter.onTimeout(() -> disconnected = true);
+        emitter.onError(e -> disconnected = true);
+    }
+
+    @Override
+    public void chunk(String text) {
+        send(SseEmitter.event().name(EVENT_CHUNK).data(text));
+    }
+
+    @Override
+    public void done(R response) {
+        if (send(SseEmitter.event().name(EVENT_DONE).data(response))) {
+            emitter.complete();
+        }
+    }
+
+    @Override
+    public void error(Exception e) {
+        ErrorCode code = (e instanceof ApiException api) ? api.getErrorCode() : ErrorCode.INTERNAL_ERROR;
+        ErrorResponse body = new ErrorResponse(code.code(), code.message(), path, Instant.now(), null);
+        if (send(SseEmitter.event().name(EVENT_ERROR).data(body))) {
+            emitter.complete();
+        }
+    }
+
+    private boolean send(SseEmitter.SseEventBuilder event) {
+        if (disconnected) return false;
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            disconnected = true;
+            log.debug("[DIGEST][STREAM] client disconnected. path={}", path);
+            return false;
+        }
+    }
+}
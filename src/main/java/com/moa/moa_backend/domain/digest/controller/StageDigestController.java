@@ -1,5 +1,6 @@
 package com.moa.moa_backend.domain.digest.controller;
 
+import com.moa.moa_backend.domain.digest.dto.DigestRefreshJobResponse;
 import com.moa.moa_backend.domain.digest.dto.StageDigestResponse;
 import com.moa.moa_backend.domain.digest.service.StageDigestService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -8,8 +9,12 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * 작업단계 요약 API
@@ -24,9 +29,14 @@ import org.springframework.web.bind.annotation.*;
 public class StageDigestController {
 
     private final StageDigestService service;
+    private final long streamTimeoutMs;
 
-    public StageDigestController(StageDigestService service) {
+    public StageDigestController(
+            StageDigestService service,
+            @Value("${moa.digest.stream.timeout-ms:60000}") long streamTimeoutMs
+    ) {
         this.service = service;
+        this.streamTimeoutMs = streamTimeoutMs;
     }
 
     @Operation(
@@ -73,6 +83,8 @@ public class StageDigestController {
             - 최근 스크랩들을 입력으로 LLM을 호출할 수 있습니다.
             - LLM 실패 시에도 기본적으로 200을 반환하며, 기존 요약이 있으면 유지합니다.
             - 성공/실패/스킵 여부는 HTTP status가 아니라 meta.refresh.status 로 판단합니다.
+            - async=true 이면 작업을 접수만 하고 202(jobId)를 즉시 반환합니다.
+              진행 상태는 GET digest의 meta.refresh(status=RUNNING, jobId)로 확인합니다.
             """,
             responses = {
                     @ApiResponse(
@@ -83,13 +95,22 @@ public class StageDigestController {
                                     schema = @Schema(implementation = StageDigestResponse.class)
                             )
                     ),
+                    @ApiResponse(
+                            responseCode = "202",
+                            description = "비동기 갱신 접수 (async=true)",
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = DigestRefreshJobResponse.class)
+                            )
+                    ),
                     @ApiResponse(responseCode = "400", description = "요청값 오류"),
                     @ApiResponse(responseCode = "404", description = "프로젝트 없음/권한 없음"),
-                    @ApiResponse(responseCode = "409", description = "이미 해당 작업단계 요약 갱신이 진행 중")
+                    @ApiResponse(responseCode = "409", description = "이미 해당 작업단계 요약 갱신이 진행 중"),
+                    @ApiResponse(responseCode = "503", description = "비동기 갱신 대기열이 가득 참")
             }
     )
     @PostMapping("/digest:refresh")
-    public StageDigestResponse refresh(
+    public ResponseEntity<?> refresh(
             @Parameter(description = "요청 사용자 ID (X-User-Id 헤더)", required = true, example = "1")
             @RequestHeader("X-User-Id") Long userId,
 
@@ -97,9 +118,50 @@ public class StageDigestController {
             @PathVariable Long projectId,
 
             @Parameter(description = "작업단계 (예: 설계)", required = true, example = "설계")
-            @PathVariable String stage
+            @PathVariable String stage,
+
+            @Parameter(description = "비동기 처리 여부 (true면 202 + jobId)", example = "false")
+            @RequestParam(name = "async", defaultValue = "false") boolean async
     ) {
-        return service.refresh(userId, projectId, stage);
+        if (async) {
+            return ResponseEntity.accepted().body(service.refreshAsync(userId, projectId, stage));
+        }
+        return ResponseEntity.ok(service.refresh(userId, projectId, stage));
     }
-}
 
+    @Operation(
+            summary = "작업단계 요약 스트리밍 생성/갱신 (SSE)",
+            description = """
+            요약 생성 과정을 Server-Sent Events로 스트리밍합니다.
+            - event: chunk  → LLM이 생성 중인 마크다운 조각 (최종본과 공백/코드펜스 정리 차이가 있을 수 있음)
+            - event: done   → 저장까지 끝난 최종 응답 (POST digest:refresh 응답과 동일한 JSON)
+            - event: error  → 처리 중 오류 (ErrorResponse JSON)
+            - 404/409/503은 스트림 시작 전에 HTTP status로 응답합니다.
+            - 연결이 끊겨도 생성/저장은 계속되며, 결과는 GET digest로 확인할 수 있습니다.
+            """,
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "스트림 시작",
+                            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)),
+                    @ApiResponse(responseCode = "404", description = "프로젝트 없음/권한 없음"),
+                    @ApiResponse(responseCode = "409", description = "이미 해당 작업단계 요약 갱신이 진행 중"),
+                    @ApiResponse(responseCode = "503", description = "갱신 대기열이 가득 참")
+            }
+    )
+    @PostMapping(value = "/digest:refresh-stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter refreshStream(
+            @Parameter(description = "요청 사용자 ID (X-User-Id 헤더)", required = true, example = "1")
+            @RequestHeader("X-User-Id") Long userId,
+
+            @Parameter(description = "프로젝트 ID", required = true, example = "15")
+            @PathVariable Long projectId,
+
+            @Parameter(description = "작업단계 (예: 설계)", required = true, example = "설계")
+            @PathVariable String stage,
+
+            HttpServletRequest request
+    ) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        service.refreshStreaming(userId, projectId, stage, new SseDigestStreamSink<>(emitter, request.getRequestURI()));
+        return emitter;
+    }
+}
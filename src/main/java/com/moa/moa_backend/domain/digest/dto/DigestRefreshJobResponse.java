@@ -0,0 +1,13 @@
+package com.moa.moa_backend.domain.digest.dto;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 비동기 refresh 접수 응답 (202 Accepted)
+ * - 진행 상태/결과는 GET digest의 meta.refresh(jobId 동일)로 확인
+ */
+public record DigestRefreshJobResponse(
+        String jobId,
+        String status,              // RUNNING
+        OffsetDateTime acceptedAt
+) {}
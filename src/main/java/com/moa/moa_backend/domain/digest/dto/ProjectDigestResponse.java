@@ -23,12 +23,18 @@ public record ProjectDigestResponse(
     ) {}
 
     public record Refresh(
-            String status,              // SUCCESS | FAILED | SKIPPED
-            String errorCode,           // NOT_OUTDATED | NO_SCRAPS | RATE_LIMITED | PROVIDER_ERROR ...
+            String status,              // SUCCESS | FAILED | SKIPPED | RUNNING
+            String errorCode,           // NOT_OUTDATED | NO_SCRAPS | RATE_LIMITED | PROVIDER_ERROR | PROVIDER_UNAVAILABLE ...
             String message,
             Integer retryAfterSeconds,
-            OffsetDateTime attemptedAt
-    ) {}
+            OffsetDateTime attemptedAt,
+            String jobId                // 비동기 refresh일 때만 (동기 호출은 null)
+    ) {
+        public Refresh(String status, String errorCode, String message,
+                       Integer retryAfterSeconds, OffsetDateTime attemptedAt) {
+            this(status, errorCode, message, retryAfterSeconds, attemptedAt, null);
+        }
+    }
 }
 
 
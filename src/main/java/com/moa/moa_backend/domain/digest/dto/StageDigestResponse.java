@@ -30,7 +30,13 @@ public record StageDigestResponse(
             String errorCode,
             String message,
             Integer retryAfterSeconds,
-            OffsetDateTime attemptedAt  // 마지막 시도 시각
-    ) {}
+            OffsetDateTime attemptedAt, // 마지막 시도 시각
+            String jobId                // 비동기 refresh일 때만 (동기 호출은 null)
+    ) {
+        public Refresh(String status, String errorCode, String message,
+                       Integer retryAfterSeconds, OffsetDateTime attemptedAt) {
+            this(status, errorCode, message, retryAfterSeconds, attemptedAt, null);
+        }
+    }
 }
 
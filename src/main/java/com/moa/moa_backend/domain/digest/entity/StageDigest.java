@@ -38,6 +38,9 @@ public class StageDigest {
     @Column(name = "source_last_captured_at")
     private OffsetDateTime sourceLastCapturedAt;    //이 요약이 만들어질 당시 기준이 된 Scrap의 최신 capturedAt
 
+    @Column(name = "incremental_count", nullable = false)
+    private int incrementalCount;                   //마지막 full rebuild 이후 증분 갱신 횟수
+
     @Column(name = "created_at", nullable = false)
     private OffsetDateTime createdAt;
 
@@ -54,9 +57,22 @@ public class StageDigest {
         return d;
     }
 
+    /**
+     * 전체 재생성(full rebuild) 결과 반영 -> 증분 횟수 리셋
+     */
     public void updateDigest(String digestText, OffsetDateTime sourceLastCapturedAt) {
         this.digestText = digestText;
         this.sourceLastCapturedAt = sourceLastCapturedAt;
+        this.incrementalCount = 0;
+    }
+
+    /**
+     * 증분(이전 요약 + 신규 스크랩) 결과 반영
+     */
+    public void applyIncrement(String digestText, OffsetDateTime sourceLastCapturedAt) {
+        this.digestText = digestText;
+        this.sourceLastCapturedAt = sourceLastCapturedAt;
+        this.incrementalCount++;
     }
 
 
@@ -4,6 +4,7 @@ import com.moa.moa_backend.domain.digest.entity.DigestKind;
 import com.moa.moa_backend.domain.scrap.repository.projection.ScrapForDigestView;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface ProjectDigestGeneratorPort {
 
@@ -13,7 +14,7 @@ public interface ProjectDigestGeneratorPort {
      * @param projectName  프로젝트 이름 (프롬프트 컨텍스트)
      * @param kind         DEFAULT | CUSTOM
      * @param customPrompt CUSTOM일 때만 사용 (null 가능)
-     * @param scraps       digest 입력용 스크랩(정규화 전/후 모두 가능하지만, Adapter에서 안전하게 정규화한다)
+     * @param scraps       digest 입력용 스크랩(service에서 ensureNormalized로 normalizedText를 채워서 넘긴다. 길이 제한은 Adapter가 토큰 예산으로 적용)
      */
     String generateMarkdown(
             String projectName,
@@ -21,4 +22,50 @@ public interface ProjectDigestGeneratorPort {
             String customPrompt,
             List<ScrapForDigestView> scraps
     );
+
+    /**
+     * 계층형 프로젝트 요약 (stage digest 기반)
+     *
+     * @param stageDigests   stage별 요약 (최신 상태로 갱신 시도 후의 값)
+     * @param fallbackScraps 요약이 없거나 요약 이후 추가된 스크랩 (normalizedText 채워진 상태, 비어 있을 수 있음)
+     */
+    String generateHierarchicalMarkdown(
+            String projectName,
+            DigestKind kind,
+            String customPrompt,
+            List<StageDigestInput> stageDigests,
+            List<ScrapForDigestView> fallbackScraps
+    );
+
+    /**
+     * 스트리밍 생성: 조각은 onChunk로, 최종(정리/검증된) 마크다운은 반환값으로
+     * - 기본 구현은 스트리밍 미지원 구현체용 (완성본을 조각 1개로 전달)
+     */
+    default String generateMarkdown(
+            String projectName,
+            DigestKind kind,
+            String customPrompt,
+            List<ScrapForDigestView> scraps,
+            Consumer<String> onChunk
+    ) {
+        String markdown = generateMarkdown(projectName, kind, customPrompt, scraps);
+        onChunk.accept(markdown);
+        return markdown;
+    }
+
+    /**
+     * 스트리밍 계층형 생성 (계약은 스트리밍 생성과 동일)
+     */
+    default String generateHierarchicalMarkdown(
+            String projectName,
+            DigestKind kind,
+            String customPrompt,
+            List<StageDigestInput> stageDigests,
+            List<ScrapForDigestView> fallbackScraps,
+            Consumer<String> onChunk
+    ) {
+        String markdown = generateHierarchicalMarkdown(projectName, kind, customPrompt, stageDigests, fallbackScraps);
+        onChunk.accept(markdown);
+        return markdown;
+    }
 }
@@ -3,6 +3,7 @@ package com.moa.moa_backend.domain.digest.llm;
 import com.moa.moa_backend.domain.scrap.repository.projection.ScrapForDigestView;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Stage Digest 생성 Port
@@ -10,4 +11,30 @@ import java.util.List;
  */
 public interface StageDigestGeneratorPort {
     String generateMarkdown(String projectName, String stage, List<ScrapForDigestView> scraps);
+
+    /**
+     * 증분 갱신
+     * - 입력(기존 요약 markdown + 그 이후 신규 스크랩들) -> 출력(갱신된 markdown text)
+     */
+    String updateMarkdown(String projectName, String stage, String previousDigest, List<ScrapForDigestView> newScraps);
+
+    /**
+     * 스트리밍 생성: 생성되는 마크다운 조각을 onChunk로 순서대로 넘기고, 최종(정리/검증된) 마크다운을 반환
+     * - 조각은 정리 전 원문이므로 화면 미리보기용, 저장은 반환값으로 한다.
+     * - 기본 구현은 스트리밍 미지원 구현체용 (완성본을 조각 1개로 전달)
+     */
+    default String generateMarkdown(String projectName, String stage, List<ScrapForDigestView> scraps, Consumer<String> onChunk) {
+        String markdown = generateMarkdown(projectName, stage, scraps);
+        onChunk.accept(markdown);
+        return markdown;
+    }
+
+    /**
+     * 스트리밍 증분 갱신 (계약은 스트리밍 생성과 동일)
+     */
+    default String updateMarkdown(String projectName, String stage, String previousDigest, List<ScrapForDigestView> newScraps, Consumer<String> onChunk) {
+        String markdown = updateMarkdown(projectName, stage, previousDigest, newScraps);
+        onChunk.accept(markdown);
+        return markdown;
+    }
 }
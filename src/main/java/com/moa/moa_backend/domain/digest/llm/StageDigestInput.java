@@ -0,0 +1,16 @@
+package com.moa.moa_backend.domain.digest.llm;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 계층형 project digest 입력: stage 1개의 요약
+ *
+ * @param stage                작업 단계
+ * @param digestText           stage digest 마크다운
+ * @param sourceLastCapturedAt 이 요약이 반영한 최신 스크랩 시각
+ */
+public record StageDigestInput(
+        String stage,
+        String digestText,
+        OffsetDateTime sourceLastCapturedAt
+) {}
@@ -0,0 +1,90 @@
+package com.moa.moa_backend.domain.digest.llm.impl;
+
+import com.moa.moa_backend.domain.digest.service.DigestTextValidator;
+import com.moa.moa_backend.global.llm.cache.LlmResultCache;
+import com.moa.moa_backend.global.llm.gemini.GeminiClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * digest 어댑터 공통 Gemini 호출 (stage/project 어댑터 공통)
+ * - (템플릿, 프롬프트) → 결과 캐시 조회 → Gemini 호출 → 마크다운 정리/검증 → 캐시 저장
+ * - 프롬프트 조립은 각 어댑터가 담당한다.
+ */
+@Component
+public class DigestLlmCaller {
+
+    @Value("${moa.llm.digest-timeout-ms:15000}")
+    private long digestTimeoutMs;
+
+    private final GeminiClient geminiClient;
+    private final DigestTextValidator validator;
+    private final LlmResultCache resultCache;
+
+    public DigestLlmCaller(
+            GeminiClient geminiClient,
+            DigestTextValidator validator,
+            LlmResultCache resultCache
+    ) {
+        this.geminiClient = geminiClient;
+        this.validator = validator;
+        this.resultCache = resultCache;
+    }
+
+    /**
+     * 같은 (모델, 템플릿, 프롬프트)로 만든 결과가 캐시에 있으면 Gemini 호출 없이 반환
+     * - 검증을 통과한 결과만 캐시에 저장한다.
+     * - CUSTOM 요구사항 등 프롬프트 본문에 들어간 입력은 key에 자연히 반영된다.
+     */
+    public String call(String template, String prompt) {
+        return call(template, prompt, null);
+    }
+
+    /**
+     * onChunk != null 이면 streamGenerateContent로 조각을 바로 넘기고, 끝나면 전체를 정리/검증
+     * - 캐시 hit이면 완성본을 조각 1개로 넘긴다.
+     * - timeout(digest-timeout-ms)은 스트리밍에서는 조각 사이 최대 대기 시간
+     */
+    public String call(String template, String prompt, Consumer<String> onChunk) {
+        String model = geminiClient.model();
+        String cacheKey = LlmResultCache.keyOf(model, template, prompt);
+
+        Optional<String> cached = resultCache.get(cacheKey);
+        if (cached.isPresent()) {
+            if (onChunk != null) onChunk.accept(cached.get());
+            return cached.get();
+        }
+
+        String raw;
+        if (onChunk == null) {
+            raw = geminiClient.generateText(
+                    prompt,
+                    Duration.ofMillis(digestTimeoutMs)
+            );
+        } else {
+            StringBuilder collected = new StringBuilder();
+            geminiClient.streamText(prompt, Duration.ofMillis(digestTimeoutMs))
+                    .doOnNext(chunk -> {
+                        collected.append(chunk);
+                        onChunk.accept(chunk);
+                    })
+                    .blockLast();
+            raw = collected.toString();
+        }
+
+        return finish(cacheKey, model, template, raw);
+    }
+
+    // 마크다운 정리/검증 후 캐시 저장 (검증 통과한 결과만)
+    private String finish(String cacheKey, String model, String template, String raw) {
+        String markdown = validator.normalize(raw);
+        validator.validate(markdown);
+
+        resultCache.put(cacheKey, model, template, markdown);
+        return markdown;
+    }
+}
@@ -0,0 +1,334 @@
+package com.moa.moa_backend.domain.digest.llm.impl;
+
+import com.moa.moa_backend.domain.digest.llm.StageDigestInput;
+import com.moa.moa_backend.domain.scrap.repository.projection.ScrapForDigestView;
+import com.moa.moa_backend.global.llm.LlmTokenEstimator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * digest 프롬프트 입력 스크랩 패킹 (stage/project 어댑터 공통)
+ * <p>
+ * 기존 방식(스크랩별 글자 clamp 후 전체 문자열을 clampTotal로 자르기)은
+ * 꼬리에 붙는 최신 스크랩부터 잘려나가는 문제가 있었다. 여기서는
+ * 1) 스크랩별 토큰 수를 추정하고
+ * 2) 헤더를 뺀 토큰 예산을 최신 스크랩에 가중치를 더 줘서 나눈 뒤 (water-filling)
+ * 3) 시간순으로 한 번에 조립한다.
+ * <p>
+ * - 텍스트/subtitle/memo가 모두 비어있는 스크랩은 건너뛴다.
+ * - 메타(capturedAt/stage/subtitle/memo)조차 예산에 안 들어가면 오래된 스크랩부터 제외한다.
+ * - 토큰 추정: ASCII 4글자당 1토큰, 그 외(한글 등) 1글자당 1토큰 (보수적 추정)
+ * <p>
+ * 계층형 project digest는 단계별 요약 블록도 같은 방식(water-filling)으로 예산 안에 넣는다.
+ */
+@Component
+public class DigestPromptPacker {
+
+    private static final ZoneOffset KST = ZoneOffset.ofHours(9);
+    private static final DateTimeFormatter TS =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm").withZone(KST);
+
+    private static final String SEPARATOR = "\n---\n";
+    private static final String ELLIPSIS = "…";
+
+    /**
+     * 스크랩 1개 블록의 고정 오버헤드(구분자/capturedAt/라벨/말줄임) 추정 토큰
+     * - 라벨을 모두 붙였을 때 ASCII 약 75자 → 넉넉히 20
+     */
+    private static final int BLOCK_OVERHEAD_TOKENS = 20;
+
+    /**
+     * 단계별 요약 블록의 말줄임/줄바꿈 추정 토큰 (라벨/기준 시각은 실제 문자열로 계산)
+     */
+    private static final int DIGEST_BLOCK_OVERHEAD_TOKENS = 2;
+
+    /**
+     * 가장 최신 스크랩의 가중치 = 1 + NEWEST_BOOST (가장 오래된 스크랩은 1)
+     */
+    private static final double NEWEST_BOOST = 1.0;
+
+    private final int maxTokensPerScrap;
+    private final int maxMemoTokens;
+
+    public DigestPromptPacker(
+            @Value("${moa.llm.digest-prompt.max-tokens-per-scrap:1200}") int maxTokensPerScrap,
+            @Value("${moa.llm.digest-prompt.max-memo-tokens:200}") int maxMemoTokens
+    ) {
+        this.maxTokensPerScrap = maxTokensPerScrap;
+        this.maxMemoTokens = maxMemoTokens;
+    }
+
+    /**
+     * header + 스크랩 블록(시간순)을 tokenBudget 안에서 조립한다.
+     *
+     * @param header       프롬프트 지시문 (항상 전부 포함)
+     * @param scraps       normalizedText가 채워진 스크랩들 (순서 무관)
+     * @param tokenBudget  header 포함 전체 입력 토큰 예산
+     * @param includeStage 블록에 [stage] 라벨 포함 여부 (프로젝트 요약용)
+     */
+    public String pack(String header, List<ScrapForDigestView> scraps, int tokenBudget, boolean includeStage) {
+        List<Block> blocks = toBlocks(scraps, includeStage);
+        if (blocks.isEmpty()) {
+            throw new IllegalArgumentException("digest input scraps are empty after normalization");
+        }
+
+        long remaining = tokenBudget - LlmTokenEstimator.estimateTokens(header);
+
+        // 1) 메타는 우선 포함, 예산이 모자라면 오래된 것부터 제외 (최신 1개는 항상 포함)
+        int first = blocks.size() - 1;
+        remaining -= blocks.get(first).metaTokens;
+        while (first > 0 && remaining - blocks.get(first - 1).metaTokens >= 0) {
+            first--;
+            remaining -= blocks.get(first).metaTokens;
+        }
+        List<Block> included = blocks.subList(first, blocks.size());
+
+        // 2) 남은 예산을 text에 최신 가중치로 분배
+        int[] demand = new int[included.size()];
+        double[] weight = new double[included.size()];
+        for (int i = 0; i < included.size(); i++) {
+            demand[i] = included.get(i).demandTokens;
+            weight[i] = included.get(i).weight;
+        }
+        int[] allocated = allocate(demand, weight, Math.max(0, remaining));
+        for (int i = 0; i < included.size(); i++) {
+            included.get(i).allocatedTokens = allocated[i];
+        }
+
+        // 3) 시간순 1-pass 조립
+        int capacity = header.length();
+        for (Block b : included) {
+            capacity += b.metaChars + Math.min(b.text.length(), b.allocatedTokens * 4) + SEPARATOR.length() + 32;
+        }
+
+        StringBuilder sb = new StringBuilder(capacity);
+        sb.append(header);
+        for (Block b : included) {
+            sb.append(SEPARATOR);
+            sb.append("capturedAt: ").append(TS.format(b.scrap.capturedAt())).append('\n');
+            if (b.stage != null) sb.append("[stage] ").append(b.stage).append('\n');
+            if (b.subtitle != null) sb.append("[subtitle] ").append(b.subtitle).append('\n');
+            if (b.memo != null) sb.append("[memo] ").append(b.memo).append('\n');
+            if (b.allocatedTokens > 0) {
+                sb.append("[text] ");
+                appendTruncated(sb, b.text, b.allocatedTokens);
+                sb.append('\n');
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 계층형 project digest 입력 조립: header + 단계별 요약 블록 + (있으면) fallbackHeader + 추가 스크랩
+     * - 단계별 요약은 stage마다 같은 몫으로 나누고, 짧은 요약이 남긴 몫은 긴 요약에 다시 나눈다 (넘치는 부분은 … 처리)
+     * - 추가 스크랩이 있으면 남은 예산의 절반은 추가 스크랩 몫으로 남겨 둔다 (요약이 덜 쓰면 추가 스크랩이 그만큼 더 받음)
+     *
+     * @param header         프롬프트 지시문 (항상 전부 포함)
+     * @param stageDigests   stage별 요약 (입력 순서 유지)
+     * @param fallbackHeader 추가 스크랩 앞에 붙일 제목 (추가 스크랩이 없으면 생략)
+     * @param fallbackScraps normalizedText가 채워진 추가 스크랩 (비어 있을 수 있음)
+     * @param tokenBudget    header 포함 전체 입력 토큰 예산
+     */
+    public String packHierarchical(
+            String header,
+            List<StageDigestInput> stageDigests,
+            String fallbackHeader,
+            List<ScrapForDigestView> fallbackScraps,
+            int tokenBudget
+    ) {
+        List<StageDigestInput> digests = (stageDigests == null) ? List.of() : stageDigests;
+        boolean hasFallback = fallbackScraps != null && !fallbackScraps.isEmpty();
+
+        long remaining = tokenBudget - LlmTokenEstimator.estimateTokens(header);
+        if (hasFallback) {
+            remaining -= LlmTokenEstimator.estimateTokens(fallbackHeader);
+            remaining /= 2;
+        }
+
+        // 1) 라벨/기준 시각은 항상 포함 (stage 수만큼이라 작다)
+        int n = digests.size();
+        String[] metas = new String[n];
+        String[] texts = new String[n];
+        int[] demand = new int[n];
+        double[] weight = new double[n];
+        for (int i = 0; i < n; i++) {
+            StageDigestInput d = digests.get(i);
+            StringBuilder meta = new StringBuilder(SEPARATOR);
+            meta.append("[stage] ").append(trimToEmpty(d.stage())).append('\n');
+            if (d.sourceLastCapturedAt() != null) {
+                meta.append("기준 시각: ").append(TS.format(d.sourceLastCapturedAt())).append('\n');
+            }
+            metas[i] = meta.toString();
+            texts[i] = trimToEmpty(d.digestText());
+            demand[i] = LlmTokenEstimator.estimateTokens(texts[i]);
+            weight[i] = 1.0;
+            remaining -= LlmTokenEstimator.estimateTokens(metas[i]) + DIGEST_BLOCK_OVERHEAD_TOKENS;
+        }
+
+        // 2) 남은 예산을 요약 본문에 균등 분배
+        int[] allocated = allocate(demand, weight, Math.max(0, remaining));
+
+        StringBuilder sb = new StringBuilder(header);
+        for (int i = 0; i < n; i++) {
+            sb.append(metas[i]);
+            if (allocated[i] > 0) {
+                appendTruncated(sb, texts[i], allocated[i]);
+                sb.append('\n');
+            }
+        }
+        if (!hasFallback) return sb.toString();
+
+        // 3) 추가 스크랩은 단계별 요약까지를 헤더로 보고 나머지 예산으로 패킹
+        sb.append(fallbackHeader);
+        return pack(sb.toString(), fallbackScraps, tokenBudget, true);
+    }
+
+    // =========================
+    // 내부 구현
+    // =========================
+
+    private List<Block> toBlocks(List<ScrapForDigestView> scraps, boolean includeStage) {
+        if (scraps == null || scraps.isEmpty()) return List.of();
+
+        List<ScrapForDigestView> ordered = scraps.stream()
+                .sorted(Comparator.comparing(ScrapForDigestView::capturedAt)
+                        .thenComparing(ScrapForDigestView::scrapId))
+                .toList();
+
+        List<Block> blocks = new ArrayList<>(ordered.size());
+        for (ScrapForDigestView s : ordered) {
+            String text = trimToEmpty(s.normalizedText());
+            String subtitle = trimToNull(s.subtitle());
+            String memo = trimToNull(s.memo());
+
+            // 거의 빈 스크랩은 제외
+            if (text.isEmpty() && subtitle == null && memo == null) continue;
+
+            String stage = includeStage ? trimToNull(s.stage()) : null;
+            if (memo != null) memo = truncate(memo, maxMemoTokens);
+
+            blocks.add(new Block(s, stage, subtitle, memo, text));
+        }
+
+        // 최신일수록 가중치 높게 (가장 오래된 1.0 ~ 가장 최신 1.0 + NEWEST_BOOST)
+        int n = blocks.size();
+        for (int i = 0; i < n; i++) {
+            blocks.get(i).weight = 1.0 + (n == 1 ? NEWEST_BOOST : NEWEST_BOOST * i / (n - 1));
+        }
+        return blocks;
+    }
+
+    /**
+     * water-filling: 가중치 비율로 나누되, 요구량보다 많이 받는 항목은 요구량만 주고
+     * 남는 예산을 나머지 항목에 다시 나눈다.
+     *
+     * @return 항목별 배정 토큰 (demand와 같은 순서)
+     */
+    private static int[] allocate(int[] demand, double[] weight, long budget) {
+        int[] allocated = new int[demand.length];
+
+        List<Integer> active = new ArrayList<>();
+        for (int i = 0; i < demand.length; i++) {
+            if (demand[i] > 0) active.add(i);
+        }
+
+        long remaining = budget;
+        while (remaining > 0 && !active.isEmpty()) {
+            double totalWeight = 0;
+            for (int i : active) totalWeight += weight[i];
+
+            List<Integer> satisfied = new ArrayList<>();
+            for (int i : active) {
+                double share = remaining * weight[i] / totalWeight;
+                if (demand[i] <= share) satisfied.add(i);
+            }
+
+            if (satisfied.isEmpty()) {
+                for (int i : active) {
+                    allocated[i] = (int) Math.floor(remaining * weight[i] / totalWeight);
+                }
+                break;
+            }
+
+            for (int i : satisfied) {
+                allocated[i] = demand[i];
+                remaining -= demand[i];
+            }
+            active.removeAll(satisfied);
+        }
+        return allocated;
+    }
+
+    private static String truncate(String s, int maxTokens) {
+        StringBuilder sb = new StringBuilder(Math.min(s.length(), maxTokens * 4) + 1);
+        appendTruncated(sb, s, maxTokens);
+        return sb.toString();
+    }
+
+    /**
+     * 추정 토큰 maxTokens 이내로 잘라서 append (잘렸으면 … 표시)
+     */
+    private static void appendTruncated(StringBuilder sb, String s, int maxTokens) {
+        if (LlmTokenEstimator.estimateTokens(s) <= maxTokens) {
+            sb.append(s);
+            return;
+        }
+        double budget = maxTokens;
+        int end = 0;
+        while (end < s.length()) {
+            double cost = (s.charAt(end) < 0x80) ? 0.25 : 1.0;
+            if (budget < cost) break;
+            budget -= cost;
+            end++;
+        }
+        sb.append(s, 0, end).append(ELLIPSIS);
+    }
+
+    private static String trimToEmpty(String s) {
+        return s == null ? "" : s.trim();
+    }
+
+    private static String trimToNull(String s) {
+        if (s == null) return null;
+        String t = s.trim();
+        return t.isEmpty() ? null : t;
+    }
+
+    private final class Block {
+        final ScrapForDigestView scrap;
+        final String stage;
+        final String subtitle;
+        final String memo;
+        final String text;
+
+        final int metaTokens;
+        final int metaChars;
+        final int demandTokens;
+
+        double weight;
+        int allocatedTokens;
+
+        Block(ScrapForDigestView scrap, String stage, String subtitle, String memo, String text) {
+            this.scrap = scrap;
+            this.stage = stage;
+            this.subtitle = subtitle;
+            this.memo = memo;
+            this.text = text;
+
+            int chars = 0;
+            int tokens = BLOCK_OVERHEAD_TOKENS;
+            if (stage != null) { chars += stage.length(); tokens += LlmTokenEstimator.estimateTokens(stage); }
+            if (subtitle != null) { chars += subtitle.length(); tokens += LlmTokenEstimator.estimateTokens(subtitle); }
+            if (memo != null) { chars += memo.length(); tokens += LlmTokenEstimator.estimateTokens(memo); }
+            this.metaChars = chars;
+            this.metaTokens = tokens;
+            this.demandTokens = Math.min(LlmTokenEstimator.estimateTokens(text), maxTokensPerScrap);
+        }
+    }
+}
@@ -2,19 +2,14 @@ package com.moa.moa_backend.domain.digest.llm.impl;
 
 import com.moa.moa_backend.domain.digest.entity.DigestKind;
 import com.moa.moa_backend.domain.digest.llm.ProjectDigestGeneratorPort;
-import com.moa.moa_backend.domain.digest.service.DigestInputNormalizer;
-import com.moa.moa_backend.domain.digest.service.DigestTextValidator;
+import com.moa.moa_backend.domain.digest.llm.StageDigestInput;
 import com.moa.moa_backend.domain.scrap.repository.projection.ScrapForDigestView;
-import com.moa.moa_backend.global.llm.gemini.GeminiClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
 
-import java.time.Duration;
-import java.time.ZoneOffset;
-import java.time.format.DateTimeFormatter;
-import java.util.Comparator;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * project digest 도메인 전용 Gemini 어댑터
@@ -26,19 +21,22 @@ import java.util.List;
 @Component
 public class GeminiProjectDigestAdapter implements ProjectDigestGeneratorPort {
 
-    @Value("${moa.llm.digest-timeout-ms:15000}")
-    private long digestTimeoutMs;
+    // 프롬프트 문구를 바꾸면 버전을 올린다 (LLM 결과 캐시 key에 포함)
+    private static final String DEFAULT_TEMPLATE = "project-digest-default:v1";
+    private static final String CUSTOM_TEMPLATE = "project-digest-custom:v1";
+    private static final String DEFAULT_HIERARCHICAL_TEMPLATE = "project-digest-default-hierarchical:v1";
+    private static final String CUSTOM_HIERARCHICAL_TEMPLATE = "project-digest-custom-hierarchical:v1";
 
-    private static final ZoneOffset KST = ZoneOffset.ofHours(9);
-    private static final DateTimeFormatter TS =
-            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm").withZone(KST);
+    // 헤더(지시문 + 사용자 요구사항) 포함 입력 토큰 예산
+    @Value("${moa.llm.digest-prompt.project-token-budget:16000}")
+    private int tokenBudget;
 
-    private final GeminiClient geminiClient;
-    private final DigestTextValidator validator;
+    private final DigestLlmCaller caller;
+    private final DigestPromptPacker packer;
 
-    public GeminiProjectDigestAdapter(GeminiClient geminiClient, DigestTextValidator validator) {
-        this.geminiClient = geminiClient;
-        this.validator = validator;
+    public GeminiProjectDigestAdapter(DigestLlmCaller caller, DigestPromptPacker packer) {
+        this.caller = caller;
+        this.packer = packer;
     }
 
     @Override
@@ -48,31 +46,98 @@ public class GeminiProjectDigestAdapter implements ProjectDigestGeneratorPort {
             String customPrompt,
             List<ScrapForDigestView> scraps
     ) {
-        String prompt = buildPrompt(projectName, kind, customPrompt, scraps);
+        return caller.call(flatTemplate(kind), buildFlatPrompt(projectName, kind, customPrompt, scraps));
+    }
+
+    @Override
+    public String generateMarkdown(
+            String projectName,
+            DigestKind kind,
+            String customPrompt,
+            List<ScrapForDigestView> scraps,
+            Consumer<String> onChunk
+    ) {
+        return caller.call(flatTemplate(kind), buildFlatPrompt(projectName, kind, customPrompt, scraps), onChunk);
+    }
+
+    @Override
+    public String generateHierarchicalMarkdown(
+            String projectName,
+            DigestKind kind,
+            String customPrompt,
+            List<StageDigestInput> stageDigests,
+            List<ScrapForDigestView> fallbackScraps
+    ) {
+        return caller.call(hierarchicalTemplate(kind),
+                buildHierarchicalPrompt(projectName, kind, customPrompt, stageDigests, fallbackScraps));
+    }
 
-        String raw = geminiClient.generateText(
-                prompt,
-                Duration.ofMillis(digestTimeoutMs)
-        );
+    @Override
+    public String generateHierarchicalMarkdown(
+            String projectName,
+            DigestKind kind,
+            String customPrompt,
+            List<StageDigestInput> stageDigests,
+            List<ScrapForDigestView> fallbackScraps,
+            Consumer<String> onChunk
+    ) {
+        return caller.call(hierarchicalTemplate(kind),
+                buildHierarchicalPrompt(projectName, kind, customPrompt, stageDigests, fallbackScraps), onChunk);
+    }
+
+    private String flatTemplate(DigestKind kind) {
+        return (kind == DigestKind.CUSTOM) ? CUSTOM_TEMPLATE : DEFAULT_TEMPLATE;
+    }
 
-        String markdown = validator.normalize(raw);
-        validator.validate(markdown);
-        return markdown;
+    private String hierarchicalTemplate(DigestKind kind) {
+        return (kind == DigestKind.CUSTOM) ? CUSTOM_HIERARCHICAL_TEMPLATE : DEFAULT_HIERARCHICAL_TEMPLATE;
     }
 
-    private String buildPrompt(
+    private String buildFlatPrompt(
             String projectName,
             DigestKind kind,
             String customPrompt,
             List<ScrapForDigestView> scraps
     ) {
-        String pn = safe(projectName);
+        StringBuilder sb = header(projectName, kind, customPrompt);
+        sb.append("입력 스크랩(시간순):\n");
+
+        // 프로젝트 요약은 stage가 컨텍스트에 도움이 되므로 [stage] 라벨 포함
+        // 정렬/빈 스크랩 제외/토큰 예산 분배는 packer가 담당
+        return packer.pack(sb.toString(), scraps, tokenBudget, true);
+    }
 
-        List<ScrapForDigestView> ordered = (scraps == null) ? List.of()
-                : scraps.stream()
-                .sorted(Comparator.comparing(ScrapForDigestView::capturedAt)
-                        .thenComparing(ScrapForDigestView::scrapId))
-                .toList();
+    private String buildHierarchicalPrompt(
+            String projectName,
+            DigestKind kind,
+            String customPrompt,
+            List<StageDigestInput> stageDigests,
+            List<ScrapForDigestView> fallbackScraps
+    ) {
+        StringBuilder sb = header(projectName, kind, customPrompt);
+        sb.append("""
+        ### 입력 구성
+        - [단계별 요약]: 각 stage의 스크랩을 이미 요약한 문서다. 스크랩과 같은 근거로 취급하라.
+        - [추가 스크랩]: 요약이 없는 stage이거나, 요약 이후에 추가된 스크랩이다. 단계별 요약보다 최신 정보다.
+
+        [단계별 요약]
+        """);
+
+        boolean hasDigests = stageDigests != null && !stageDigests.isEmpty();
+        boolean hasFallback = fallbackScraps != null && !fallbackScraps.isEmpty();
+        if (!hasDigests && !hasFallback) {
+            throw new IllegalArgumentException("project digest input is empty");
+        }
+
+        // 단계별 요약/추가 스크랩 모두 토큰 예산 안에서 조립 (요약을 stage별 몫으로 자르는 것도 packer가 담당)
+        return packer.packHierarchical(sb.toString(), stageDigests, "\n[추가 스크랩](시간순):\n", fallbackScraps, tokenBudget);
+    }
+
+    /**
+     * 요약 지시문 (flat/계층형 공통, 입력 블록은 호출부에서 붙인다)
+     */
+    private StringBuilder header(String projectName, DigestKind kind, String customPrompt) {
+        String pn = safe(projectName);
 
         StringBuilder sb = new StringBuilder();
 
@@ -135,7 +200,6 @@ public class GeminiProjectDigestAdapter implements ProjectDigestGeneratorPort {
             ### 금지
             - 코드블록(```), JSON, "아래는" 같은 설명 문구
 
-            입력 스크랩(시간순):
             """.formatted(pn, safe(customPrompt)));
         } else {
             sb.append("""
@@ -200,59 +264,10 @@ public class GeminiProjectDigestAdapter implements ProjectDigestGeneratorPort {
             ### 금지
             - 코드블록(```), JSON, "아래는" 같은 설명 문구
 
-            입력 스크랩(시간순):
             """.formatted(pn));
         }
 
-        int included = 0;
-
-        for (ScrapForDigestView s : ordered) {
-            String stage = safe(extractStage(s));
-            String subtitle = safe(s.subtitle());
-            String memo = safe(s.memo());
-
-            // rawHtml -> text 정규화 (투입 안전성 확보)
-            String baseText = DigestInputNormalizer.normalizeRawHtml(s.rawHtml());
-
-            // 완전 빈 입력 제거
-            if (baseText.isBlank() && subtitle.isBlank() && memo.isBlank() && stage.isBlank()) {
-                continue;
-            }
-
-            StringBuilder merged = new StringBuilder();
-
-            // 프로젝트 요약은 stage가 있으면 컨텍스트에 도움이 되므로 포함(없으면 자동 생략)
-            if (!stage.isBlank()) merged.append("[stage] ").append(stage).append("\n");
-            if (!subtitle.isBlank()) merged.append("[subtitle] ").append(subtitle).append("\n");
-            if (!memo.isBlank()) merged.append("[memo] ").append(memo).append("\n");
-
-            if (!baseText.isBlank()) {
-                // text-only clamp(800)
-                String textOnly = DigestInputNormalizer.clampTextOnly(baseText);
-                merged.append("[text] ").append(textOnly);
-            }
-
-            // merged clamp(1000)
-            String finalText = DigestInputNormalizer.clampMergedPerScrap(merged.toString());
-
-            sb.append("\n---\n");
-            sb.append("capturedAt: ").append(TS.format(s.capturedAt())).append("\n");
-            sb.append(finalText).append("\n");
-
-            included++;
-        }
-
-        if (included == 0) {
-            throw new IllegalArgumentException("project digest input scraps are empty after normalization");
-        }
-
-        // 전체 프롬프트 총량 제한
-        return DigestInputNormalizer.clampTotal(sb.toString());
-    }
-
-
-    private String extractStage(ScrapForDigestView s) {
-        return s.stage();
+        return sb;
     }
 
     private String safe(String s) {
@@ -1,19 +1,13 @@
 package com.moa.moa_backend.domain.digest.llm.impl;
 
 import com.moa.moa_backend.domain.digest.llm.StageDigestGeneratorPort;
-import com.moa.moa_backend.domain.digest.service.DigestInputNormalizer;
-import com.moa.moa_backend.domain.digest.service.DigestTextValidator;
 import com.moa.moa_backend.domain.scrap.repository.projection.ScrapForDigestView;
-import com.moa.moa_backend.global.llm.gemini.GeminiClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
 
-import java.time.Duration;
-import java.time.ZoneOffset;
-import java.time.format.DateTimeFormatter;
-import java.util.Comparator;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * digest 도메인 전용 Gemini 어댑터
@@ -24,41 +18,44 @@ import java.util.List;
 @Component
 public class GeminiStageDigestAdapter implements StageDigestGeneratorPort {
 
-    @Value("${moa.llm.digest-timeout-ms:15000}")
-    private long digestTimeoutMs;
+    // 프롬프트 문구를 바꾸면 버전을 올린다 (LLM 결과 캐시 key에 포함)
+    private static final String FULL_TEMPLATE = "stage-digest:v1";
+    private static final String UPDATE_TEMPLATE = "stage-digest-update:v1";
 
-    private static final ZoneOffset KST = ZoneOffset.ofHours(9);
-    private static final DateTimeFormatter TS =
-            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm").withZone(KST);
+    // 헤더(지시문 + 기존 요약) 포함 입력 토큰 예산
+    @Value("${moa.llm.digest-prompt.stage-token-budget:12000}")
+    private int tokenBudget;
 
-    private final GeminiClient geminiClient;
-    private final DigestTextValidator validator;
+    private final DigestLlmCaller caller;
+    private final DigestPromptPacker packer;
 
-    public GeminiStageDigestAdapter(GeminiClient geminiClient, DigestTextValidator validator) {
-        this.geminiClient = geminiClient;
-        this.validator = validator;
+    public GeminiStageDigestAdapter(DigestLlmCaller caller, DigestPromptPacker packer) {
+        this.caller = caller;
+        this.packer = packer;
     }
 
     @Override
     public String generateMarkdown(String projectName, String stage, List<ScrapForDigestView> scraps) {
-        String prompt = buildPrompt(projectName, stage, scraps);
+        return caller.call(FULL_TEMPLATE, buildPrompt(projectName, stage, scraps));
+    }
 
-        String raw = geminiClient.generateText(
-                prompt,
-                Duration.ofMillis(digestTimeoutMs)
-        );
+    @Override
+    public String updateMarkdown(String projectName, String stage, String previousDigest, List<ScrapForDigestView> newScraps) {
+        return caller.call(UPDATE_TEMPLATE, buildUpdatePrompt(projectName, stage, previousDigest, newScraps));
+    }
 
-        String markdown = validator.normalize(raw);
-        validator.validate(markdown);
-        return markdown;
+    @Override
+    public String generateMarkdown(String projectName, String stage, List<ScrapForDigestView> scraps, Consumer<String> onChunk) {
+        return caller.call(FULL_TEMPLATE, buildPrompt(projectName, stage, scraps), onChunk);
     }
 
+    @Override
+    public String updateMarkdown(String projectName, String stage, String previousDigest, List<ScrapForDigestView> newScraps, Consumer<String> onChunk) {
+        return caller.call(UPDATE_TEMPLATE, buildUpdatePrompt(projectName, stage, previousDigest, newScraps), onChunk);
+    }
 
-    private String buildPrompt(String projectName, String stage, List<ScrapForDigestView> scraps) {
-        List<ScrapForDigestView> ordered = scraps == null ? List.of() :
-                //스크랩 시간순으로 정렬
-                scraps.stream().sorted(Comparator.comparing(ScrapForDigestView::capturedAt)).toList();
 
+    private String buildPrompt(String projectName, String stage, List<ScrapForDigestView> scraps) {
         StringBuilder sb = new StringBuilder();
         sb.append("""
         너는 사용자의 작업 스크랩을 바탕으로 "%s" 프로젝트의 "%s" 단계에서 발생한
@@ -123,50 +120,50 @@ public class GeminiStageDigestAdapter implements StageDigestGeneratorPort {
         입력 스크랩(시간순):
         """.formatted(projectName, stage));
 
-        int included = 0;
-
-        for (ScrapForDigestView s : ordered) {
-            // service에서 이미 정규화된 텍스트를 rawHtml 필드에 넣어서 넘긴다는 전제
-            String baseText = (s.rawHtml() == null) ? "" : s.rawHtml();
-            if (baseText.isBlank()
-                    && (s.subtitle() == null || s.subtitle().isBlank())
-                    && (s.memo() == null || s.memo().isBlank())) {
-                continue;
-            }
-
-            StringBuilder merged = new StringBuilder();
-
-            if (s.subtitle() != null && !s.subtitle().isBlank()) {
-                merged.append("[subtitle] ").append(s.subtitle()).append(" ");
-            }
-            if (s.memo() != null && !s.memo().isBlank()) {
-                merged.append("[memo] ").append(s.memo()).append(" ");
-            }
-            // text는 "text-only clamp(800)"를 한 번 더 적용해서 비중/길이 제어
-            // - 서비스에서 이미 normalizeRawHtml로 1차 정규화/클램프 되었더라도,
-            //   merged 정책에 맞춰 여기서 최종적으로 다시 제한해도 안전함.
-            if (!baseText.isBlank()) {
-                String textOnly = DigestInputNormalizer.clampTextOnly(baseText);
-                merged.append("[text] ").append(textOnly);
-            }
-
-            // merged(subtitle+memo+text)는 "merged clamp(1000)" 기준으로 제한
-            // - 기존 clampPerScrap(=800)는 text 기준이라 merged에 쓰면 너무 잘림
-            String finalText = DigestInputNormalizer.clampMergedPerScrap(merged.toString());
-
-            sb.append("\n---\n");
-            sb.append("capturedAt: ").append(TS.format(s.capturedAt())).append("\n");
-            sb.append(finalText).append("\n");
-
-            included++;
-        }
-
-        if (included == 0) {
-            throw new IllegalArgumentException("digest input scraps are empty after normalization");
-        }
-
-
-        return DigestInputNormalizer.clampTotal(sb.toString());
+        return packer.pack(sb.toString(), scraps, tokenBudget, false);
     }
 
+    /**
+     * 증분 갱신 프롬프트
+     * - 기존 요약을 "기준 문서"로 주고, 그 이후 신규 스크랩만 반영하도록 지시
+     * - 출력 형식은 전체 생성과 동일 (섹션 제목/순서 고정)
+     */
+    private String buildUpdatePrompt(String projectName, String stage, String previousDigest, List<ScrapForDigestView> newScraps) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("""
+        너는 "%s" 프로젝트의 "%s" 단계 요약 문서를 최신 상태로 유지하는 기록 편집자다.
+        아래 [기존 요약]은 이전 스크랩들로 이미 만들어진 문서이고,
+        [신규 스크랩]은 그 이후에 추가된 스크랩이다.
+
+        반드시 "갱신된 마크다운 본문 전체만" 출력하라.
+        (JSON/설명/코드블록/추가 텍스트/머리말 금지)
+
+        ### 갱신 규칙(중요)
+        - 기존 요약의 내용은 신규 스크랩과 충돌하지 않는 한 그대로 유지하라. (임의 삭제/축약 금지)
+        - 신규 스크랩의 작업/결정/변경을 기존 섹션의 알맞은 위치에 시간순으로 추가하라.
+        - 신규 스크랩이 기존 결정을 뒤집으면 "결정 사항"을 최신 결정으로 고치고,
+          "변경/되돌림"에 "A → B" 항목을 추가하라. (이전 결정을 조용히 지우지 마라)
+        - "한줄 요약"은 기존+신규 전체 기준으로 다시 써라.
+        - 같은 내용이 반복되면 하나로 합치되, 결론/정책/설계가 바뀌는 '변경'은 절대 합치지 마라.
+        - 애매한 내용은 단정하지 말고 "추정"으로 표시하라.
+
+        ### 출력 형식(섹션 제목/순서 고정)
+        ## 한줄 요약
+        ## 작업 흐름 타임라인
+        ## 결정 사항
+        ## 변경/되돌림 (바뀐 케이스가 없으면 생략)
+
+        ### 금지
+        - 코드블록(```), JSON, "아래는" 같은 설명 문구
+        - 다음 액션/할 일 제안
+
+        [기존 요약]
+        """.formatted(projectName, stage));
+
+        sb.append(previousDigest == null ? "" : previousDigest.trim()).append("\n\n");
+        sb.append("[신규 스크랩](시간순):\n");
+
+        // 기존 요약도 헤더로 취급해 예산에서 먼저 차감된다
+        return packer.pack(sb.toString(), newScraps, tokenBudget, false);
+    }
 }
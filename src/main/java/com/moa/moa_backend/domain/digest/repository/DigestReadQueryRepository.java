@@ -0,0 +1,66 @@
+package com.moa.moa_backend.domain.digest.repository;
+
+import com.moa.moa_backend.domain.digest.repository.projection.ProjectDigestReadView;
+import com.moa.moa_backend.domain.digest.repository.projection.StageDigestReadView;
+import com.moa.moa_backend.domain.project.entity.Project;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+/**
+ * GET digest 전용 조회 레포지토리
+ * - 프로젝트(소유권 포함) / 요약 row / 최신 스크랩 시각(scrap_activity)을 쿼리 1번으로 가져온다.
+ * - 프로젝트가 없거나 다른 사용자 소유면 empty
+ */
+public interface DigestReadQueryRepository extends Repository<Project, Long> {
+
+    @Query("""
+        select p.name as projectName,
+               d.id as digestId,
+               d.digestText as digestText,
+               d.sourceLastCapturedAt as sourceLastCapturedAt,
+               d.updatedAt as updatedAt,
+               (select a.lastCapturedAt
+                  from ScrapActivity a
+                 where a.userId = p.userId
+                   and a.projectId = p.id
+                   and a.stage = :stage) as latestCapturedAt
+        from Project p
+        left join StageDigest d
+          on d.userId = p.userId
+         and d.projectId = p.id
+         and d.stage = :stage
+        where p.id = :projectId
+          and p.userId = :userId
+    """)
+    Optional<StageDigestReadView> findStageDigestRead(
+            @Param("userId") Long userId,
+            @Param("projectId") Long projectId,
+            @Param("stage") String stage
+    );
+
+    @Query("""
+        select p.name as projectName,
+               d.id as digestId,
+               d.digestKind as digestKind,
+               d.digestText as digestText,
+               d.sourceLastUpdatedAt as sourceLastUpdatedAt,
+               d.updatedAt as updatedAt,
+               (select max(a.lastCapturedAt)
+                  from ScrapActivity a
+                 where a.userId = p.userId
+                   and a.projectId = p.id) as latestCapturedAt
+        from Project p
+        left join ProjectDigest d
+          on d.userId = p.userId
+         and d.projectId = p.id
+        where p.id = :projectId
+          and p.userId = :userId
+    """)
+    Optional<ProjectDigestReadView> findProjectDigestRead(
+            @Param("userId") Long userId,
+            @Param("projectId") Long projectId
+    );
+}
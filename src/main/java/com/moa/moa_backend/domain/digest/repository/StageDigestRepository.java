@@ -3,6 +3,7 @@ package com.moa.moa_backend.domain.digest.repository;
 import com.moa.moa_backend.domain.digest.entity.StageDigest;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -15,5 +16,9 @@ public interface StageDigestRepository extends JpaRepository<StageDigest, Long>
      * 특정 사용자/프로젝트/작업단계의 요약 1건 조회
      */
     Optional<StageDigest> findByUserIdAndProjectIdAndStage(Long userId, Long projectId, String stage);
-}
 
+    /**
+     * 특정 사용자/프로젝트의 stage 요약 전체 (계층형 project digest 입력용)
+     */
+    List<StageDigest> findByUserIdAndProjectId(Long userId, Long projectId);
+}
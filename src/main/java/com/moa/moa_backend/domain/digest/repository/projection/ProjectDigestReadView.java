@@ -0,0 +1,26 @@
+package com.moa.moa_backend.domain.digest.repository.projection;
+
+import com.moa.moa_backend.domain.digest.entity.DigestKind;
+
+import java.time.Instant;
+
+/**
+ * GET project digest 1회 조회 결과 (projects + project_digests + max(scraps.captured_at))
+ * - digest 관련 값은 요약 row가 없으면 모두 null
+ */
+public interface ProjectDigestReadView {
+
+    String getProjectName();
+
+    Long getDigestId();
+
+    DigestKind getDigestKind();
+
+    String getDigestText();
+
+    Instant getSourceLastUpdatedAt();
+
+    Instant getUpdatedAt();
+
+    Instant getLatestCapturedAt();
+}
@@ -0,0 +1,23 @@
+package com.moa.moa_backend.domain.digest.repository.projection;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+
+/**
+ * GET stage digest 1회 조회 결과 (projects + stage_digests + max(scraps.captured_at))
+ * - digest 관련 값은 요약 row가 없으면 모두 null
+ */
+public interface StageDigestReadView {
+
+    String getProjectName();
+
+    Long getDigestId();
+
+    String getDigestText();
+
+    OffsetDateTime getSourceLastCapturedAt();
+
+    OffsetDateTime getUpdatedAt();
+
+    Instant getLatestCapturedAt();
+}
@@ -4,6 +4,11 @@ import com.moa.moa_backend.domain.digest.dto.StageDigestResponse;
 import com.moa.moa_backend.domain.digest.service.StageDigestService;
 import com.moa.moa_backend.domain.scrap.repository.ScrapDigestQueryRepository;
 import com.moa.moa_backend.domain.scrap.repository.projection.DigestRefreshTarget;
+import com.moa.moa_backend.global.llm.dispatch.LlmPriority;
+import com.moa.moa_backend.global.llm.dispatch.LlmPriorityContext;
+import com.moa.moa_backend.global.llm.gemini.GeminiCircuitBreaker;
+import com.moa.moa_backend.global.llm.ratelimit.LlmRateLimiter;
+import com.moa.moa_backend.global.lock.RefreshLockProvider;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -12,7 +17,11 @@ import org.springframework.stereotype.Component;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
 @Component
@@ -21,10 +30,25 @@ public class StageDigestAutoRefreshScheduler {
     private final ScrapDigestQueryRepository scrapDigestQueryRepository;
     private final StageDigestService stageDigestService;
 
+    private static final String LOCK_KEY = "digest-auto-refresh-scheduler";
+
     /**
-     * 스케줄러 중복 실행 방지 (단일 인스턴스 한정)
+     * 스케줄러 중복 실행 방지
+     * - moa.lock.provider=postgres 이면 여러 노드 중 하나만 실행
      */
-    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final RefreshLockProvider refreshLockProvider;
+
+    /**
+     * Gemini RPM/TPM 공용 limiter
+     * - target 사이 고정 sleep 대신 쿼터만큼만 호출
+     * - 429 backoff는 GeminiClient -> limiter 피드백으로 전역 적용
+     */
+    private final LlmRateLimiter rateLimiter;
+
+    /**
+     * provider 장애(circuit open) 중이면 남은 target은 호출 없이 다음 회차로
+     */
+    private final GeminiCircuitBreaker circuitBreaker;
 
     /**
      * 하루에 최대 몇 개의 (userId, projectId, stage)를 처리할지
@@ -39,37 +63,36 @@ public class StageDigestAutoRefreshScheduler {
     private int lookbackDays;
 
     /**
-     * 기본 요청 페이싱(ms)
-     * - 모든 target 사이에 고정으로 쉬는 시간
+     * 동시에 진행할 refresh 최대 개수 (virtual thread 위에서 실행)
      */
-    @Value("${moa.digest.auto-refresh.delay-ms:200}")
-    private long baseDelayMs;
+    @Value("${moa.digest.auto-refresh.concurrency:4}")
+    private int concurrency;
 
     /**
-     * RATE_LIMITED(429) 발생 시 backoff 시작값(ms)
+     * refresh 1건당 예상 토큰 수 (LlmRateLimiter TPM 차감용)
      */
-    @Value("${moa.digest.auto-refresh.backoff.initial-ms:1000}")
-    private long backoffInitialMs;
+    @Value("${moa.digest.auto-refresh.estimated-tokens-per-call:8000}")
+    private long estimatedTokensPerCall;
 
     /**
-     * RATE_LIMITED(429) backoff 최대값(ms)
+     * rate limiter 대기 최대 시간(ms)
+     * - 이 시간 안에 쿼터가 나지 않으면 남은 target은 이번 회차에서 포기
      */
-    @Value("${moa.digest.auto-refresh.backoff.max-ms:15000}")
-    private long backoffMaxMs;
-
-    /**
-     * RATE_LIMITED 연속 발생 시 backoff 배수
-     * - 예: 1.8 → 1000, 1800, 3240, 5832...
-     */
-    @Value("${moa.digest.auto-refresh.backoff.multiplier:1.8}")
-    private double backoffMultiplier;
+    @Value("${moa.digest.auto-refresh.max-wait-ms:300000}")
+    private long maxWaitMs;
 
     public StageDigestAutoRefreshScheduler(
             ScrapDigestQueryRepository scrapDigestQueryRepository,
-            StageDigestService stageDigestService
+            StageDigestService stageDigestService,
+            RefreshLockProvider refreshLockProvider,
+            LlmRateLimiter rateLimiter,
+            GeminiCircuitBreaker circuitBreaker
     ) {
         this.scrapDigestQueryRepository = scrapDigestQueryRepository;
         this.stageDigestService = stageDigestService;
+        this.refreshLockProvider = refreshLockProvider;
+        this.rateLimiter = rateLimiter;
+        this.circuitBreaker = circuitBreaker;
     }
 
     /**
@@ -80,121 +103,127 @@ public class StageDigestAutoRefreshScheduler {
     public void runDailyRefresh() {
 
         // 중복 실행 방지
-        if (!running.compareAndSet(false, true)) {
+        Optional<RefreshLockProvider.RefreshLock> lockOpt = refreshLockProvider.tryAcquire(LOCK_KEY);
+        if (lockOpt.isEmpty()) {
             log.info("[DIGEST][SCHED] already running. skip.");
             return;
         }
+        RefreshLockProvider.RefreshLock lock = lockOpt.get();
 
         Instant start = Instant.now();
 
-        int success = 0;
-        int fail = 0;
-        int skipped = 0;
-        int unknown = 0;
-
-        //rate limit 완화용 동적 backoff
-        long currentBackoffMs = 0;
-        int consecutiveRateLimited = 0;
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger fail = new AtomicInteger();
+        AtomicInteger skipped = new AtomicInteger();
+        AtomicInteger unknown = new AtomicInteger();
+        int dropped = 0;
 
         try {
             Instant since = Instant.now().minus(Duration.ofDays(lookbackDays));
 
+            // 이미 최신인 stage는 쿼리에서 제외됨 -> targets는 전부 실제 갱신 대상
             List<DigestRefreshTarget> targets =
-                    scrapDigestQueryRepository.findRecentTargetsForAutoRefresh(since, dailyLimit);
-
-            log.info("[DIGEST][SCHED] start. targets={}, limit={}, lookbackDays={}, baseDelayMs={}",
-                    targets.size(), dailyLimit, lookbackDays, baseDelayMs);
-
-            for (DigestRefreshTarget t : targets) {
-                try {
-                    StageDigestResponse res = stageDigestService.refresh(t.userId(), t.projectId(), t.stage());
-
-                    StageDigestResponse.Refresh refresh = res.meta().refresh();
-
-                    if (refresh == null) {
-                        unknown++;
-                        log.warn("[DIGEST][SCHED] refresh meta missing. userId={}, projectId={}, stage={}",
-                                t.userId(), t.projectId(), t.stage());
-                    } else {
-                        String status = refresh.status();
-
-                        if ("SUCCESS".equals(status)) {
-                            success++;
-                            consecutiveRateLimited = 0;
-                            currentBackoffMs = 0;
-
-                        } else if ("SKIPPED".equals(status)) {
-                            skipped++;
-                            consecutiveRateLimited = 0;
-                            currentBackoffMs = 0;
-
-                        } else if ("FAILED".equals(status)) {
-                            fail++;
-
-                            String errorCode = refresh.errorCode();
-                            String message = refresh.message();
-
-                            log.warn("[DIGEST][SCHED] refresh FAILED. userId={}, projectId={}, stage={}, errorCode={}, msg={}",
-                                    t.userId(), t.projectId(), t.stage(), errorCode, message);
-
-                            if ("RATE_LIMITED".equals(errorCode)) {
-                                consecutiveRateLimited++;
-
-                                Integer retryAfterSeconds = refresh.retryAfterSeconds();
-                                if (retryAfterSeconds != null && retryAfterSeconds > 0) {
-                                    currentBackoffMs = Math.min(backoffMaxMs, retryAfterSeconds.longValue() * 1000L);
-                                } else {
-                                    if (currentBackoffMs <= 0) currentBackoffMs = backoffInitialMs;
-                                    else currentBackoffMs = Math.min(
-                                            backoffMaxMs,
-                                            (long) Math.ceil(currentBackoffMs * backoffMultiplier)
-                                    );
-                                }
-
-                                log.warn("[DIGEST][SCHED] rate limited. consecutive={}, nextBackoffMs={}",
-                                        consecutiveRateLimited, currentBackoffMs);
-                            } else {
-                                consecutiveRateLimited = 0;
-                                currentBackoffMs = 0;
-                            }
-
-                        } else {
-                            unknown++;
-                            log.warn("[DIGEST][SCHED] refresh status unknown. userId={}, projectId={}, stage={}, status={}",
-                                    t.userId(), t.projectId(), t.stage(), status);
-                        }
-                    }
+                    scrapDigestQueryRepository.findStaleTargetsForAutoRefresh(since, dailyLimit);
 
+            log.info("[DIGEST][SCHED] start. targets={}, limit={}, lookbackDays={}, concurrency={}",
+                    targets.size(), dailyLimit, lookbackDays, concurrency);
 
-                } catch (Exception e) {
-                    // refresh 내부에서 409(inFlight) 같은 건 예외로 던질 수 있으니 여기는 방어
-                    fail++;
-                    log.warn("[DIGEST][SCHED] refresh threw exception. userId={}, projectId={}, stage={}",
-                            t.userId(), t.projectId(), t.stage(), e);
+            Semaphore inFlight = new Semaphore(Math.max(1, concurrency));
 
-                    // 예외도 일단 backoff 리셋(또는 유지). 여기선 리셋으로 둠.
-                    consecutiveRateLimited = 0;
-                    currentBackoffMs = 0;
-                }
+            // close()에서 제출한 작업이 모두 끝날 때까지 대기
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < targets.size(); i++) {
+                    DigestRefreshTarget t = targets.get(i);
+
+                    // 동시성 상한 -> circuit 확인 -> 쿼터 순서로 대기 (쿼터를 받은 뒤엔 바로 호출)
+                    // circuit을 먼저 봐야 open 중에 쿼터를 기다렸다가 차감분을 버리는 일이 없다
+                    inFlight.acquire();
+                    if (circuitBreaker.isOpen()) {
+                        inFlight.release();
+                        dropped = targets.size() - i;
+                        log.warn("[DIGEST][SCHED] LLM circuit open. remaining targets dropped={}", dropped);
+                        break;
+                    }
 
-                //페이싱: baseDelay + (필요 시) backoff
-                long sleepMs = baseDelayMs + currentBackoffMs;
-                if (sleepMs > 0) {
+                    boolean permitted;
                     try {
-                        Thread.sleep(sleepMs);
+                        permitted = rateLimiter.acquire(estimatedTokensPerCall, Duration.ofMillis(maxWaitMs));
                     } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        log.warn("[DIGEST][SCHED] interrupted. stop.");
+                        inFlight.release();
+                        throw ie;
+                    }
+                    if (!permitted) {
+                        inFlight.release();
+                        dropped = targets.size() - i;
+                        log.warn("[DIGEST][SCHED] rate limiter wait exceeded. remaining targets dropped={}", dropped);
                         break;
                     }
+
+                    executor.submit(() -> {
+                        try {
+                            refreshOne(t, success, fail, skipped, unknown);
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
                 }
             }
 
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            log.warn("[DIGEST][SCHED] interrupted. stop.");
+
         } finally {
-            running.set(false);
+            lock.close();
             long ms = Duration.between(start, Instant.now()).toMillis();
-            log.info("[DIGEST][SCHED] done. success={}, fail={}, skipped={}, unknown={}, elapsedMs={}",
-                    success, fail, skipped, unknown, ms);
+            log.info("[DIGEST][SCHED] done. success={}, fail={}, skipped={}, unknown={}, dropped={}, elapsedMs={}",
+                    success.get(), fail.get(), skipped.get(), unknown.get(), dropped, ms);
+        }
+    }
+
+    private void refreshOne(
+            DigestRefreshTarget t,
+            AtomicInteger success, AtomicInteger fail, AtomicInteger skipped, AtomicInteger unknown
+    ) {
+        try {
+            // 배치 우선순위: 드래프트/사용자 refresh의 슬롯을 밀어내지 않도록
+            StageDigestResponse res = LlmPriorityContext.with(
+                    LlmPriority.SCHEDULED_DIGEST, () -> stageDigestService.refresh(t)
+            );
+
+            StageDigestResponse.Refresh refresh = res.meta().refresh();
+
+            if (refresh == null) {
+                unknown.incrementAndGet();
+                log.warn("[DIGEST][SCHED] refresh meta missing. userId={}, projectId={}, stage={}",
+                        t.userId(), t.projectId(), t.stage());
+                return;
+            }
+
+            String status = refresh.status();
+
+            if ("SUCCESS".equals(status)) {
+                success.incrementAndGet();
+
+            } else if ("SKIPPED".equals(status)) {
+                skipped.incrementAndGet();
+
+            } else if ("FAILED".equals(status)) {
+                fail.incrementAndGet();
+                log.warn("[DIGEST][SCHED] refresh FAILED. userId={}, projectId={}, stage={}, errorCode={}, msg={}",
+                        t.userId(), t.projectId(), t.stage(), refresh.errorCode(), refresh.message());
+
+            } else {
+                unknown.incrementAndGet();
+                log.warn("[DIGEST][SCHED] refresh status unknown. userId={}, projectId={}, stage={}, status={}",
+                        t.userId(), t.projectId(), t.stage(), status);
+            }
+
+        } catch (Exception e) {
+            // refresh 내부에서 409(inFlight) 같은 건 예외로 던질 수 있으니 여기는 방어
+            fail.incrementAndGet();
+            log.warn("[DIGEST][SCHED] refresh threw exception. userId={}, projectId={}, stage={}",
+                    t.userId(), t.projectId(), t.stage(), e);
         }
     }
 }
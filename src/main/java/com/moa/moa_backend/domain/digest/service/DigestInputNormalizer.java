@@ -1,22 +1,45 @@
 package com.moa.moa_backend.domain.digest.service;
 
+import com.moa.moa_backend.domain.scrap.repository.projection.ScrapForDigestView;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 
 public final class DigestInputNormalizer {
 
-    public static final int MAX_TEXT_PER_SCRAP = 800; // 스크랩 1개당 최대 글자
-    public static final int MAX_MERGED_PER_SCRAP = 1000; // subtitle+memo+text 최종
-    public static final int MAX_TOTAL_TEXT = 20000;    // stage 전체 합산 최대 글자
     public static final int MIN_TEXT_LENGTH = 50;      // 이보다 짧으면 잡음으로 보고 제외
+    public static final int MAX_STORED_TEXT = 8000;    // scraps.normalized_text 저장 최대 글자
 
     private DigestInputNormalizer() {}
 
     /**
-     * raw_html -> LLM 입력용 텍스트
-     * - HTML 태그 제거 + 잡음 영역 제거 + 공백 정리 + 길이 제한
+     * 조회한 스크랩의 텍스트를 LLM 입력용으로 확정
+     * - 저장된 normalized_text가 있으면 그대로 사용 (Jsoup 파싱 없음)
+     * - 아직 백필 전(null)이면 raw_html을 그 자리에서 저장용 규칙으로 정규화
+     * - 길이 제한은 어댑터의 DigestPromptPacker가 토큰 예산 기준으로 적용한다
+     * - 결과 view의 rawHtml은 비운다 (이후 단계는 normalizedText만 사용)
      */
-    public static String normalizeRawHtml(String rawHtml) {
+    public static ScrapForDigestView ensureNormalized(ScrapForDigestView s) {
+        String text = (s.normalizedText() != null)
+                ? s.normalizedText()
+                : normalizeForStorage(s.rawHtml());
+
+        return new ScrapForDigestView(
+                s.scrapId(),
+                s.stage(),
+                s.subtitle(),
+                s.memo(),
+                null,
+                text,
+                s.capturedAt()
+        );
+    }
+
+    /**
+     * raw_html -> scraps.normalized_text 저장용 텍스트
+     * - 스크랩 저장 시점/백필에서 1회만 수행 (digest refresh마다 재파싱하지 않도록)
+     * - 프롬프트용 길이 제한은 조립 시점에 따로 적용하므로 여기서는 넉넉하게 자른다
+     */
+    public static String normalizeForStorage(String rawHtml) {
         if (rawHtml == null || rawHtml.isBlank()) return "";
 
         Document doc = Jsoup.parse(rawHtml);
@@ -39,16 +62,8 @@ public final class DigestInputNormalizer {
         // 6) 너무 짧으면 제외
         if (text.length() < MIN_TEXT_LENGTH) return "";
 
-        // 7) 스크랩 단위 길이 제한
-        return clamp(text, MAX_TEXT_PER_SCRAP);
-    }
-
-    /**
-     * 스크랩 여러 개 합쳐서 전체 총량 제한(프롬프트 조립 시 사용)
-     */
-    public static String clampTotal(String input) {
-        if (input == null || input.isBlank()) return "";
-        return clamp(input, MAX_TOTAL_TEXT);
+        // 7) 저장 단위 길이 제한
+        return clamp(text, MAX_STORED_TEXT);
     }
 
     private static String normalizeWhitespace(String text) {
@@ -61,18 +76,4 @@ public final class DigestInputNormalizer {
         if (text.length() <= maxLen) return text;
         return text.substring(0, maxLen) + "…";
     }
-
-    public static String clampPerScrap(String string) {
-        return clamp(string, MAX_TEXT_PER_SCRAP);
-    }
-
-    public static String clampTextOnly(String text) {
-        return clamp(text, MAX_TEXT_PER_SCRAP); // 800
-    }
-
-    public static String clampMergedPerScrap(String text) {
-        return clamp(text, MAX_MERGED_PER_SCRAP); // 1000
-    }
-
-
 }
@@ -0,0 +1,72 @@
+package com.moa.moa_backend.domain.digest.service;
+
+import com.moa.moa_backend.global.error.ApiException;
+import com.moa.moa_backend.global.error.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기 digest refresh 전용 실행기
+ * - LLM 대기(최대 digest-timeout-ms)를 Tomcat 워커가 아닌 별도 스레드에서 처리
+ * - 스레드 수/큐 크기 모두 제한 (큐가 가득 차면 503으로 즉시 거절)
+ */
+@Slf4j
+@Component
+public class DigestRefreshJobExecutor {
+
+    private final ThreadPoolExecutor executor;
+
+    public DigestRefreshJobExecutor(
+            @Value("${moa.digest.refresh-job.pool-size:4}") int poolSize,
+            @Value("${moa.digest.refresh-job.queue-capacity:100}") int queueCapacity
+    ) {
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "digest-refresh-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    /**
+     * job 제출
+     * - 큐가 가득 차면 DIGEST_REFRESH_QUEUE_FULL(503)
+     */
+    public void submit(Runnable job) {
+        try {
+            executor.execute(job);
+        } catch (RejectedExecutionException e) {
+            log.warn("[DIGEST][JOB] rejected (queue full). active={}, queued={}",
+                    executor.getActiveCount(), executor.getQueue().size());
+            throw new ApiException(ErrorCode.DIGEST_REFRESH_QUEUE_FULL);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
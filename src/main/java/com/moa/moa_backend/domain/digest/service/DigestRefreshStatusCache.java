@@ -1,40 +1,51 @@
 package com.moa.moa_backend.domain.digest.service;
 
 import com.moa.moa_backend.domain.digest.dto.StageDigestResponse;
+import com.moa.moa_backend.global.cache.BoundedTtlCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
-import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
-import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * stage digest refresh 결과 캐시 (meta.refresh 노출용)
+ * - 최대 크기 제한 + 주기 sweep으로 스케줄러가 쓰고 아무도 읽지 않는 키도 정리
+ */
 @Component
 public class DigestRefreshStatusCache {
 
     private static final Duration TTL = Duration.ofMinutes(10);
 
-    private record Entry(StageDigestResponse.Refresh refresh, Instant expiresAt) {}
+    private record Key(Long userId, Long projectId, String stage) {}
 
-    private final ConcurrentHashMap<String, Entry> map = new ConcurrentHashMap<>();
+    private final BoundedTtlCache<Key, StageDigestResponse.Refresh> cache;
 
-    private String key(Long userId, Long projectId, String stage) {
-        return userId + ":" + projectId + ":" + stage;
+    public DigestRefreshStatusCache(
+            @Value("${moa.digest.refresh-status.max-size:10000}") int maxSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = new BoundedTtlCache<>("stage-digest-refresh-status", maxSize, TTL, meterRegistry);
     }
 
     public void put(Long userId, Long projectId, String stage, StageDigestResponse.Refresh refresh) {
-        map.put(key(userId, projectId, stage), new Entry(refresh, Instant.now().plus(TTL)));
+        cache.put(new Key(userId, projectId, stage), refresh);
     }
 
     public StageDigestResponse.Refresh getIfPresent(Long userId, Long projectId, String stage) {
-        String k = key(userId, projectId, stage);
-        Entry e = map.get(k);
-        if (e == null) return null;
-        if (Instant.now().isAfter(e.expiresAt)) {
-            map.remove(k);
-            return null;
-        }
-        return e.refresh;
+        return cache.getIfPresent(new Key(userId, projectId, stage));
+    }
+
+    public void evict(Long userId, Long projectId, String stage) {
+        cache.invalidate(new Key(userId, projectId, stage));
+    }
+
+    @Scheduled(fixedDelayString = "${moa.digest.refresh-status.sweep-interval-ms:60000}")
+    void sweepExpired() {
+        cache.sweepExpired();
     }
 
     public static OffsetDateTime nowKst() {
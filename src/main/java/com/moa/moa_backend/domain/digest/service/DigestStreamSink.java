@@ -0,0 +1,16 @@
+package com.moa.moa_backend.domain.digest.service;
+
+/**
+ * 스트리밍 refresh 결과 전달 통로 (SSE 등)
+ * - chunk: LLM 생성 조각 (정리/검증 전)
+ * - done: 저장까지 끝난 최종 응답 (동기 refresh 응답과 동일)
+ * - error: 접수 이후 job 실행 중 예외 (LLM 실패는 error가 아니라 done의 meta.refresh로 전달)
+ */
+public interface DigestStreamSink<R> {
+
+    void chunk(String text);
+
+    void done(R response);
+
+    void error(Exception e);
+}
@@ -1,40 +1,47 @@
 package com.moa.moa_backend.domain.digest.service;
 
 import com.moa.moa_backend.domain.digest.dto.ProjectDigestResponse;
+import com.moa.moa_backend.global.cache.BoundedTtlCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
-import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class ProjectDigestRefreshStatusCache {
 
     private static final Duration TTL = Duration.ofMinutes(10);
 
-    private record Entry(ProjectDigestResponse.Refresh refresh, Instant expiresAt) {}
+    private record Key(Long userId, Long projectId) {}
 
-    private final ConcurrentHashMap<String, Entry> map = new ConcurrentHashMap<>();
+    private final BoundedTtlCache<Key, ProjectDigestResponse.Refresh> cache;
 
-    private String key(Long userId, Long projectId) {
-        return userId + ":" + projectId;
+    public ProjectDigestRefreshStatusCache(
+            @Value("${moa.digest.refresh-status.max-size:10000}") int maxSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = new BoundedTtlCache<>("project-digest-refresh-status", maxSize, TTL, meterRegistry);
     }
 
     public void put(Long userId, Long projectId, ProjectDigestResponse.Refresh refresh) {
-        map.put(key(userId, projectId), new Entry(refresh, Instant.now().plus(TTL)));
+        cache.put(new Key(userId, projectId), refresh);
     }
 
     public ProjectDigestResponse.Refresh getIfPresent(Long userId, Long projectId) {
-        String k = key(userId, projectId);
-        Entry e = map.get(k);
-        if (e == null) return null;
-        if (Instant.now().isAfter(e.expiresAt)) {
-            map.remove(k);
-            return null;
-        }
-        return e.refresh;
+        return cache.getIfPresent(new Key(userId, projectId));
+    }
+
+    public void evict(Long userId, Long projectId) {
+        cache.invalidate(new Key(userId, projectId));
+    }
+
+    @Scheduled(fixedDelayString = "${moa.digest.refresh-status.sweep-interval-ms:60000}")
+    void sweepExpired() {
+        cache.sweepExpired();
     }
 
     public static OffsetDateTime nowKst() {
@@ -1,10 +1,13 @@
 package com.moa.moa_backend.domain.digest.service;
 
+import com.moa.moa_backend.domain.digest.dto.DigestRefreshJobResponse;
 import com.moa.moa_backend.domain.digest.dto.ProjectDigestResponse;
 import com.moa.moa_backend.domain.digest.entity.DigestKind;
 import com.moa.moa_backend.domain.digest.entity.ProjectDigest;
 import com.moa.moa_backend.domain.digest.llm.ProjectDigestGeneratorPort;
+import com.moa.moa_backend.domain.digest.repository.DigestReadQueryRepository;
 import com.moa.moa_backend.domain.digest.repository.ProjectDigestRepository;
+import com.moa.moa_backend.domain.digest.repository.projection.ProjectDigestReadView;
 import com.moa.moa_backend.domain.project.entity.Project;
 import com.moa.moa_backend.domain.project.repository.ProjectRepository;
 import com.moa.moa_backend.domain.scrap.repository.ProjectScrapDigestQueryRepository;
@@ -12,11 +15,13 @@ import com.moa.moa_backend.domain.scrap.repository.ProjectScrapForDigestReposito
 import com.moa.moa_backend.domain.scrap.repository.projection.ScrapForDigestView;
 import com.moa.moa_backend.global.error.ApiException;
 import com.moa.moa_backend.global.error.ErrorCode;
+import com.moa.moa_backend.global.llm.gemini.GeminiCircuitOpenException;
+import com.moa.moa_backend.global.lock.RefreshLockProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 import java.time.Instant;
@@ -24,7 +29,8 @@ import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -35,8 +41,17 @@ public class ProjectDigestService {
     private static final int DIGEST_VERSION = 1;
     private static final ZoneOffset KST = ZoneOffset.ofHours(9);
 
+    /**
+     * project digest 입력 방식
+     * - flat: 최근 스크랩 INPUT_SCRAPS_LIMIT개를 그대로 프롬프트에 넣는다.
+     * - hierarchical: stage digest를 먼저 최신화하고, 그 요약들로 프로젝트 요약을 만든다.
+     */
+    @Value("${moa.digest.project.mode:flat}")
+    private String projectDigestMode;
+
     private final ProjectRepository projectRepository;
     private final ProjectDigestRepository projectDigestRepository;
+    private final DigestReadQueryRepository digestReadQueryRepository;
 
     private final ProjectScrapDigestQueryRepository projectScrapDigestQueryRepository;
     private final ProjectScrapForDigestRepository projectScrapForDigestRepository;
@@ -46,37 +61,44 @@ public class ProjectDigestService {
     private final ProjectDigestRefreshStatusCache refreshStatusCache;
 
     /**
-     * 유니크 단위로 “갱신 중” 상태 관리 (단일 인스턴스에서만 유효)
+     * 유니크 단위로 “갱신 중” 상태 관리
      * - 동일 (userId, projectId) refresh 동시 수행 방지
+     * - moa.lock.provider=postgres 이면 노드 간에도 유효
+     */
+    private final RefreshLockProvider refreshLockProvider;
+
+    /**
+     * 비동기 refresh job 실행기 (bounded, stage digest와 공유)
+     */
+    private final DigestRefreshJobExecutor refreshJobExecutor;
+
+    /**
+     * 계층형 모드 입력 수집 (stale stage 갱신 포함)
      */
-    private final ConcurrentHashMap<String, Boolean> inFlight = new ConcurrentHashMap<>();
+    private final ProjectStageDigestCollector stageDigestCollector;
 
     private String key(Long userId, Long projectId) {
-        return userId + ":" + projectId;
+        return "project-digest:" + userId + ":" + projectId;
     }
 
     // =========================
     // 조회 API (LLM 호출 없음)
+    // - 프로젝트/요약/최신 스크랩 시각을 쿼리 1번으로 조회 (트랜잭션 불필요)
     // =========================
-    @Transactional(readOnly = true)
     public ProjectDigestResponse getDigest(Long userId, Long projectId) {
-        Project project = getOwnedProjectOrThrow(userId, projectId);
+        ProjectDigestReadView row = digestReadQueryRepository.findProjectDigestRead(userId, projectId)
+                .orElseThrow(() -> new ApiException(ErrorCode.PROJECT_NOT_FOUND));
 
         ProjectDigestResponse.Refresh cachedRefresh =
                 refreshStatusCache.getIfPresent(userId, projectId);
 
-        Optional<ProjectDigest> digestOpt =
-                projectDigestRepository.findByUserIdAndProjectId(userId, projectId);
-
-        Instant latestScrapInstant =
-                projectScrapDigestQueryRepository.findLatestCapturedAt(userId, projectId);
-
+        Instant latestScrapInstant = row.getLatestCapturedAt();
         OffsetDateTime latestScrapKst = toKst(latestScrapInstant);
 
-        if (digestOpt.isEmpty()) {
+        if (row.getDigestId() == null) {
             boolean outdated = (latestScrapInstant != null);
             return new ProjectDigestResponse(
-                    new ProjectDigestResponse.ProjectDto(projectId, project.getName()),
+                    new ProjectDigestResponse.ProjectDto(projectId, row.getProjectName()),
                     DigestKind.DEFAULT,
                     null,
                     new ProjectDigestResponse.Meta(
@@ -91,20 +113,19 @@ public class ProjectDigestService {
             );
         }
 
-        ProjectDigest digest = digestOpt.get();
-        boolean exists = hasText(digest.getDigestText());
-        boolean outdated = exists && computeOutdated(digest.getSourceLastUpdatedAt(), latestScrapInstant);
+        boolean exists = hasText(row.getDigestText());
+        boolean outdated = exists && computeOutdated(row.getSourceLastUpdatedAt(), latestScrapInstant);
 
         return new ProjectDigestResponse(
-                new ProjectDigestResponse.ProjectDto(projectId, project.getName()),
-                digest.getDigestKind(),
-                exists ? digest.getDigestText() : null,
+                new ProjectDigestResponse.ProjectDto(projectId, row.getProjectName()),
+                row.getDigestKind(),
+                exists ? row.getDigestText() : null,
                 new ProjectDigestResponse.Meta(
                         exists,
                         outdated,
-                        toKst(digest.getSourceLastUpdatedAt()),
+                        toKst(row.getSourceLastUpdatedAt()),
                         latestScrapKst,
-                        toKst(digest.getUpdatedAt()),
+                        toKst(row.getUpdatedAt()),
                         DIGEST_VERSION,
                         cachedRefresh
                 )
@@ -118,172 +139,292 @@ public class ProjectDigestService {
     // - DB upsert만 writer에서 짧게 트랜잭션
     // =========================
     public ProjectDigestResponse refresh(Long userId, Long projectId, String prompt) {
-        String lockKey = key(userId, projectId);
         OffsetDateTime attemptedAt = ProjectDigestRefreshStatusCache.nowKst();
 
-        if (inFlight.putIfAbsent(lockKey, Boolean.TRUE) != null) {
-            throw new ApiException(ErrorCode.DIGEST_REFRESH_IN_PROGRESS);
-        }
+        RefreshLockProvider.RefreshLock lock = acquireOrThrow(userId, projectId);
 
         try {
-            Project project = getOwnedProjectOrThrow(userId, projectId);
+            return refreshLocked(userId, projectId, prompt, attemptedAt, null, null);
+        } finally {
+            lock.close();
+        }
+    }
 
-            DigestKind kind = (prompt == null || prompt.isBlank())
-                    ? DigestKind.DEFAULT
-                    : DigestKind.CUSTOM;
+    // =========================
+    // 비동기 갱신 API
+    // - 접수(소유권 확인 + 락 획득)만 요청 스레드에서 처리하고 즉시 202
+    // - 진행/결과는 GET digest의 meta.refresh로 노출
+    // =========================
+    public DigestRefreshJobResponse refreshAsync(Long userId, Long projectId, String prompt) {
+        getOwnedProjectOrThrow(userId, projectId);
 
-            Instant latestScrapInstant =
-                    projectScrapDigestQueryRepository.findLatestCapturedAt(userId, projectId);
+        RefreshLockProvider.RefreshLock lock = acquireOrThrow(userId, projectId);
 
-            // 스크랩 자체가 없으면: LLM 호출 불가 → SKIPPED
-            if (latestScrapInstant == null) {
-                ProjectDigestResponse.Refresh refreshMeta = refreshSkipped(
-                        "NO_SCRAPS", "No scraps to digest.", attemptedAt
-                );
-                refreshStatusCache.put(userId, projectId, refreshMeta);
+        String jobId = UUID.randomUUID().toString();
+        OffsetDateTime acceptedAt = ProjectDigestRefreshStatusCache.nowKst();
 
-                return new ProjectDigestResponse(
-                        new ProjectDigestResponse.ProjectDto(projectId, project.getName()),
-                        kind,
-                        null,
-                        new ProjectDigestResponse.Meta(
-                                false,
-                                false,
-                                null,
-                                null,
-                                null,
-                                DIGEST_VERSION,
-                                refreshMeta
-                        )
-                );
-            }
+        ProjectDigestResponse.Refresh previous = refreshStatusCache.getIfPresent(userId, projectId);
+        refreshStatusCache.put(userId, projectId, refreshRunning(acceptedAt, jobId));
 
-            OffsetDateTime latestScrapKst = toKst(latestScrapInstant);
+        try {
+            refreshJobExecutor.submit(() -> {
+                try {
+                    refreshLocked(userId, projectId, prompt, acceptedAt, jobId, null);
+                } catch (Exception e) {
+                    log.error("[PROJECT_DIGEST][JOB] refresh job failed. jobId={}, userId={}, projectId={}",
+                            jobId, userId, projectId, e);
+                    refreshStatusCache.put(userId, projectId, refreshFailed(e, acceptedAt, jobId));
+                } finally {
+                    lock.close();
+                }
+            });
+        } catch (RuntimeException e) {
+            if (previous != null) refreshStatusCache.put(userId, projectId, previous);
+            else refreshStatusCache.evict(userId, projectId);
+            lock.close();
+            throw e;
+        }
 
-            Optional<ProjectDigest> existingOpt =
-                    projectDigestRepository.findByUserIdAndProjectId(userId, projectId);
+        log.info("[PROJECT_DIGEST][JOB] accepted. jobId={}, userId={}, projectId={}", jobId, userId, projectId);
 
-            if (existingOpt.isPresent()) {
-                ProjectDigest existing = existingOpt.get();
+        return new DigestRefreshJobResponse(jobId, "RUNNING", acceptedAt);
+    }
 
-                boolean hasDigestText = hasText(existing.getDigestText());
-                boolean upToDate = isUpToDate(existing, latestScrapInstant);
-                boolean same = sameCondition(existing, kind, prompt);
+    // =========================
+    // 스트리밍 갱신 API (SSE)
+    // - 접수(소유권 확인 + 락 획득)는 요청 스레드에서 처리 -> 404/409는 HTTP status로 응답
+    // - 생성 조각은 sink.chunk로 바로 전달, 저장/메타는 동기 refresh와 동일
+    // =========================
+    public void refreshStreaming(Long userId, Long projectId, String prompt, DigestStreamSink<ProjectDigestResponse> sink) {
+        getOwnedProjectOrThrow(userId, projectId);
 
-                // - 기존 digest 텍스트가 있고
-                // - 스크랩 최신이고
-                // - 요청 조건(kind/prompt)도 동일하면
-                // => SKIPPED
-                if (hasDigestText && upToDate && same) {
-                    ProjectDigestResponse.Refresh refreshMeta = refreshSkipped(
-                            "NOT_OUTDATED", "Digest is up to date.", attemptedAt
-                    );
-                    refreshStatusCache.put(userId, projectId, refreshMeta);
-                    return existingView(project, existing, latestScrapKst, refreshMeta);
+        RefreshLockProvider.RefreshLock lock = acquireOrThrow(userId, projectId);
+
+        OffsetDateTime attemptedAt = ProjectDigestRefreshStatusCache.nowKst();
+
+        try {
+            refreshJobExecutor.submit(() -> {
+                try {
+                    sink.done(refreshLocked(userId, projectId, prompt, attemptedAt, null, sink::chunk));
+                } catch (Exception e) {
+                    log.error("[PROJECT_DIGEST][STREAM] refresh stream failed. userId={}, projectId={}",
+                            userId, projectId, e);
+                    sink.error(e);
+                } finally {
+                    lock.close();
                 }
+            });
+        } catch (RuntimeException e) {
+            lock.close();
+            throw e;
+        }
+    }
+
+    private RefreshLockProvider.RefreshLock acquireOrThrow(Long userId, Long projectId) {
+        return refreshLockProvider.tryAcquire(key(userId, projectId))
+                .orElseThrow(() -> new ApiException(ErrorCode.DIGEST_REFRESH_IN_PROGRESS));
+    }
+
+    private ProjectDigestResponse refreshLocked(
+            Long userId, Long projectId, String prompt,
+            OffsetDateTime attemptedAt, String jobId, Consumer<String> onChunk
+    ) {
+        Project project = getOwnedProjectOrThrow(userId, projectId);
+
+        DigestKind kind = (prompt == null || prompt.isBlank())
+                ? DigestKind.DEFAULT
+                : DigestKind.CUSTOM;
+
+        Instant latestScrapInstant =
+                projectScrapDigestQueryRepository.findLatestCapturedAt(userId, projectId);
+
+        // 스크랩 자체가 없으면: LLM 호출 불가 → SKIPPED
+        if (latestScrapInstant == null) {
+            ProjectDigestResponse.Refresh refreshMeta = refreshSkipped(
+                    "NO_SCRAPS", "No scraps to digest.", attemptedAt, jobId
+            );
+            refreshStatusCache.put(userId, projectId, refreshMeta);
+
+            return new ProjectDigestResponse(
+                    new ProjectDigestResponse.ProjectDto(projectId, project.getName()),
+                    kind,
+                    null,
+                    new ProjectDigestResponse.Meta(
+                            false,
+                            false,
+                            null,
+                            null,
+                            null,
+                            DIGEST_VERSION,
+                            refreshMeta
+                    )
+            );
+        }
+
+        OffsetDateTime latestScrapKst = toKst(latestScrapInstant);
+
+        Optional<ProjectDigest> existingOpt =
+                projectDigestRepository.findByUserIdAndProjectId(userId, projectId);
+
+        if (existingOpt.isPresent()) {
+            ProjectDigest existing = existingOpt.get();
+
+            boolean hasDigestText = hasText(existing.getDigestText());
+            boolean upToDate = isUpToDate(existing, latestScrapInstant);
+            boolean same = sameCondition(existing, kind, prompt);
+
+            // - 기존 digest 텍스트가 있고
+            // - 스크랩 최신이고
+            // - 요청 조건(kind/prompt)도 동일하면
+            // => SKIPPED
+            if (hasDigestText && upToDate && same) {
+                ProjectDigestResponse.Refresh refreshMeta = refreshSkipped(
+                        "NOT_OUTDATED", "Digest is up to date.", attemptedAt, jobId
+                );
+                refreshStatusCache.put(userId, projectId, refreshMeta);
+                return existingView(project, existing, latestScrapKst, refreshMeta);
+            }
+        }
+
+        // 이번 요약이 반영한 기준 시각(= 최신 스크랩 시각)
+        Instant sourceLastCapturedAt = latestScrapInstant;
+        String customPrompt = (kind == DigestKind.CUSTOM) ? prompt : null;
+
+        // =========================
+        // 입력 조회 + LLM 호출
+        // - flat: 최근 스크랩 N개
+        // - hierarchical: stage digest(먼저 stale stage 갱신) + 요약 없는 부분만 스크랩
+        // =========================
+        final String markdown;
+        if (isHierarchical()) {
+            ProjectStageDigestCollector.Inputs inputs = stageDigestCollector.collect(userId, projectId);
+
+            if (inputs.isEmpty()) {
+                return skipNoMeaningfulInput(project, latestScrapInstant, latestScrapKst, attemptedAt, jobId, existingOpt);
             }
 
-            // =========================
-            // 입력 스크랩 조회 + 정규화
-            // =========================
+            try {
+                markdown = (onChunk == null)
+                        ? digestGenerator.generateHierarchicalMarkdown(
+                                project.getName(), kind, customPrompt, inputs.stageDigests(), inputs.fallbackScraps())
+                        : digestGenerator.generateHierarchicalMarkdown(
+                                project.getName(), kind, customPrompt, inputs.stageDigests(), inputs.fallbackScraps(), onChunk);
+            } catch (Exception e) {
+                log.error("[PROJECT_DIGEST] hierarchical refresh failed. userId={}, projectId={}, stageDigests={}, fallbackScraps={}",
+                        userId, projectId, inputs.stageDigests().size(), inputs.fallbackScraps().size(), e);
+                return failWithFallback(project, latestScrapInstant, latestScrapKst, e, attemptedAt, jobId, existingOpt);
+            }
+        } else {
             List<ScrapForDigestView> scraps = projectScrapForDigestRepository.findRecentForDigest(
                     userId, projectId, PageRequest.of(0, INPUT_SCRAPS_LIMIT)
             );
 
             List<ScrapForDigestView> normalized = scraps.stream()
-                    .map(s -> new ScrapForDigestView(
-                            s.scrapId(),
-                            s.stage(),
-                            s.subtitle(),
-                            s.memo(),
-                            DigestInputNormalizer.normalizeRawHtml(s.rawHtml()),
-                            s.capturedAt()
-                    ))
+                    .map(DigestInputNormalizer::ensureNormalized)
                     .toList();
 
             boolean hasAnyInput = normalized.stream().anyMatch(s ->
-                    hasText(s.rawHtml()) || hasText(s.subtitle()) || hasText(s.memo())
+                    hasText(s.normalizedText()) || hasText(s.subtitle()) || hasText(s.memo())
             );
 
             if (!hasAnyInput) {
-                ProjectDigestResponse.Refresh refreshMeta = refreshSkipped(
-                        "NO_MEANINGFUL_INPUT",
-                        "No meaningful content to digest.",
-                        attemptedAt
-                );
-                refreshStatusCache.put(userId, projectId, refreshMeta);
-
-                return fallbackExisting(project, latestScrapInstant, latestScrapKst, refreshMeta, existingOpt);
+                return skipNoMeaningfulInput(project, latestScrapInstant, latestScrapKst, attemptedAt, jobId, existingOpt);
             }
 
-            // 이번 요약이 반영한 기준 시각(= 최신 스크랩 시각)
-            Instant sourceLastCapturedAt = latestScrapInstant;
-
-            // =========================
-            // LLM 호출
-            // =========================
-            final String markdown;
             try {
-                markdown = digestGenerator.generateMarkdown(
-                        project.getName(),
-                        kind,
-                        (kind == DigestKind.CUSTOM) ? prompt : null,
-                        normalized
-                );
+                markdown = (onChunk == null)
+                        ? digestGenerator.generateMarkdown(project.getName(), kind, customPrompt, normalized)
+                        : digestGenerator.generateMarkdown(project.getName(), kind, customPrompt, normalized, onChunk);
             } catch (Exception e) {
                 log.error("[PROJECT_DIGEST] refresh failed. userId={}, projectId={}, scraps={}",
                         userId, projectId, normalized.size(), e);
+                return failWithFallback(project, latestScrapInstant, latestScrapKst, e, attemptedAt, jobId, existingOpt);
+            }
+        }
 
-                ProjectDigestResponse.Refresh refreshMeta = refreshFailed(e, attemptedAt);
-                refreshStatusCache.put(userId, projectId, refreshMeta);
+        ProjectDigest saved = projectDigestWriter.upsertDigest(
+                userId,
+                projectId,
+                kind,
+                customPrompt,
+                markdown,
+                sourceLastCapturedAt
+        );
 
-                return fallbackExisting(project, latestScrapInstant, latestScrapKst, refreshMeta, existingOpt);
-            }
+        ProjectDigestResponse.Refresh refreshMeta = refreshSuccess(attemptedAt, jobId);
+        refreshStatusCache.put(userId, projectId, refreshMeta);
 
-            ProjectDigest saved = projectDigestWriter.upsertDigest(
-                    userId,
-                    projectId,
-                    kind,
-                    (kind == DigestKind.CUSTOM) ? prompt : null,
-                    markdown,
-                    sourceLastCapturedAt
-            );
+        return new ProjectDigestResponse(
+                new ProjectDigestResponse.ProjectDto(projectId, project.getName()),
+                saved.getDigestKind(),
+                markdown,
+                new ProjectDigestResponse.Meta(
+                        true,
+                        false,
+                        toKst(saved.getSourceLastUpdatedAt()),
+                        latestScrapKst,
+                        toKst(saved.getUpdatedAt()),
+                        DIGEST_VERSION,
+                        refreshMeta
+                )
+        );
+    }
 
-            ProjectDigestResponse.Refresh refreshMeta = refreshSuccess(attemptedAt);
-            refreshStatusCache.put(userId, projectId, refreshMeta);
+    private boolean isHierarchical() {
+        return "hierarchical".equalsIgnoreCase(projectDigestMode);
+    }
 
-            return new ProjectDigestResponse(
-                    new ProjectDigestResponse.ProjectDto(projectId, project.getName()),
-                    saved.getDigestKind(),
-                    markdown,
-                    new ProjectDigestResponse.Meta(
-                            true,
-                            false,
-                            toKst(saved.getSourceLastUpdatedAt()),
-                            latestScrapKst,
-                            toKst(saved.getUpdatedAt()),
-                            DIGEST_VERSION,
-                            refreshMeta
-                    )
-            );
+    private ProjectDigestResponse skipNoMeaningfulInput(
+            Project project, Instant latestScrapInstant, OffsetDateTime latestScrapKst,
+            OffsetDateTime attemptedAt, String jobId, Optional<ProjectDigest> existingOpt
+    ) {
+        ProjectDigestResponse.Refresh refreshMeta = refreshSkipped(
+                "NO_MEANINGFUL_INPUT",
+                "No meaningful content to digest.",
+                attemptedAt,
+                jobId
+        );
+        refreshStatusCache.put(project.getUserId(), project.getId(), refreshMeta);
 
-        } finally {
-            inFlight.remove(lockKey);
-        }
+        return fallbackExisting(project, latestScrapInstant, latestScrapKst, refreshMeta, existingOpt);
+    }
+
+    private ProjectDigestResponse failWithFallback(
+            Project project, Instant latestScrapInstant, OffsetDateTime latestScrapKst,
+            Throwable e, OffsetDateTime attemptedAt, String jobId, Optional<ProjectDigest> existingOpt
+    ) {
+        ProjectDigestResponse.Refresh refreshMeta = refreshFailed(e, attemptedAt, jobId);
+        refreshStatusCache.put(project.getUserId(), project.getId(), refreshMeta);
+
+        return fallbackExisting(project, latestScrapInstant, latestScrapKst, refreshMeta, existingOpt);
     }
 
     // =========================
     // refresh meta
     // =========================
-    private ProjectDigestResponse.Refresh refreshSuccess(OffsetDateTime attemptedAt) {
-        return new ProjectDigestResponse.Refresh("SUCCESS", null, null, null, attemptedAt);
+    private ProjectDigestResponse.Refresh refreshRunning(OffsetDateTime acceptedAt, String jobId) {
+        return new ProjectDigestResponse.Refresh("RUNNING", null, null, null, acceptedAt, jobId);
     }
 
-    private ProjectDigestResponse.Refresh refreshSkipped(String errorCode, String message, OffsetDateTime attemptedAt) {
-        return new ProjectDigestResponse.Refresh("SKIPPED", errorCode, message, null, attemptedAt);
+    private ProjectDigestResponse.Refresh refreshSuccess(OffsetDateTime attemptedAt, String jobId) {
+        return new ProjectDigestResponse.Refresh("SUCCESS", null, null, null, attemptedAt, jobId);
     }
 
-    private ProjectDigestResponse.Refresh refreshFailed(Throwable e, OffsetDateTime attemptedAt) {
+    private ProjectDigestResponse.Refresh refreshSkipped(
+            String errorCode, String message, OffsetDateTime attemptedAt, String jobId
+    ) {
+        return new ProjectDigestResponse.Refresh("SKIPPED", errorCode, message, null, attemptedAt, jobId);
+    }
+
+    private ProjectDigestResponse.Refresh refreshFailed(Throwable e, OffsetDateTime attemptedAt, String jobId) {
+        // circuit open(provider 장애): 호출 없이 즉시 실패, open 해제까지 남은 시간을 힌트로
+        GeminiCircuitOpenException circuitOpen = findCause(e, GeminiCircuitOpenException.class);
+        if (circuitOpen != null) {
+            int retryAfterSeconds = (int) Math.max(1, circuitOpen.getRetryAfter().toSeconds());
+            return new ProjectDigestResponse.Refresh("FAILED", "PROVIDER_UNAVAILABLE",
+                    "LLM provider temporarily unavailable.", retryAfterSeconds, attemptedAt, jobId);
+        }
+
         boolean rateLimited = isRateLimited(e);
 
         String errorCode = rateLimited ? "RATE_LIMITED" : "PROVIDER_ERROR";
@@ -293,7 +434,14 @@ public class ProjectDigestService {
         String detail = shortenMessage(e.getMessage(), 200);
         if (hasText(detail)) message = message + " " + detail;
 
-        return new ProjectDigestResponse.Refresh("FAILED", errorCode, message, retryAfterSeconds, attemptedAt);
+        return new ProjectDigestResponse.Refresh("FAILED", errorCode, message, retryAfterSeconds, attemptedAt, jobId);
+    }
+
+    private static <T extends Throwable> T findCause(Throwable e, Class<T> type) {
+        for (Throwable cur = e; cur != null; cur = cur.getCause()) {
+            if (type.isInstance(cur)) return type.cast(cur);
+        }
+        return null;
     }
 
     private boolean isRateLimited(Throwable e) {
@@ -0,0 +1,191 @@
+package com.moa.moa_backend.domain.digest.service;
+
+import com.moa.moa_backend.domain.digest.dto.StageDigestResponse;
+import com.moa.moa_backend.domain.digest.entity.StageDigest;
+import com.moa.moa_backend.domain.digest.llm.StageDigestInput;
+import com.moa.moa_backend.domain.digest.repository.StageDigestRepository;
+import com.moa.moa_backend.domain.scrap.repository.ProjectScrapDigestQueryRepository;
+import com.moa.moa_backend.domain.scrap.repository.ScrapForDigestRepository;
+import com.moa.moa_backend.domain.scrap.repository.projection.ScrapForDigestView;
+import com.moa.moa_backend.domain.scrap.repository.projection.StageLatestCapturedView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 계층형 project digest 입력 수집
+ * <p>
+ * 1) 프로젝트의 stage별 최신 스크랩 시각과 저장된 stage digest를 비교해 stale stage를 찾는다.
+ * 2) stale stage는 StageDigestService.refresh로 먼저 갱신한다. (동시 실행, 개수 상한)
+ * 3) 최신 요약이 있는 stage → 요약만 사용
+ *    요약이 여전히 stale(갱신 실패/상한 초과/다른 요청이 갱신 중) → 요약 + 요약 이후 스크랩
+ *    요약이 없는 stage → 최근 스크랩
+ * <p>
+ * stage 갱신은 stage 단위 락을 그대로 사용하므로 동시에 들어온 stage refresh와 충돌하지 않는다.
+ */
+@Slf4j
+@Component
+public class ProjectStageDigestCollector {
+
+    private final ProjectScrapDigestQueryRepository projectScrapDigestQueryRepository;
+    private final StageDigestRepository stageDigestRepository;
+    private final ScrapForDigestRepository scrapForDigestRepository;
+    private final StageDigestService stageDigestService;
+
+    /**
+     * project refresh 1회에서 함께 갱신할 stale stage 최대 개수 (최근 활동 stage 우선)
+     */
+    @Value("${moa.digest.project.hierarchical.max-stage-refreshes:8}")
+    private int maxStageRefreshes;
+
+    /**
+     * stage 갱신 동시 실행 수 (virtual thread 위에서 실행)
+     */
+    @Value("${moa.digest.project.hierarchical.stage-refresh-concurrency:3}")
+    private int stageRefreshConcurrency;
+
+    /**
+     * 요약이 없거나 stale인 stage에서 가져올 스크랩 최대 개수
+     */
+    @Value("${moa.digest.project.hierarchical.fallback-scraps-per-stage:10}")
+    private int fallbackScrapsPerStage;
+
+    public ProjectStageDigestCollector(
+            ProjectScrapDigestQueryRepository projectScrapDigestQueryRepository,
+            StageDigestRepository stageDigestRepository,
+            ScrapForDigestRepository scrapForDigestRepository,
+            StageDigestService stageDigestService
+    ) {
+        this.projectScrapDigestQueryRepository = projectScrapDigestQueryRepository;
+        this.stageDigestRepository = stageDigestRepository;
+        this.scrapForDigestRepository = scrapForDigestRepository;
+        this.stageDigestService = stageDigestService;
+    }
+
+    public record Inputs(
+            List<StageDigestInput> stageDigests,
+            List<ScrapForDigestView> fallbackScraps
+    ) {
+        public boolean isEmpty() {
+            return stageDigests.isEmpty() && fallbackScraps.isEmpty();
+        }
+    }
+
+    public Inputs collect(Long userId, Long projectId) {
+        List<StageLatestCapturedView> stages =
+                projectScrapDigestQueryRepository.findLatestCapturedAtByStage(userId, projectId);
+
+        Map<String, StageDigestInput> current = new HashMap<>();
+        for (StageDigest d : stageDigestRepository.findByUserIdAndProjectId(userId, projectId)) {
+            if (hasText(d.getDigestText())) {
+                current.put(d.getStage(), new StageDigestInput(d.getStage(), d.getDigestText(), d.getSourceLastCapturedAt()));
+            }
+        }
+
+        // 1) stale stage 갱신 (stages는 최근 활동순)
+        List<String> stale = stages.stream()
+                .filter(s -> isStale(current.get(s.stage()), s.latestCapturedAt()))
+                .map(StageLatestCapturedView::stage)
+                .limit(Math.max(0, maxStageRefreshes))
+                .toList();
+
+        current.putAll(refreshStages(userId, projectId, stale));
+
+        // 2) stage별 입력 확정 (프롬프트에는 오래된 활동 stage부터)
+        List<StageDigestInput> digests = new ArrayList<>();
+        List<ScrapForDigestView> fallback = new ArrayList<>();
+
+        for (StageLatestCapturedView s : stages.reversed()) {
+            StageDigestInput d = current.get(s.stage());
+
+            if (d != null) {
+                digests.add(d);
+            }
+            if (isStale(d, s.latestCapturedAt())) {
+                fallback.addAll(findFallbackScraps(userId, projectId, s.stage(), d));
+            }
+        }
+
+        List<ScrapForDigestView> normalized = fallback.stream()
+                .map(DigestInputNormalizer::ensureNormalized)
+                .filter(v -> hasText(v.normalizedText()) || hasText(v.subtitle()) || hasText(v.memo()))
+                .toList();
+
+        log.info("[PROJECT_DIGEST][HIER] inputs collected. userId={}, projectId={}, stages={}, refreshed={}, digests={}, fallbackScraps={}",
+                userId, projectId, stages.size(), stale.size(), digests.size(), normalized.size());
+
+        return new Inputs(digests, normalized);
+    }
+
+    private Map<String, StageDigestInput> refreshStages(Long userId, Long projectId, List<String> stages) {
+        Map<String, StageDigestInput> refreshed = new ConcurrentHashMap<>();
+        if (stages.isEmpty()) return refreshed;
+
+        Semaphore inFlight = new Semaphore(Math.max(1, stageRefreshConcurrency));
+
+        // close()에서 제출한 작업이 모두 끝날 때까지 대기
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String stage : stages) {
+                inFlight.acquire();
+                executor.submit(() -> {
+                    try {
+                        refreshOne(userId, projectId, stage, refreshed);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            log.warn("[PROJECT_DIGEST][HIER] interrupted while refreshing stages. userId={}, projectId={}",
+                    userId, projectId);
+        }
+        return refreshed;
+    }
+
+    private void refreshOne(Long userId, Long projectId, String stage, Map<String, StageDigestInput> out) {
+        try {
+            StageDigestResponse res = stageDigestService.refresh(userId, projectId, stage);
+            if (hasText(res.digest())) {
+                out.put(stage, new StageDigestInput(stage, res.digest(), res.meta().sourceLastCapturedAt()));
+            }
+        } catch (Exception e) {
+            // 다른 요청이 같은 stage를 갱신 중(409)이거나 실패 → 기존 요약 + 추가 스크랩으로 대체
+            log.warn("[PROJECT_DIGEST][HIER] stage refresh failed. use fallback. userId={}, projectId={}, stage={}, err={}",
+                    userId, projectId, stage, e.toString());
+        }
+    }
+
+    private List<ScrapForDigestView> findFallbackScraps(Long userId, Long projectId, String stage, StageDigestInput d) {
+        PageRequest page = PageRequest.of(0, Math.max(1, fallbackScrapsPerStage));
+
+        if (d == null || d.sourceLastCapturedAt() == null) {
+            return scrapForDigestRepository.findRecentForDigest(userId, projectId, stage, page);
+        }
+        return scrapForDigestRepository.findRecentForDigestSince(
+                userId, projectId, stage, d.sourceLastCapturedAt().toInstant(), page);
+    }
+
+    private boolean isStale(StageDigestInput d, Instant latestCapturedAt) {
+        if (d == null) return true;
+        OffsetDateTime src = d.sourceLastCapturedAt();
+        if (src == null) return true;
+        return latestCapturedAt != null && latestCapturedAt.isAfter(src.toInstant());
+    }
+
+    private boolean hasText(String s) {
+        return s != null && !s.isBlank();
+    }
+}
@@ -1,20 +1,26 @@
 package com.moa.moa_backend.domain.digest.service;
 
+import com.moa.moa_backend.domain.digest.dto.DigestRefreshJobResponse;
 import com.moa.moa_backend.domain.digest.dto.StageDigestResponse;
 import com.moa.moa_backend.domain.digest.entity.StageDigest;
 import com.moa.moa_backend.domain.digest.llm.StageDigestGeneratorPort;
+import com.moa.moa_backend.domain.digest.repository.DigestReadQueryRepository;
 import com.moa.moa_backend.domain.digest.repository.StageDigestRepository;
+import com.moa.moa_backend.domain.digest.repository.projection.StageDigestReadView;
 import com.moa.moa_backend.domain.project.entity.Project;
 import com.moa.moa_backend.domain.project.repository.ProjectRepository;
 import com.moa.moa_backend.domain.scrap.repository.ScrapDigestQueryRepository;
 import com.moa.moa_backend.domain.scrap.repository.ScrapForDigestRepository;
+import com.moa.moa_backend.domain.scrap.repository.projection.DigestRefreshTarget;
 import com.moa.moa_backend.domain.scrap.repository.projection.ScrapForDigestView;
 import com.moa.moa_backend.global.error.ApiException;
 import com.moa.moa_backend.global.error.ErrorCode;
+import com.moa.moa_backend.global.llm.gemini.GeminiCircuitOpenException;
+import com.moa.moa_backend.global.lock.RefreshLockProvider;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 import java.time.Instant;
@@ -22,7 +28,8 @@ import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -30,11 +37,30 @@ public class StageDigestService {
 
     private static final int INPUT_SCRAPS_LIMIT = 20;
 
+    /**
+     * 증분 갱신(기존 요약 + 신규 스크랩만 전송) 사용 여부
+     */
+    @Value("${moa.digest.incremental.enabled:true}")
+    private boolean incrementalEnabled;
+
+    /**
+     * 증분 N회마다 1회는 full rebuild (증분 누적으로 인한 요약 드리프트 방지)
+     */
+    @Value("${moa.digest.incremental.full-rebuild-every:5}")
+    private int fullRebuildEvery;
+
+    /**
+     * 신규 스크랩이 이 개수를 넘으면 증분 대신 full rebuild
+     */
+    @Value("${moa.digest.incremental.max-new-scraps:10}")
+    private int incrementalMaxNewScraps;
+
     private static final int DIGEST_VERSION = 1;
     private static final ZoneOffset KST = ZoneOffset.ofHours(9);
 
     private final ProjectRepository projectRepository;
     private final StageDigestRepository stageDigestRepository;
+    private final DigestReadQueryRepository digestReadQueryRepository;
     private final ScrapDigestQueryRepository scrapDigestQueryRepository;
     private final ScrapForDigestRepository scrapForDigestRepository;
 
@@ -49,60 +75,68 @@ public class StageDigestService {
     private final DigestRefreshStatusCache refreshStatusCache;
 
     /**
-     * 유니크 단위로 “갱신 중” 상태 관리 (단일 인스턴스에서만 유효)
+     * 유니크 단위로 “갱신 중” 상태 관리
      * - 동일 (userId, projectId, stage) refresh 동시 수행 방지
+     * - moa.lock.provider=postgres 이면 노드 간에도 유효
+     */
+    private final RefreshLockProvider refreshLockProvider;
+
+    /**
+     * 비동기 refresh job 실행기 (bounded)
      */
-    private final ConcurrentHashMap<String, Boolean> inFlight = new ConcurrentHashMap<>();
+    private final DigestRefreshJobExecutor refreshJobExecutor;
 
     private String key(Long userId, Long projectId, String stage) {
         String s = (stage == null) ? "" : stage.trim();
-        return userId + ":" + projectId + ":" + s;
+        return "stage-digest:" + userId + ":" + projectId + ":" + s;
     }
 
     public StageDigestService(
             ProjectRepository projectRepository,
             StageDigestRepository stageDigestRepository,
+            DigestReadQueryRepository digestReadQueryRepository,
             ScrapDigestQueryRepository scrapDigestQueryRepository,
             ScrapForDigestRepository scrapForDigestRepository,
             StageDigestGeneratorPort digestGenerator,
             StageDigestWriter stageDigestWriter,
-            DigestRefreshStatusCache refreshStatusCache
+            DigestRefreshStatusCache refreshStatusCache,
+            RefreshLockProvider refreshLockProvider,
+            DigestRefreshJobExecutor refreshJobExecutor
     ) {
         this.projectRepository = projectRepository;
         this.stageDigestRepository = stageDigestRepository;
+        this.digestReadQueryRepository = digestReadQueryRepository;
         this.scrapDigestQueryRepository = scrapDigestQueryRepository;
         this.scrapForDigestRepository = scrapForDigestRepository;
         this.digestGenerator = digestGenerator;
         this.stageDigestWriter = stageDigestWriter;
         this.refreshStatusCache = refreshStatusCache;
+        this.refreshLockProvider = refreshLockProvider;
+        this.refreshJobExecutor = refreshJobExecutor;
     }
 
     // =========================
     // 조회 API (LLM 호출 없음)
+    // - 프로젝트/요약/최신 스크랩 시각을 쿼리 1번으로 조회 (트랜잭션 불필요)
     // =========================
-    @Transactional(readOnly = true)
     public StageDigestResponse getDigest(Long userId, Long projectId, String stage) {
-        Project project = getOwnedProjectOrThrow(userId, projectId);
+        StageDigestReadView row = digestReadQueryRepository.findStageDigestRead(userId, projectId, stage)
+                .orElseThrow(() -> new ApiException(ErrorCode.PROJECT_NOT_FOUND));
 
         // 최근 refresh 결과(있으면) meta.refresh로 내려주기
         StageDigestResponse.Refresh cachedRefresh = refreshStatusCache.getIfPresent(userId, projectId, stage);
 
-        Optional<StageDigest> digestOpt =
-                stageDigestRepository.findByUserIdAndProjectIdAndStage(userId, projectId, stage);
-
-        Instant latestScrapInstant =
-                scrapDigestQueryRepository.findLatestCapturedAt(userId, projectId, stage);
-
+        Instant latestScrapInstant = row.getLatestCapturedAt();
         OffsetDateTime latestScrapKst = toKst(latestScrapInstant);
 
         // digest 레코드가 아예 없으면
         // - 최신 스크랩이 존재한다면: “요약이 아직 없다”는 의미이므로 outdated=true로 두는 게 직관적
         // - 최신 스크랩이 없다면: 아무것도 없는 상태이므로 outdated=false
-        if (digestOpt.isEmpty()) {
+        if (row.getDigestId() == null) {
             boolean outdated = (latestScrapInstant != null);
 
             return new StageDigestResponse(
-                    new StageDigestResponse.ProjectDto(projectId, project.getName()),
+                    new StageDigestResponse.ProjectDto(projectId, row.getProjectName()),
                     stage,
                     null,
                     new StageDigestResponse.Meta(
@@ -117,21 +151,20 @@ public class StageDigestService {
             );
         }
 
-        StageDigest digest = digestOpt.get();
-        String markdown = digest.getDigestText();
+        String markdown = row.getDigestText();
         boolean exists = (markdown != null && !markdown.isBlank());
-        boolean outdated = exists && computeOutdated(digest.getSourceLastCapturedAt(), latestScrapInstant);
+        boolean outdated = exists && computeOutdated(row.getSourceLastCapturedAt(), latestScrapInstant);
 
         return new StageDigestResponse(
-                new StageDigestResponse.ProjectDto(projectId, project.getName()),
+                new StageDigestResponse.ProjectDto(projectId, row.getProjectName()),
                 stage,
                 exists ? markdown : null,
                 new StageDigestResponse.Meta(
                         exists,
                         outdated,
-                        digest.getSourceLastCapturedAt(),
+                        row.getSourceLastCapturedAt(),
                         latestScrapKst,
-                        digest.getUpdatedAt(),
+                        row.getUpdatedAt(),
                         DIGEST_VERSION,
                         cachedRefresh
                 )
@@ -146,208 +179,419 @@ public class StageDigestService {
     // =========================
     public StageDigestResponse refresh(Long userId, Long projectId, String stage) {
 
-        String lockKey = key(userId, projectId, stage);
-
         // 마지막 시도 시각
         OffsetDateTime attemptedAt = DigestRefreshStatusCache.nowKst();
 
         // 이미 처리 중이면 409
-        if (inFlight.putIfAbsent(lockKey, Boolean.TRUE) != null) {
-            throw new ApiException(ErrorCode.DIGEST_REFRESH_IN_PROGRESS);
+        RefreshLockProvider.RefreshLock lock = acquireOrThrow(userId, projectId, stage);
+
+        try {
+            return refreshLocked(userId, projectId, stage, attemptedAt, null, null);
+        } finally {
+            lock.close();
+        }
+    }
+
+    /**
+     * 스케줄러용 refresh
+     * - target 조회 쿼리가 소유권(projects join)/프로젝트명/최신 captured_at을 함께 돌려주므로
+     *   project, max(captured_at) 재조회 없이 바로 갱신한다.
+     */
+    public StageDigestResponse refresh(DigestRefreshTarget target) {
+        OffsetDateTime attemptedAt = DigestRefreshStatusCache.nowKst();
+
+        RefreshLockProvider.RefreshLock lock = acquireOrThrow(target.userId(), target.projectId(), target.stage());
+
+        try {
+            return refreshResolved(
+                    target.userId(), target.projectId(), target.stage(),
+                    target.projectName(), target.latestCapturedAt(),
+                    attemptedAt, null, null
+            );
+        } finally {
+            lock.close();
+        }
+    }
+
+    // =========================
+    // 비동기 갱신 API
+    // - 접수(소유권 확인 + 락 획득)만 요청 스레드에서 처리하고 즉시 202
+    // - LLM 호출은 DigestRefreshJobExecutor에서 수행
+    // - 진행/결과는 GET digest의 meta.refresh(status=RUNNING -> SUCCESS/FAILED/SKIPPED)로 노출
+    // =========================
+    public DigestRefreshJobResponse refreshAsync(Long userId, Long projectId, String stage) {
+
+        // 404는 접수 시점에 바로 응답
+        getOwnedProjectOrThrow(userId, projectId);
+
+        // 이미 처리 중이면 409 (락은 job 종료 시 해제)
+        RefreshLockProvider.RefreshLock lock = acquireOrThrow(userId, projectId, stage);
+
+        String jobId = UUID.randomUUID().toString();
+        OffsetDateTime acceptedAt = DigestRefreshStatusCache.nowKst();
+
+        StageDigestResponse.Refresh previous = refreshStatusCache.getIfPresent(userId, projectId, stage);
+        refreshStatusCache.put(userId, projectId, stage, refreshRunning(acceptedAt, jobId));
+
+        try {
+            refreshJobExecutor.submit(() -> {
+                try {
+                    refreshLocked(userId, projectId, stage, acceptedAt, jobId, null);
+                } catch (Exception e) {
+                    log.error("[DIGEST][JOB] refresh job failed. jobId={}, userId={}, projectId={}, stage={}",
+                            jobId, userId, projectId, stage, e);
+                    refreshStatusCache.put(userId, projectId, stage, refreshFailed(e, acceptedAt, jobId));
+                } finally {
+                    lock.close();
+                }
+            });
+        } catch (RuntimeException e) {
+            // 접수 실패(큐 가득 참 등): RUNNING 표시 원복 + 락 해제
+            if (previous != null) refreshStatusCache.put(userId, projectId, stage, previous);
+            else refreshStatusCache.evict(userId, projectId, stage);
+            lock.close();
+            throw e;
         }
 
+        log.info("[DIGEST][JOB] accepted. jobId={}, userId={}, projectId={}, stage={}",
+                jobId, userId, projectId, stage);
+
+        return new DigestRefreshJobResponse(jobId, "RUNNING", acceptedAt);
+    }
+
+    // =========================
+    // 스트리밍 갱신 API (SSE)
+    // - 접수(소유권 확인 + 락 획득)는 요청 스레드에서 처리 -> 404/409는 HTTP status로 응답
+    // - 생성 조각은 sink.chunk로 바로 전달, 저장/메타는 동기 refresh와 동일
+    // =========================
+    public void refreshStreaming(Long userId, Long projectId, String stage, DigestStreamSink<StageDigestResponse> sink) {
+        getOwnedProjectOrThrow(userId, projectId);
+
+        RefreshLockProvider.RefreshLock lock = acquireOrThrow(userId, projectId, stage);
+
+        OffsetDateTime attemptedAt = DigestRefreshStatusCache.nowKst();
+
         try {
-            Project project = getOwnedProjectOrThrow(userId, projectId);
+            refreshJobExecutor.submit(() -> {
+                try {
+                    sink.done(refreshLocked(userId, projectId, stage, attemptedAt, null, sink::chunk));
+                } catch (Exception e) {
+                    log.error("[DIGEST][STREAM] refresh stream failed. userId={}, projectId={}, stage={}",
+                            userId, projectId, stage, e);
+                    sink.error(e);
+                } finally {
+                    lock.close();
+                }
+            });
+        } catch (RuntimeException e) {
+            lock.close();
+            throw e;
+        }
+    }
+
+    private RefreshLockProvider.RefreshLock acquireOrThrow(Long userId, Long projectId, String stage) {
+        return refreshLockProvider.tryAcquire(key(userId, projectId, stage))
+                .orElseThrow(() -> new ApiException(ErrorCode.DIGEST_REFRESH_IN_PROGRESS));
+    }
 
-            Instant latestScrapInstant =
-                    scrapDigestQueryRepository.findLatestCapturedAt(userId, projectId, stage);
+    /**
+     * 락을 잡은 상태에서 실제 refresh 수행 (동기/비동기/스트리밍 공통)
+     * - jobId: 비동기 job이면 meta.refresh.jobId로 노출, 동기 호출은 null
+     * - onChunk: 스트리밍 호출이면 LLM 생성 조각 전달용, 그 외 null
+     */
+    private StageDigestResponse refreshLocked(
+            Long userId, Long projectId, String stage,
+            OffsetDateTime attemptedAt, String jobId, Consumer<String> onChunk
+    ) {
+        Project project = getOwnedProjectOrThrow(userId, projectId);
+
+        Instant latestScrapInstant =
+                scrapDigestQueryRepository.findLatestCapturedAt(userId, projectId, stage);
+
+        return refreshResolved(userId, projectId, stage, project.getName(), latestScrapInstant, attemptedAt, jobId, onChunk);
+    }
+
+    /**
+     * 프로젝트명/최신 스크랩 시각을 이미 알고 있을 때의 refresh 본문
+     * - 스케줄러는 target 조회 쿼리에서 둘 다 받아오므로 다시 조회하지 않는다.
+     */
+    private StageDigestResponse refreshResolved(
+            Long userId, Long projectId, String stage,
+            String projectName, Instant latestScrapInstant,
+            OffsetDateTime attemptedAt, String jobId, Consumer<String> onChunk
+    ) {
+
+        //스크랩 자체가 없으면: LLM 호출 불가 → SKIPPED 처리
+        if (latestScrapInstant == null) {
+            StageDigestResponse.Refresh refreshMeta = refreshSkipped(
+                    "NO_SCRAPS",
+                    "No scraps to digest.",
+                    attemptedAt,
+                    jobId
+            );
+            refreshStatusCache.put(userId, projectId, stage, refreshMeta);
+
+            return new StageDigestResponse(
+                    new StageDigestResponse.ProjectDto(projectId, projectName),
+                    stage,
+                    null,
+                    new StageDigestResponse.Meta(
+                            false,
+                            false,
+                            null,
+                            null,
+                            null,
+                            DIGEST_VERSION,
+                            refreshMeta
+                    )
+            );
+        }
+
+        OffsetDateTime latestScrapKst = toKst(latestScrapInstant);
+
+        // =========================
+        // 변경감지 -> 스킵
+        // =========================
+        Optional<StageDigest> existingOpt =
+                stageDigestRepository.findByUserIdAndProjectIdAndStage(userId, projectId, stage);
+
+        if (existingOpt.isPresent()) {
+            StageDigest existing = existingOpt.get();
+
+            boolean upToDate =
+                    existing.getSourceLastCapturedAt() != null &&
+                            !latestScrapInstant.isAfter(existing.getSourceLastCapturedAt().toInstant());
+
+            if (upToDate) {
+                log.info("[DIGEST] refresh skipped (up-to-date). userId={}, projectId={}, stage={}, latestScrap={}",
+                        userId, projectId, stage, latestScrapKst);
+
+                String text = existing.getDigestText();
+                boolean exists = (text != null && !text.isBlank());
 
-            //스크랩 자체가 없으면: LLM 호출 불가 → SKIPPED 처리
-            if (latestScrapInstant == null) {
                 StageDigestResponse.Refresh refreshMeta = refreshSkipped(
-                        "NO_SCRAPS",
-                        "No scraps to digest.",
-                        attemptedAt
+                        "NOT_OUTDATED",
+                        "Digest is up to date.",
+                        attemptedAt,
+                        jobId
                 );
                 refreshStatusCache.put(userId, projectId, stage, refreshMeta);
 
                 return new StageDigestResponse(
-                        new StageDigestResponse.ProjectDto(projectId, project.getName()),
+                        new StageDigestResponse.ProjectDto(projectId, projectName),
                         stage,
-                        null,
+                        exists ? text : null,
                         new StageDigestResponse.Meta(
-                                false,
-                                false,
-                                null,
-                                null,
-                                null,
+                                exists,
+                                false, // 최신이므로 outdated=false
+                                existing.getSourceLastCapturedAt(),
+                                latestScrapKst,
+                                existing.getUpdatedAt(),
                                 DIGEST_VERSION,
                                 refreshMeta
                         )
                 );
             }
+        }
 
-            OffsetDateTime latestScrapKst = toKst(latestScrapInstant);
-
-            // =========================
-            // 변경감지 -> 스킵
-            // =========================
-            Optional<StageDigest> existingOpt =
-                    stageDigestRepository.findByUserIdAndProjectIdAndStage(userId, projectId, stage);
-
-            if (existingOpt.isPresent()) {
-                StageDigest existing = existingOpt.get();
-
-                boolean upToDate =
-                        existing.getSourceLastCapturedAt() != null &&
-                                !latestScrapInstant.isAfter(existing.getSourceLastCapturedAt().toInstant());
-
-                if (upToDate) {
-                    log.info("[DIGEST] refresh skipped (up-to-date). userId={}, projectId={}, stage={}, latestScrap={}",
-                            userId, projectId, stage, latestScrapKst);
-
-                    String text = existing.getDigestText();
-                    boolean exists = (text != null && !text.isBlank());
-
-                    StageDigestResponse.Refresh refreshMeta = refreshSkipped(
-                            "NOT_OUTDATED",
-                            "Digest is up to date.",
-                            attemptedAt
-                    );
-                    refreshStatusCache.put(userId, projectId, stage, refreshMeta);
-
-                    return new StageDigestResponse(
-                            new StageDigestResponse.ProjectDto(projectId, project.getName()),
-                            stage,
-                            exists ? text : null,
-                            new StageDigestResponse.Meta(
-                                    exists,
-                                    false, // 최신이므로 outdated=false
-                                    existing.getSourceLastCapturedAt(),
-                                    latestScrapKst,
-                                    existing.getUpdatedAt(),
-                                    DIGEST_VERSION,
-                                    refreshMeta
-                            )
-                    );
-                }
-            }
+        // =========================
+        // 증분 가능 여부 -> 신규 스크랩만 조회
+        // =========================
+        StageDigest incrementBase = existingOpt.filter(this::canIncrement).orElse(null);
+        List<ScrapForDigestView> normalized = (incrementBase == null)
+                ? null
+                : findIncrementalInputs(userId, projectId, stage, incrementBase, latestScrapInstant);
+
+        final boolean incremental = (normalized != null);
+
+        // =========================
+        // (full rebuild) 스크랩 목록 조회 -> 입력 정규화
+        // =========================
+        if (!incremental) {
+            List<ScrapForDigestView> scraps = scrapForDigestRepository.findRecentForDigestUntil(
+                    userId, projectId, stage, latestScrapInstant, PageRequest.of(0, INPUT_SCRAPS_LIMIT)
+            );
+            normalized = normalizeInputs(scraps);
+        }
 
-            // =========================
-            // 스크랩 목록 조회 -> 입력 정규화
-            // =========================
-            List<ScrapForDigestView> scraps = scrapForDigestRepository.findRecentForDigest(
-                    userId, projectId, stage, PageRequest.of(0, INPUT_SCRAPS_LIMIT)
+        // LLM 호출 전에 "의미 있는 입력" 여부 컷
+        if (!hasMeaningfulInput(normalized)) {
+            log.debug("[DIGEST] refresh skipped (no meaningful scraps). userId={}, projectId={}, stage={}",
+                    userId, projectId, stage);
+
+            StageDigestResponse.Refresh refreshMeta = refreshSkipped(
+                    "NO_MEANINGFUL_INPUT",
+                    "No meaningful content to digest.",
+                    attemptedAt,
+                    jobId
             );
+            refreshStatusCache.put(userId, projectId, stage, refreshMeta);
 
-            List<ScrapForDigestView> normalized = scraps.stream()
-                    .map(s -> new ScrapForDigestView(
-                            s.scrapId(),
-                            s.stage(),
-                            s.subtitle(),
-                            s.memo(),
-                            DigestInputNormalizer.normalizeRawHtml(s.rawHtml()),
-                            s.capturedAt()
-                    ))
-                    .toList();
-
-            // LLM 호출 전에 "의미 있는 입력" 여부 컷
-            boolean hasAnyInput = normalized.stream().anyMatch(s ->
-                    (s.rawHtml() != null && !s.rawHtml().isBlank()) ||
-                            (s.subtitle() != null && !s.subtitle().isBlank()) ||
-                            (s.memo() != null && !s.memo().isBlank())
+            StageDigestResponse base = fallbackExistingDigest(
+                    userId, projectId, projectName, stage,
+                    latestScrapInstant, latestScrapKst,
+                    refreshMeta
             );
+            return base;
+        }
 
-            if (!hasAnyInput) {
-                log.debug("[DIGEST] refresh skipped (no meaningful scraps). userId={}, projectId={}, stage={}",
-                        userId, projectId, stage);
+        // =========================
+        // LLM 호출 (트랜잭션 밖)
+        // =========================
+        final String markdown;
+        try {
+            if (incremental) {
+                log.info("[DIGEST] incremental refresh. userId={}, projectId={}, stage={}, newScraps={}, incrementalCount={}",
+                        userId, projectId, stage, normalized.size(), incrementBase.getIncrementalCount());
+                markdown = (onChunk == null)
+                        ? digestGenerator.updateMarkdown(projectName, stage, incrementBase.getDigestText(), normalized)
+                        : digestGenerator.updateMarkdown(projectName, stage, incrementBase.getDigestText(), normalized, onChunk);
+            } else {
+                markdown = (onChunk == null)
+                        ? digestGenerator.generateMarkdown(projectName, stage, normalized)
+                        : digestGenerator.generateMarkdown(projectName, stage, normalized, onChunk);
+            }
+        } catch (Exception e) {
+            log.error("[DIGEST] refresh failed. userId={}, projectId={}, stage={}, scraps={}, incremental={}",
+                    userId, projectId, stage, normalized.size(), incremental, e);
 
-                StageDigestResponse.Refresh refreshMeta = refreshSkipped(
-                        "NO_MEANINGFUL_INPUT",
-                        "No meaningful content to digest.",
-                        attemptedAt
-                );
-                refreshStatusCache.put(userId, projectId, stage, refreshMeta);
+            //실패 시 meta.refresh로 내려주기
+            StageDigestResponse.Refresh refreshMeta = refreshFailed(e, attemptedAt, jobId);
+            refreshStatusCache.put(userId, projectId, stage, refreshMeta);
 
-                StageDigestResponse base = fallbackExistingDigest(
-                        userId, projectId, project.getName(), stage,
-                        latestScrapInstant, latestScrapKst,
-                        refreshMeta
-                );
-                return base;
-            }
+            // digest는 기존 걸 주거나 null이 될 수 있음
+            return fallbackExistingDigest(
+                    userId, projectId, projectName, stage,
+                    latestScrapInstant, latestScrapKst,
+                    refreshMeta
+            );
+        }
 
-            // =========================
-            // LLM 호출 (트랜잭션 밖)
-            // =========================
-            final String markdown;
-            try {
-                markdown = digestGenerator.generateMarkdown(project.getName(), stage, normalized);
-            } catch (Exception e) {
-                log.error("[DIGEST] refresh failed. userId={}, projectId={}, stage={}, scraps={}",
-                        userId, projectId, stage, normalized.size(), e);
-
-                //실패 시 meta.refresh로 내려주기
-                StageDigestResponse.Refresh refreshMeta = refreshFailed(e, attemptedAt);
-                refreshStatusCache.put(userId, projectId, stage, refreshMeta);
+        OffsetDateTime sourceLastCapturedAt = latestScrapKst;
 
-                // digest는 기존 걸 주거나 null이 될 수 있음
-                return fallbackExistingDigest(
-                        userId, projectId, project.getName(), stage,
-                        latestScrapInstant, latestScrapKst,
-                        refreshMeta
-                );
-            }
+        // =========================
+        // DB write만 짧게 트랜잭션
+        // =========================
+        StageDigest saved = incremental
+                ? stageDigestWriter.applyIncrement(userId, projectId, stage, markdown, sourceLastCapturedAt)
+                : stageDigestWriter.upsertDigest(userId, projectId, stage, markdown, sourceLastCapturedAt);
 
-            OffsetDateTime sourceLastCapturedAt = latestScrapKst;
+        StageDigestResponse.Refresh refreshMeta = refreshSuccess(attemptedAt, jobId);
+        refreshStatusCache.put(userId, projectId, stage, refreshMeta);
 
-            // =========================
-            // DB write만 짧게 트랜잭션
-            // =========================
-            StageDigest saved = stageDigestWriter.upsertDigest(
-                    userId, projectId, stage, markdown, sourceLastCapturedAt
-            );
+        return successResponse(projectId, projectName, stage, markdown, saved, latestScrapKst, refreshMeta);
+    }
 
-            StageDigestResponse.Refresh refreshMeta = refreshSuccess(attemptedAt);
-            refreshStatusCache.put(userId, projectId, stage, refreshMeta);
+    // =========================
+    // 입력 구성
+    // =========================
+
+    /**
+     * 증분 갱신 가능 조건
+     * - 기존 요약 텍스트 + 기준 시각이 있고
+     * - 마지막 full rebuild 이후 증분 횟수가 full-rebuild-every 미만
+     */
+    private boolean canIncrement(StageDigest existing) {
+        if (!incrementalEnabled) return false;
+        if (existing.getSourceLastCapturedAt() == null) return false;
+        String text = existing.getDigestText();
+        if (text == null || text.isBlank()) return false;
+        return existing.getIncrementalCount() < fullRebuildEvery;
+    }
+
+    /**
+     * 기존 요약 기준 시각 이후 ~ latestScrapInstant 까지의 신규 스크랩(정규화 완료)
+     * - 상한: 저장할 sourceLastCapturedAt과 같은 시각 -> 그 뒤에 커밋된 스크랩은 다음 증분에서 한 번만 반영
+     * - 신규가 너무 많거나 의미 있는 입력이 없으면 null -> full rebuild
+     */
+    private List<ScrapForDigestView> findIncrementalInputs(
+            Long userId, Long projectId, String stage, StageDigest base, Instant latestScrapInstant
+    ) {
+        List<ScrapForDigestView> newScraps = scrapForDigestRepository.findForDigestBetween(
+                userId, projectId, stage,
+                base.getSourceLastCapturedAt().toInstant(),
+                latestScrapInstant,
+                PageRequest.of(0, incrementalMaxNewScraps + 1)
+        );
 
-            return successResponse(projectId, project.getName(), stage, markdown, saved, latestScrapKst, refreshMeta);
+        if (newScraps.isEmpty() || newScraps.size() > incrementalMaxNewScraps) return null;
 
-        } finally {
-            inFlight.remove(lockKey);
-        }
+        List<ScrapForDigestView> normalized = normalizeInputs(newScraps);
+        return hasMeaningfulInput(normalized) ? normalized : null;
+    }
+
+    private List<ScrapForDigestView> normalizeInputs(List<ScrapForDigestView> scraps) {
+        return scraps.stream()
+                .map(DigestInputNormalizer::ensureNormalized)
+                .toList();
+    }
+
+    private boolean hasMeaningfulInput(List<ScrapForDigestView> normalized) {
+        return normalized.stream().anyMatch(s ->
+                (s.normalizedText() != null && !s.normalizedText().isBlank()) ||
+                        (s.subtitle() != null && !s.subtitle().isBlank()) ||
+                        (s.memo() != null && !s.memo().isBlank())
+        );
     }
 
     // =========================
     // Refresh Meta 생성
     // =========================
 
-    private StageDigestResponse.Refresh refreshSuccess(OffsetDateTime attemptedAt) {
+    private StageDigestResponse.Refresh refreshRunning(OffsetDateTime acceptedAt, String jobId) {
+        return new StageDigestResponse.Refresh(
+                "RUNNING",
+                null,
+                null,
+                null,
+                acceptedAt,
+                jobId
+        );
+    }
+
+    private StageDigestResponse.Refresh refreshSuccess(OffsetDateTime attemptedAt, String jobId) {
         return new StageDigestResponse.Refresh(
                 "SUCCESS",
                 null,
                 null,
                 null,
-                attemptedAt
+                attemptedAt,
+                jobId
         );
     }
 
-    private StageDigestResponse.Refresh refreshSkipped(String errorCode, String message, OffsetDateTime attemptedAt) {
+    private StageDigestResponse.Refresh refreshSkipped(
+            String errorCode, String message, OffsetDateTime attemptedAt, String jobId
+    ) {
         return new StageDigestResponse.Refresh(
                 "SKIPPED",
                 errorCode,
                 message,
                 null,
-                attemptedAt
+                attemptedAt,
+                jobId
         );
     }
 
     /**
      * LLM 실패를 표준화해서 meta.refresh에 넣기
      * - 429(Rate limit)면 RATE_LIMITED로 내려서 프론트/운영이 즉시 알 수 있게
+     * - circuit open(provider 장애)이면 PROVIDER_UNAVAILABLE + open 해제까지 남은 시간
      * - retryAfterSeconds는 권장 대기시간 힌트로 사용 예정 (스케줄러)
      */
-    private StageDigestResponse.Refresh refreshFailed(Throwable e, OffsetDateTime attemptedAt) {
+    private StageDigestResponse.Refresh refreshFailed(Throwable e, OffsetDateTime attemptedAt, String jobId) {
+        GeminiCircuitOpenException circuitOpen = findCause(e, GeminiCircuitOpenException.class);
+        if (circuitOpen != null) {
+            return new StageDigestResponse.Refresh(
+                    "FAILED",
+                    "PROVIDER_UNAVAILABLE",
+                    "LLM provider temporarily unavailable.",
+                    (int) Math.max(1, circuitOpen.getRetryAfter().toSeconds()),
+                    attemptedAt,
+                    jobId
+            );
+        }
+
         boolean rateLimited = isRateLimited(e);
 
         String errorCode = rateLimited ? "RATE_LIMITED" : "PROVIDER_ERROR";
@@ -365,10 +609,19 @@ public class StageDigestService {
                 errorCode,
                 message,
                 retryAfterSeconds,
-                attemptedAt
+                attemptedAt,
+                jobId
         );
     }
 
+    // cause 체인에서 type에 해당하는 첫 예외 (없으면 null)
+    private static <T extends Throwable> T findCause(Throwable e, Class<T> type) {
+        for (Throwable cur = e; cur != null; cur = cur.getCause()) {
+            if (type.isInstance(cur)) return type.cast(cur);
+        }
+        return null;
+    }
+
     /**
      * 429 판별 (가능한 넓게 잡음)
      * - WebClientResponseException.TooManyRequests(429)
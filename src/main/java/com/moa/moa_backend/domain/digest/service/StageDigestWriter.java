@@ -65,4 +65,28 @@ public class StageDigestWriter {
             return stageDigestRepository.save(nowExisting);
         }
     }
+
+    /**
+     * 증분 갱신 결과 반영 (기존 digest가 있을 때만 증분이 가능)
+     * - 그 사이 digest가 사라졌으면 일반 upsert(=full rebuild 취급)로 처리
+     */
+    @Transactional
+    public StageDigest applyIncrement(
+            Long userId,
+            Long projectId,
+            String stage,
+            String markdown,
+            OffsetDateTime sourceLastCapturedAt
+    ) {
+        Optional<StageDigest> existingOpt =
+                stageDigestRepository.findByUserIdAndProjectIdAndStage(userId, projectId, stage);
+
+        if (existingOpt.isEmpty()) {
+            return upsertDigest(userId, projectId, stage, markdown, sourceLastCapturedAt);
+        }
+
+        StageDigest existing = existingOpt.get();
+        existing.applyIncrement(markdown, sourceLastCapturedAt);
+        return stageDigestRepository.save(existing);
+    }
 }
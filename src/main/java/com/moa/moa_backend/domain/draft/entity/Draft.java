@@ -81,6 +81,16 @@ public class Draft {
         return d;
     }
 
+    /**
+     * JPA 밖 저장소(InMemoryDraftStore)에서 저장할 때 식별자 부여 (1회만)
+     */
+    public void assignId(Long id) {
+        if (this.id != null) {
+            throw new IllegalStateException("draft id already assigned: " + this.id);
+        }
+        this.id = id;
+    }
+
     public boolean isExpired(Instant now) {
         return expiredAt != null && expiredAt.isBefore(now);
     }
@@ -1,7 +1,7 @@
 package com.moa.moa_backend.domain.draft.entity;
 
 public enum RecMethod {
-    LLM, FALLBACK_RECENT, NONE
+    LLM, LLM_CACHED, LOCAL, FALLBACK_RECENT, NONE
 }
 /*
 * 1) 프로젝트 있음 + LLM 성공
@@ -15,6 +15,11 @@ public enum RecMethod {
 * projectId (recent 있으면 recent, 없으면 첫 프로젝트)
 * stage (recent stage or fixedStages[0])
 * subtitle (null)
+1-1) 같은 내용 + 같은 프로젝트 구성 + 같은 최근 맥락으로 이미 LLM 추천을 받은 적 있음
+* recMethod = LLM_CACHED (LLM 호출 없이 캐시 결과 재사용)
+1-2) 사용자 스크랩으로 학습한 로컬 모델의 확신도가 threshold 이상
+* recMethod = LOCAL (LLM 호출 없음)
+* projectId , stage , subtitle (null)
 4) 프로젝트 없음 + LLM 실패 >>>>> NONE
 * recMethod = NONE
 * projectId (null)
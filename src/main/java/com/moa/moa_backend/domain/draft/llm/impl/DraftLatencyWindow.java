@@ -0,0 +1,43 @@
+package com.moa.moa_backend.domain.draft.llm.impl;
+
+import java.util.Arrays;
+import java.util.OptionalLong;
+
+/**
+ * 최근 N건 draft LLM 호출 지연(ms) ring buffer
+ * - hedge 지연 기준(p90) 계산용
+ * - 취소된(hedge에 진) 호출은 "최소 이만큼 걸림"으로 기록해서 느린 쪽이 빠지지 않게 한다.
+ */
+final class DraftLatencyWindow {
+
+    private final long[] samples;
+    private final int minSamples;
+
+    // ---- 아래 상태는 this 모니터로 보호 ----
+    private int next;
+    private int count;
+
+    DraftLatencyWindow(int size, int minSamples) {
+        if (size <= 0) throw new IllegalArgumentException("size must be positive. size=" + size);
+        this.samples = new long[size];
+        this.minSamples = Math.min(Math.max(1, minSamples), size);
+    }
+
+    synchronized void record(long latencyMs) {
+        samples[next] = latencyMs;
+        next = (next + 1) % samples.length;
+        if (count < samples.length) count++;
+    }
+
+    /**
+     * 분위수 (nearest-rank), 표본이 minSamples 미만이면 empty
+     */
+    synchronized OptionalLong percentile(double q) {
+        if (count < minSamples) return OptionalLong.empty();
+
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(q * count);
+        return OptionalLong.of(sorted[Math.clamp(rank - 1, 0, count - 1)]);
+    }
+}
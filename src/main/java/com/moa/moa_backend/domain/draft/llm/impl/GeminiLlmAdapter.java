@@ -7,14 +7,24 @@ import com.moa.moa_backend.domain.draft.entity.RecMethod;
 import com.moa.moa_backend.domain.draft.llm.LlmRecommendationPort;
 import com.moa.moa_backend.global.error.ApiException;
 import com.moa.moa_backend.global.error.ErrorCode;
+import com.moa.moa_backend.global.llm.dispatch.LlmPriority;
+import com.moa.moa_backend.global.llm.dispatch.LlmPriorityContext;
+import com.moa.moa_backend.global.llm.gemini.GeminiCircuitOpenException;
 import com.moa.moa_backend.global.llm.gemini.GeminiClient;
 import com.moa.moa_backend.global.llm.gemini.GeminiClientException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -26,10 +36,46 @@ public class GeminiLlmAdapter implements LlmRecommendationPort {
     private final GeminiDraftCodec codec;             // prompt/parse 담당
     private final HeuristicLlmAdapter heuristicLlmAdapter;
 
-    public GeminiLlmAdapter(GeminiClient geminiClient, GeminiDraftCodec codec, HeuristicLlmAdapter heuristicLlmAdapter) {
+    // ===== hedging =====
+    // 전체 deadline 안에서 1차 호출이 p90 안에 안 오면 2차 호출을 보내고 먼저 온 응답 사용
+    private final long deadlineMs;
+    private final boolean hedgeEnabled;
+    private final long hedgeDefaultDelayMs;
+    private final long hedgeMinDelayMs;
+    private final long hedgeMinBudgetMs;
+    private final DraftLatencyWindow latencyWindow;
+
+    private final Counter requests;
+    private final Counter hedges;
+    private final Counter hedgeWins;
+
+    public GeminiLlmAdapter(
+            GeminiClient geminiClient,
+            GeminiDraftCodec codec,
+            HeuristicLlmAdapter heuristicLlmAdapter,
+            @Value("${moa.llm.draft.deadline-ms:2500}") long deadlineMs,
+            @Value("${moa.llm.draft.hedge.enabled:true}") boolean hedgeEnabled,
+            @Value("${moa.llm.draft.hedge.default-delay-ms:1200}") long hedgeDefaultDelayMs,
+            @Value("${moa.llm.draft.hedge.min-delay-ms:300}") long hedgeMinDelayMs,
+            @Value("${moa.llm.draft.hedge.min-budget-ms:500}") long hedgeMinBudgetMs,
+            @Value("${moa.llm.draft.hedge.window-size:200}") int windowSize,
+            @Value("${moa.llm.draft.hedge.min-samples:20}") int minSamples,
+            MeterRegistry meterRegistry
+    ) {
         this.geminiClient = geminiClient;
         this.codec = codec;
         this.heuristicLlmAdapter = heuristicLlmAdapter;
+        this.deadlineMs = deadlineMs;
+        this.hedgeEnabled = hedgeEnabled;
+        this.hedgeDefaultDelayMs = hedgeDefaultDelayMs;
+        this.hedgeMinDelayMs = hedgeMinDelayMs;
+        this.hedgeMinBudgetMs = hedgeMinBudgetMs;
+        this.latencyWindow = new DraftLatencyWindow(windowSize, minSamples);
+
+        this.requests = Counter.builder("moa.llm.draft.requests").register(meterRegistry);
+        this.hedges = Counter.builder("moa.llm.draft.hedges").register(meterRegistry);
+        this.hedgeWins = Counter.builder("moa.llm.draft.hedge-wins").register(meterRegistry);
+        Gauge.builder("moa.llm.draft.hedge-delay-ms", this, GeminiLlmAdapter::hedgeDelayMs).register(meterRegistry);
     }
 
     @Override
@@ -39,24 +85,97 @@ public class GeminiLlmAdapter implements LlmRecommendationPort {
         }
 
         try {
-            GeminiDraftCodec.RecommendInput input = toLlmInput(command);
-
-            String prompt = codec.buildPrompt(input);
-            String rawText = geminiClient.generateText(prompt);      // 공통 호출
-            GeminiDraftCodec.LlmResult llm = codec.parseResult(rawText);
-
-            Long projectId = normalizeProjectId(command, llm.projectId());
-            String stage = normalizeStage(command, llm.stage());
-            String subtitle = normalizeSubtitle(llm.subtitle());
-
-            return new DraftRecommendation(projectId, stage, subtitle, RecMethod.LLM);
+            String prompt = codec.buildPrompt(toLlmInput(command));
+            String rawText = hedgedText(prompt).block();      // 공통 호출 (최우선 슬롯 + hedging)
+            return toRecommendation(command, rawText);
 
+        } catch (GeminiCircuitOpenException e) {
+            // provider 장애 중: 호출 없이 바로 heuristic (건마다 stack trace 남기지 않음)
+            log.debug("[LLM] circuit open -> fallback. retryAfter={}", e.getRetryAfter());
+            return heuristicLlmAdapter.recommend(command);
         } catch (GeminiClientException e) {
             log.warn("[LLM] failed -> fallback. reason={}", e.getMessage(), e);
             return heuristicLlmAdapter.recommend(command);
         }
     }
 
+    /**
+     * deadline 안에서 hedging
+     * - 1차 호출 후 hedgeDelay(관측 p90)까지 응답이 없으면 2차 호출, 먼저 온 값을 쓰고 나머지는 취소
+     * - hedge에 쓸 시간이 min-budget보다 적으면 hedge 없이 1차만
+     * - circuit open은 hedge를 기다리지 않고 바로 실패
+     * - 실패/deadline 초과는 GeminiClientException (호출부에서 heuristic fallback)
+     */
+    private Mono<String> hedgedText(String prompt) {
+        requests.increment();
+
+        Duration deadline = Duration.ofMillis(deadlineMs);
+        Mono<Attempt> primary = attempt(prompt, deadline, false)
+                .onErrorResume(GeminiCircuitOpenException.class, e -> Mono.just(Attempt.rejected(e)));
+
+        long delayMs = hedgeDelayMs();
+        Mono<Attempt> race = primary;
+        if (hedgeEnabled && deadlineMs - delayMs >= hedgeMinBudgetMs) {
+            Mono<Attempt> hedge = attempt(prompt, Duration.ofMillis(deadlineMs - delayMs), true)
+                    .doOnSubscribe(s -> hedges.increment());
+            race = Mono.firstWithValue(primary, Mono.delay(Duration.ofMillis(delayMs)).then(hedge));
+        }
+
+        return race
+                .timeout(deadline)
+                .flatMap(a -> (a.rejected() != null) ? Mono.<String>error(a.rejected()) : Mono.just(a.text()))
+                .onErrorMap(e -> !(e instanceof GeminiClientException),
+                        e -> new GeminiClientException("Gemini draft call failed", e));
+    }
+
+    /**
+     * 호출 1건 (지연 기록 포함)
+     * - 우선순위는 조립 시점에 읽히므로 hedge 호출도 여기(호출 스레드)에서 미리 조립한다.
+     */
+    private Mono<Attempt> attempt(String prompt, Duration timeout, boolean hedge) {
+        Mono<String> call = LlmPriorityContext.with(LlmPriority.DRAFT,
+                () -> geminiClient.generateTextMono(prompt, timeout));
+
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+            return call
+                    .doOnSuccess(text -> latencyWindow.record(elapsedMs(startedAt)))
+                    .doOnCancel(() -> latencyWindow.record(elapsedMs(startedAt)))
+                    .map(text -> {
+                        if (hedge) hedgeWins.increment();
+                        return new Attempt(text, null);
+                    });
+        });
+    }
+
+    /**
+     * 관측 p90 (표본 부족하면 기본값), [min-delay, deadline] 범위로 제한
+     */
+    private long hedgeDelayMs() {
+        long p90 = latencyWindow.percentile(0.9).orElse(hedgeDefaultDelayMs);
+        return Math.clamp(p90, hedgeMinDelayMs, Math.max(hedgeMinDelayMs, deadlineMs));
+    }
+
+    private static long elapsedMs(long startedAtNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAtNanos);
+    }
+
+    private record Attempt(String text, GeminiCircuitOpenException rejected) {
+        static Attempt rejected(GeminiCircuitOpenException e) {
+            return new Attempt(null, e);
+        }
+    }
+
+    private DraftRecommendation toRecommendation(DraftRecommendCommand command, String rawText) {
+        GeminiDraftCodec.LlmResult llm = codec.parseResult(rawText);
+
+        Long projectId = normalizeProjectId(command, llm.projectId());
+        String stage = normalizeStage(command, llm.stage());
+        String subtitle = normalizeSubtitle(llm.subtitle());
+
+        return new DraftRecommendation(projectId, stage, subtitle, RecMethod.LLM);
+    }
+
     private GeminiDraftCodec.RecommendInput toLlmInput(DraftRecommendCommand command) {
         List<GeminiDraftCodec.ProjectItem> projects = (command.projects() == null)
                 ? List.of()
@@ -2,6 +2,9 @@ package com.moa.moa_backend.domain.draft.repository;
 
 import com.moa.moa_backend.domain.draft.entity.Draft;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
 import java.util.Optional;
@@ -13,4 +16,20 @@ public interface DraftRepository extends JpaRepository<Draft, Long> {
     long deleteByIdAndUserId(Long id, Long userId);
 
     Optional<Draft> findFirstByUserIdAndExpiredAtAfterOrderByCreatedAtDesc(Long userId, Instant now);
+
+    // =========================
+    // 만료 draft 정리 (idx_drafts_expired_at 순서로 limit건씩)
+    // =========================
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+        delete from drafts
+        where draft_id in (
+            select d.draft_id
+            from drafts d
+            where d.draft_expired_at < :cutoff
+            order by d.draft_expired_at
+            limit :limit
+        )
+    """, nativeQuery = true)
+    int deleteExpiredChunk(@Param("cutoff") Instant cutoff, @Param("limit") int limit);
 }
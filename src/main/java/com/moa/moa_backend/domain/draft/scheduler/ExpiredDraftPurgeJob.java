@@ -0,0 +1,126 @@
+package com.moa.moa_backend.domain.draft.scheduler;
+
+import com.moa.moa_backend.domain.draft.service.DraftPurgeWriter;
+import com.moa.moa_backend.global.lock.RefreshLockProvider;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 만료 draft 정리
+ * - draft는 1시간 TTL이지만 조회 시 걸러내기만 하므로, 주기적으로 실제 삭제한다.
+ * - 만료 직후는 남겨 둔다(grace): 그 사이 commit 요청은 404가 아닌 410(DRAFT_EXPIRED)을 받도록
+ * - batch-size건씩 청크 삭제 (청크마다 짧은 트랜잭션), 실행 1회당 time-budget 초과 시 다음 회차로
+ * - 멀티 인스턴스에서는 RefreshLockProvider로 한 노드만 실행
+ * <p>
+ * metrics
+ * - moa.draft.purge.deleted (삭제된 행 수)
+ * - moa.draft.purge.runs{result=completed|budget_exhausted|failed}
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "moa.draft.purge.enabled", havingValue = "true", matchIfMissing = true)
+public class ExpiredDraftPurgeJob {
+
+    private static final String LOCK_KEY = "draft-expired-purge";
+
+    private final DraftPurgeWriter draftPurgeWriter;
+    private final RefreshLockProvider refreshLockProvider;
+
+    private final Counter deletedCounter;
+    private final Counter completedRuns;
+    private final Counter budgetExhaustedRuns;
+    private final Counter failedRuns;
+
+    /**
+     * 청크 1회당 삭제 건수
+     */
+    @Value("${moa.draft.purge.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 실행 1회당 시간 예산 (청크 사이에 확인)
+     */
+    @Value("${moa.draft.purge.time-budget-ms:5000}")
+    private long timeBudgetMs;
+
+    /**
+     * 만료 후 이 시간이 지난 draft만 삭제
+     */
+    @Value("${moa.draft.purge.grace-minutes:60}")
+    private long graceMinutes;
+
+    public ExpiredDraftPurgeJob(
+            DraftPurgeWriter draftPurgeWriter,
+            RefreshLockProvider refreshLockProvider,
+            MeterRegistry meterRegistry
+    ) {
+        this.draftPurgeWriter = draftPurgeWriter;
+        this.refreshLockProvider = refreshLockProvider;
+
+        this.deletedCounter = Counter.builder("moa.draft.purge.deleted").register(meterRegistry);
+        this.completedRuns = runs(meterRegistry, "completed");
+        this.budgetExhaustedRuns = runs(meterRegistry, "budget_exhausted");
+        this.failedRuns = runs(meterRegistry, "failed");
+    }
+
+    private static Counter runs(MeterRegistry registry, String result) {
+        return Counter.builder("moa.draft.purge.runs")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${moa.draft.purge.interval-ms:300000}",
+            initialDelayString = "${moa.draft.purge.initial-delay-ms:60000}"
+    )
+    public void run() {
+        Optional<RefreshLockProvider.RefreshLock> lockOpt = refreshLockProvider.tryAcquire(LOCK_KEY);
+        if (lockOpt.isEmpty()) {
+            return;
+        }
+
+        Instant start = Instant.now();
+        Instant deadline = start.plusMillis(timeBudgetMs);
+        // 실행 중 만료되는 draft까지 쫓아가지 않도록 cutoff는 시작 시점 기준 고정
+        Instant cutoff = start.minus(Duration.ofMinutes(graceMinutes));
+
+        long deleted = 0;
+        int chunks = 0;
+        boolean drained = false;
+
+        try (RefreshLockProvider.RefreshLock ignored = lockOpt.get()) {
+            while (Instant.now().isBefore(deadline)) {
+                int n = draftPurgeWriter.deleteExpiredChunk(cutoff, batchSize);
+                deleted += n;
+                chunks++;
+                deletedCounter.increment(n);
+
+                if (n < batchSize) {
+                    drained = true;
+                    break;
+                }
+            }
+
+        } catch (Exception e) {
+            failedRuns.increment();
+            log.warn("[DRAFT][PURGE] expired draft purge failed. deleted={}, chunks={}", deleted, chunks, e);
+            return;
+        }
+
+        (drained ? completedRuns : budgetExhaustedRuns).increment();
+
+        if (deleted > 0 || !drained) {
+            log.info("[DRAFT][PURGE] expired drafts purged. deleted={}, chunks={}, drained={}, elapsedMs={}",
+                    deleted, chunks, drained, Duration.between(start, Instant.now()).toMillis());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.moa.moa_backend.domain.draft.service;
+
+import com.moa.moa_backend.domain.draft.dto.DraftRecommendCommand;
+import com.moa.moa_backend.domain.project.entity.Project;
+import com.moa.moa_backend.domain.project.repository.ProjectRepository;
+import com.moa.moa_backend.domain.scrap.repository.ScrapRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 드래프트 추천 입력 조회 (프로젝트 목록 + 최근 스크랩 맥락)
+ * - 트랜잭션은 "DB read" 구간만 짧게 잡는다. (LLM 호출은 이 트랜잭션이 끝난 뒤, 커넥션 없이)
+ */
+@RequiredArgsConstructor
+@Service
+public class DraftContextReader {
+
+    private final ProjectRepository projectRepository;
+    private final ScrapRepository scrapRepository;
+
+    /**
+     * @param projectSetVersion 추천 캐시 key용 프로젝트 구성 버전 (이번에 읽은 프로젝트 목록에서 계산)
+     */
+    public record DraftContext(
+            long projectSetVersion,
+            List<DraftRecommendCommand.ProjectOption> projects,
+            DraftRecommendCommand.RecentContext recentContext
+    ) {}
+
+    @Transactional(readOnly = true)
+    public DraftContext read(Long userId) {
+        // 1) 프로젝트 목록 조회 -> LLM 입력 projects
+        List<Project> projectRows = projectRepository.findAllByUserId(
+                userId,
+                Sort.by(Sort.Direction.DESC, "updatedAt")
+        );
+        List<DraftRecommendCommand.ProjectOption> projects = projectRows.stream()
+                .map(p -> new DraftRecommendCommand.ProjectOption(p.getId(), p.getName()))
+                .toList();
+        long projectSetVersion = projectSetVersionOf(projectRows);
+
+        // 2) 최근 scrap 컨텍스트 조회 -> LLM 입력 recentContext
+        DraftRecommendCommand.RecentContext recentContext = scrapRepository.findFirstByUserIdOrderByCapturedAtDesc(userId)
+                .map(s -> new DraftRecommendCommand.RecentContext(
+                        s.getProjectId(),
+                        s.getStage(),
+                        s.getCapturedAt()
+                ))
+                .orElse(null);
+
+        return new DraftContext(projectSetVersion, projects, recentContext);
+    }
+
+    /**
+     * 프로젝트 구성 버전 = 목록 (id, name, updatedAt) 해시
+     * - 추천 입력과 같은 조회 결과에서 계산 -> 생성/이름 변경/삭제가 커밋되면 다음 조회부터 다른 값 (캐시 miss)
+     * - DB에서 유도하므로 인스턴스 간에도 같은 값, 별도 상태 없음
+     * - 항목별 해시의 합: updatedAt이 같은 프로젝트의 정렬 순서에 영향받지 않음
+     */
+    static long projectSetVersionOf(List<Project> projects) {
+        long version = projects.size();
+        for (Project p : projects) {
+            long h = Objects.hashCode(p.getId());
+            h = 31 * h + Objects.hashCode(p.getName());
+            h = 31 * h + Objects.hashCode(p.getUpdatedAt());
+            version += h * 0x9E3779B97F4A7C15L;
+        }
+        return version;
+    }
+}
@@ -0,0 +1,25 @@
+package com.moa.moa_backend.domain.draft.service;
+
+import com.moa.moa_backend.domain.draft.repository.DraftRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+@RequiredArgsConstructor
+@Service
+public class DraftPurgeWriter {
+
+    private final DraftRepository draftRepository;
+
+    /**
+     * 만료 draft limit건 삭제 (청크마다 별도 트랜잭션 -> row lock/WAL을 짧게 유지)
+     *
+     * @return 실제 삭제된 행 수
+     */
+    @Transactional
+    public int deleteExpiredChunk(Instant cutoff, int limit) {
+        return draftRepository.deleteExpiredChunk(cutoff, limit);
+    }
+}
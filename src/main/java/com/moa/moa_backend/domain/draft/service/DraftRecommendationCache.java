@@ -0,0 +1,99 @@
+package com.moa.moa_backend.domain.draft.service;
+
+import com.moa.moa_backend.domain.draft.dto.DraftRecommendCommand;
+import com.moa.moa_backend.domain.draft.dto.DraftRecommendation;
+import com.moa.moa_backend.domain.draft.entity.RecMethod;
+import com.moa.moa_backend.global.cache.BoundedTtlCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 드래프트 추천 결과 캐시
+ * - key: (userId, 정규화한 contentPlain 해시, 출처(aiSource/aiSourceUrl), 프로젝트 구성 버전, 최근 맥락)
+ * - 출처도 프롬프트에 들어가므로 key에 포함 (같은 내용이라도 출처가 다르면 다른 추천일 수 있음)
+ * - LLM 추천만 저장 (fallback 결과는 LLM이 회복되면 더 나은 추천이 가능하므로 저장 안 함)
+ * - hit은 recMethod=LLM_CACHED로 돌려준다 (수락률 분석에서 실제 호출과 구분)
+ */
+@Component
+public class DraftRecommendationCache {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private record Key(
+            Long userId,
+            String contentHash,
+            String aiSource,
+            String aiSourceUrl,
+            long projectSetVersion,
+            Long recentProjectId,
+            String recentStage
+    ) {}
+
+    private final boolean enabled;
+    private final BoundedTtlCache<Key, DraftRecommendation> cache;
+
+    public DraftRecommendationCache(
+            @Value("${moa.draft.rec-cache.enabled:true}") boolean enabled,
+            @Value("${moa.draft.rec-cache.max-size:10000}") int maxSize,
+            @Value("${moa.draft.rec-cache.ttl-minutes:60}") long ttlMinutes,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.cache = new BoundedTtlCache<>("draft-recommendation", maxSize, Duration.ofMinutes(ttlMinutes), meterRegistry);
+    }
+
+    public Optional<DraftRecommendation> get(DraftRecommendCommand command, long projectSetVersion) {
+        if (!enabled) return Optional.empty();
+
+        DraftRecommendation rec = cache.getIfPresent(keyOf(command, projectSetVersion));
+        if (rec == null) return Optional.empty();
+
+        return Optional.of(new DraftRecommendation(rec.projectId(), rec.stage(), rec.subtitle(), RecMethod.LLM_CACHED));
+    }
+
+    public void put(DraftRecommendCommand command, long projectSetVersion, DraftRecommendation rec) {
+        if (!enabled || rec.recMethod() != RecMethod.LLM) return;
+        cache.put(keyOf(command, projectSetVersion), rec);
+    }
+
+    @Scheduled(fixedDelayString = "${moa.draft.rec-cache.sweep-interval-ms:60000}")
+    void sweepExpired() {
+        cache.sweepExpired();
+    }
+
+    private static Key keyOf(DraftRecommendCommand command, long projectSetVersion) {
+        DraftRecommendCommand.RecentContext recent = command.recentContext();
+        return new Key(
+                command.userId(),
+                fingerprint(command.contentPlain()),
+                command.aiSource(),
+                command.aiSourceUrl(),
+                projectSetVersion,
+                (recent == null) ? null : recent.projectId(),
+                (recent == null) ? null : recent.stage()
+        );
+    }
+
+    /**
+     * 공백 차이만 있는 내용은 같은 key (trim + 연속 공백 1칸)
+     */
+    static String fingerprint(String contentPlain) {
+        String normalized = (contentPlain == null) ? "" : WHITESPACE.matcher(contentPlain.strip()).replaceAll(" ");
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(md.digest(normalized.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -4,26 +4,27 @@ import com.moa.moa_backend.domain.draft.dto.*;
 import com.moa.moa_backend.domain.draft.entity.Draft;
 import com.moa.moa_backend.domain.draft.entity.DraftStage;
 import com.moa.moa_backend.domain.draft.llm.LlmRecommendationPort;
-import com.moa.moa_backend.domain.draft.repository.DraftRepository;
-import com.moa.moa_backend.domain.project.repository.ProjectRepository;
-import com.moa.moa_backend.domain.scrap.repository.ScrapRepository;
+import com.moa.moa_backend.domain.draft.store.DraftStore;
+import com.moa.moa_backend.domain.scrap.repository.ScrapDraftCommitRepository;
 import com.moa.moa_backend.domain.scrap.service.ScrapService;
 import com.moa.moa_backend.global.error.ApiException;
 import com.moa.moa_backend.global.error.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Sort;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Draft
  * 확장프로그램에서 스크랩한 내용을 임시 저장하고 LLM을 통해 프로젝트/단계/소제목을 추천받은 후
  * 사용자 확정 시 실제 Scrap으로 변환하는 역할
+ * - draft 저장 위치는 DraftStore 구현에 따름 (moa.draft.store.type = jpa | memory)
  */
 @Slf4j
 @RequiredArgsConstructor
@@ -32,52 +33,49 @@ public class DraftService {
 
     private static final Duration DRAFT_TTL = Duration.ofHours(1);
 
-    private final DraftRepository draftRepository;
-    private final ProjectRepository projectRepository;
-    private final ScrapRepository scrapRepository;
+    private final DraftStore draftStore;
+    private final DraftContextReader draftContextReader;
     private final LlmRecommendationPort llmRecommendationPort;
     private final ScrapService scrapService;
+    private final DraftRecommendationCache recommendationCache;
+    private final LocalDraftClassifier localDraftClassifier;
 
+    /**
+     * commit을 CTE 1문장으로 처리 (Postgres + jpa 저장소일 때만, 아니면 기존 경로)
+     */
+    @Value("${moa.draft.commit.single-statement:false}")
+    private boolean singleStatementCommit;
 
     /**
      * 드래프트 생성 및 LLM 추천
      * 1. 사용자의 프로젝트 목록 조회 (LLM이 선택할 수 있도록)
      * 2. 최근 스크랩 컨텍스트 조회 (이전 작업 패턴 파악)
-     * 3. LLM에게 추천 요청 (프로젝트, 단계, 소제목)
+     * 3. LLM에게 추천 요청 (프로젝트, 단계, 소제목) - 같은 내용/프로젝트 구성/최근 맥락이면 캐시 재사용
+     *    - 캐시 miss면 로컬 모델을 먼저 시도하고, 확신도가 낮을 때만 LLM 호출
      * 4. 추천 결과를 포함한 Draft 저장 (1시간 TTL)
+     * <p>
+     * 트랜잭션을 걸지 않는다: 1~2는 읽기 트랜잭션(DraftContextReader), 4는 save 단건 트랜잭션으로 짧게 끝내고
+     * 3(LLM 왕복, 최대 수 초)은 커넥션 없이 실행 (LLM 대기 동안 Hikari 커넥션을 점유하지 않도록)
      *
      * @param userId 사용자 ID
      * @param req 스크랩한 원본 내용 (텍스트, 코드, URL 등)
      * @return Draft ID와 추천 결과
      */
-    @Transactional
     public DraftCreateResponse createDraft(Long userId, DraftCreateRequest req) {
         Instant now = Instant.now();
         Instant expiredAt = now.plus(DRAFT_TTL);
 
-        // 1) 프로젝트 목록 조회 -> LLM 입력 projects
-        var projectEntities = projectRepository.findAllByUserId(
-                userId,
-                Sort.by(Sort.Direction.DESC, "updatedAt")
-        );
-        List<DraftRecommendCommand.ProjectOption> projects = projectEntities.stream()
-                .map(p -> new DraftRecommendCommand.ProjectOption(p.getId(), p.getName()))
-                .toList();
-
-        // 2) 최근 scrap 컨텍스트 조회 -> LLM 입력 recentContext
-        DraftRecommendCommand.RecentContext recentContext = scrapRepository.findFirstByUserIdOrderByCapturedAtDesc(userId)
-                .map(s -> new DraftRecommendCommand.RecentContext(
-                        s.getProjectId(),
-                        s.getStage(),
-                        s.getCapturedAt()
-                ))
-                .orElse(null);
+        // 1) ~ 2) 프로젝트 목록 + 최근 scrap 컨텍스트 (짧은 읽기 트랜잭션)
+        DraftContextReader.DraftContext context = draftContextReader.read(userId);
+        long projectSetVersion = context.projectSetVersion();
+        List<DraftRecommendCommand.ProjectOption> projects = context.projects();
+        DraftRecommendCommand.RecentContext recentContext = context.recentContext();
 
         // 3) fixedStages -> 작업단계 서버 고정 목록)
         List<String> fixedStages = DraftStage.FIXED_STAGES;
 
 
-        // 4) LLM 추천 실행
+        // 4) LLM 추천 실행 (트랜잭션 밖)
         DraftRecommendCommand command = new DraftRecommendCommand(
                 userId,
                 req.contentPlain(),
@@ -89,7 +87,13 @@ public class DraftService {
                 now
         );
 
-        DraftRecommendation rec = llmRecommendationPort.recommend(command);
+        DraftRecommendation rec = recommendationCache.get(command, projectSetVersion)
+                .or(() -> localDraftClassifier.recommend(command))
+                .orElseGet(() -> {
+                    DraftRecommendation fresh = llmRecommendationPort.recommend(command);
+                    if (fresh != null) recommendationCache.put(command, projectSetVersion, fresh);
+                    return fresh;
+                });
 
         if (rec == null) {
             log.error("[DRAFT] recommendation is null: userId={}, projectsSize={}, recentProjectId={}",
@@ -102,8 +106,8 @@ public class DraftService {
 
 
 
-        // 5) drafts 저장
-        Draft saved = draftRepository.save(Draft.create(
+        // 5) drafts 저장 (DraftStore: jpa면 save 단건 트랜잭션, memory면 DB 없음)
+        Draft saved = draftStore.save(Draft.create(
                 userId,
                 req.contentPlain(),
                 req.aiSource(),
@@ -135,11 +139,10 @@ public class DraftService {
      * @return 만료되지 않은 가장 최근 Draft 정보
      * @throws RuntimeException Draft가 없거나 모두 만료된 경우 404
      */
-    @Transactional(readOnly = true)
     public DraftLatestResponse getLatestDraft(Long userId) {
         Instant now = Instant.now();
 
-        Draft d = draftRepository.findFirstByUserIdAndExpiredAtAfterOrderByCreatedAtDesc(userId, now)
+        Draft d = draftStore.findLatest(userId, now)
                 .orElseThrow(()-> new ApiException(ErrorCode.DRAFT_NOT_FOUND));
 
         return new DraftLatestResponse(
@@ -158,6 +161,10 @@ public class DraftService {
      * 2. 사용자가 제출한 데이터 검증
      * 3. Scrap 엔티티 생성 및 저장
      * 4. Draft 삭제 (같은 트랜잭션)
+     * <p>
+     * moa.draft.commit.single-statement=true + jpa 저장소면 1~4를 SQL 1문장으로 (조회/insert/delete 왕복 없이)
+     * - 응답 코드는 같다: draft 없음 404, 만료 410, 프로젝트 없음 404, 동시 commit 409
+     * - DB를 보지 않는 입력 검증에 걸리면 기존 경로로 처리 (draft 404/410이 입력 400보다 먼저인 순서 유지)
      *
      * @param userId 사용자 ID
      * @param draftId 확정할 Draft ID
@@ -168,9 +175,17 @@ public class DraftService {
     public DraftCommitResponse commit(Long userId, Long draftId, DraftCommitRequest req) {
         Instant now = Instant.now();
 
+        if (singleStatementCommit && draftStore.isTableBacked()) {
+            Optional<ScrapDraftCommitRepository.Result> result =
+                    scrapService.createFromDraftCommitInSingleStatement(userId, draftId, req, now);
+            if (result.isPresent()) {
+                return new DraftCommitResponse(scrapIdOf(result.get()));
+            }
+        }
+
         // Draft 조회 (존재 여부 + 소유자 확인)
         // 소유자 불일치도 404로 처리
-        Draft draft = draftRepository.findByIdAndUserId(draftId, userId)
+        Draft draft = draftStore.findByIdAndUserId(draftId, userId)
                 .orElseThrow(() -> new ApiException(ErrorCode.DRAFT_NOT_FOUND));
 
 
@@ -188,7 +203,7 @@ public class DraftService {
         );
 
         // draft 삭제 (같은 트랜잭션) -> Scrap 저장 성공 시에만 Draft 삭제됨
-        long deleted = draftRepository.deleteByIdAndUserId(draftId, userId);
+        long deleted = draftStore.deleteByIdAndUserId(draftId, userId);
         if (deleted == 0) {
             throw new ApiException(ErrorCode.DRAFT_ALREADY_COMMITTED);
         }
@@ -196,15 +211,26 @@ public class DraftService {
         return new DraftCommitResponse(scrapId);
     }
 
+    /**
+     * 단일 statement 결과 -> 기존 경로와 같은 순서로 에러 판정
+     * - 409면 예외로 트랜잭션이 롤백되어 insert된 scrap도 남지 않는다.
+     */
+    private static Long scrapIdOf(ScrapDraftCommitRepository.Result r) {
+        if (!r.draftFound()) throw new ApiException(ErrorCode.DRAFT_NOT_FOUND);
+        if (!r.draftAlive()) throw new ApiException(ErrorCode.DRAFT_EXPIRED);
+        if (!r.projectFound()) throw new ApiException(ErrorCode.PROJECT_NOT_FOUND);
+        if (r.scrapId() == null || r.deleted() == 0) throw new ApiException(ErrorCode.DRAFT_ALREADY_COMMITTED);
+        return r.scrapId();
+    }
+
     /**
      * 드래프트 삭제 (멱등: 없어도 204)
      *
      * @param userId 사용자 ID
      * @param draftId 삭제할 Draft ID
      */
-    @Transactional
     public void deleteDraft(Long userId, Long draftId) {
-        draftRepository.deleteByIdAndUserId(draftId, userId);
+        draftStore.deleteByIdAndUserId(draftId, userId);
 
     }
 }
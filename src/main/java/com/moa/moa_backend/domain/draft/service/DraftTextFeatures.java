@@ -0,0 +1,101 @@
+package com.moa.moa_backend.domain.draft.service;
+
+import java.util.Arrays;
+
+/**
+ * 로컬 분류기용 텍스트 feature 추출 (문자열 token 대신 int hash)
+ * - 영문/숫자: 소문자 단어 (2자 이상)
+ * - 한글: 음절 bigram (조사/어미가 붙어도 어간 bigram은 유지됨, 1음절 단어는 unigram)
+ * - 그 외 문자는 구분자
+ * - 결과는 정렬 + 중복 제거 (문서 내 빈도 대신 등장 여부만 사용, 짧은 스크랩에서 더 안정적)
+ */
+final class DraftTextFeatures {
+
+    private static final int FNV_OFFSET = 0x811C9DC5;
+    private static final int FNV_PRIME = 0x01000193;
+
+    // token 종류별 seed (같은 문자열이라도 단어/bigram이 섞이지 않도록)
+    private static final int WORD_SEED = FNV_OFFSET;
+    private static final int HANGUL_SEED = FNV_OFFSET ^ 0x5BD1E995;
+
+    private DraftTextFeatures() {}
+
+    static int[] extract(String text, int maxChars) {
+        if (text == null || text.isEmpty()) return new int[0];
+
+        int limit = Math.min(text.length(), maxChars);
+        int[] out = new int[16];
+        int n = 0;
+
+        int i = 0;
+        while (i < limit) {
+            char c = text.charAt(i);
+
+            if (isHangul(c)) {
+                int start = i;
+                while (i < limit && isHangul(text.charAt(i))) i++;
+                int len = i - start;
+                if (len == 1) {
+                    out = ensure(out, n + 1);
+                    out[n++] = finish(mix(HANGUL_SEED, text.charAt(start)));
+                } else {
+                    out = ensure(out, n + len - 1);
+                    for (int j = start; j < i - 1; j++) {
+                        out[n++] = finish(mix(mix(HANGUL_SEED, text.charAt(j)), text.charAt(j + 1)));
+                    }
+                }
+            } else if (isWordChar(c)) {
+                int h = WORD_SEED;
+                int len = 0;
+                while (i < limit && isWordChar(text.charAt(i))) {
+                    h = mix(h, Character.toLowerCase(text.charAt(i)));
+                    len++;
+                    i++;
+                }
+                if (len >= 2) {
+                    out = ensure(out, n + 1);
+                    out[n++] = finish(h);
+                }
+            } else {
+                i++;
+            }
+        }
+
+        return distinct(out, n);
+    }
+
+    private static boolean isHangul(char c) {
+        return c >= '\uAC00' && c <= '\uD7A3';   // 가 ~ 힣
+    }
+
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    private static int mix(int h, char c) {
+        return (h ^ c) * FNV_PRIME;
+    }
+
+    // 0은 FeatureCounts의 빈 슬롯 표시로 쓰므로 피한다
+    private static int finish(int h) {
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        return (h == 0) ? 1 : h;
+    }
+
+    private static int[] ensure(int[] arr, int required) {
+        if (required <= arr.length) return arr;
+        return Arrays.copyOf(arr, Math.max(required, arr.length * 2));
+    }
+
+    private static int[] distinct(int[] arr, int n) {
+        if (n == 0) return new int[0];
+        Arrays.sort(arr, 0, n);
+        int w = 1;
+        for (int r = 1; r < n; r++) {
+            if (arr[r] != arr[w - 1]) arr[w++] = arr[r];
+        }
+        return Arrays.copyOf(arr, w);
+    }
+}
@@ -0,0 +1,240 @@
+package com.moa.moa_backend.domain.draft.service;
+
+import com.moa.moa_backend.domain.draft.dto.DraftRecommendCommand;
+import com.moa.moa_backend.domain.draft.dto.DraftRecommendation;
+import com.moa.moa_backend.domain.draft.entity.RecMethod;
+import com.moa.moa_backend.domain.scrap.repository.ScrapRepository;
+import com.moa.moa_backend.domain.scrap.service.ScrapCommittedEvent;
+import com.moa.moa_backend.global.cache.BoundedTtlCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 사용자별 로컬 (project, stage) 추천 - LLM 호출 전 fast path
+ * - 모델: 사용자가 확정한 스크랩(subtitle + memo + normalizedText)으로 학습한 naive Bayes
+ * - 첫 조회 시 최근 스크랩으로 학습 (bootstrap), 이후 커밋 이벤트로 1건씩 누적
+ *   (bootstrap 도중 도착한 이벤트는 모아 두었다가 bootstrap 결과에 없는 것만 반영)
+ * - 1등 label의 log-likelihood 우위(feature당 nats)가 min-margin 이상일 때만 추천 (recMethod=LOCAL)
+ *   아니면 empty -> LLM. naive Bayes 사후확률은 feature 독립 가정 때문에 거의 항상 1에 붙어 판정에 쓰지 않는다
+ * - subtitle은 만들지 않는다 (null) -> 기본 꺼짐, 적중률/수정률 측정 후 켠다
+ * <p>
+ * 학습 가중치 (user_rec_* 신호)
+ * - 추천을 그대로 수락: 1
+ * - 프로젝트/단계를 사용자가 고침: correctedWeight (추천이 틀린 내용이므로 더 강하게 반영)
+ * <p>
+ * 메모리: 사용자 수(max-users) x vocabulary(max-vocabulary) 상한, TTL 지나면 DB에서 다시 학습
+ */
+@Slf4j
+@Component
+public class LocalDraftClassifier {
+
+    private final ScrapRepository scrapRepository;
+
+    private final boolean enabled;
+    private final double minMargin;
+    private final int minDocs;
+    private final int minFeatures;
+    private final int maxChars;
+    private final int bootstrapScraps;
+    private final int maxVocabulary;
+    private final double correctedWeight;
+
+    private final BoundedTtlCache<Long, NaiveBayesModel> models;
+
+    // bootstrap 진행 중인 사용자 -> 그 사이 도착한 커밋 이벤트
+    private final ConcurrentMap<Long, List<ScrapCommittedEvent>> pendingBootstraps = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter lowConfidenceCounter;
+    private final Counter untrainedCounter;
+    private final Counter shortInputCounter;
+
+    public LocalDraftClassifier(
+            ScrapRepository scrapRepository,
+            @Value("${moa.draft.local-classifier.enabled:false}") boolean enabled,
+            @Value("${moa.draft.local-classifier.min-margin:0.3}") double minMargin,
+            @Value("${moa.draft.local-classifier.min-docs:20}") int minDocs,
+            @Value("${moa.draft.local-classifier.min-features:5}") int minFeatures,
+            @Value("${moa.draft.local-classifier.max-chars:2000}") int maxChars,
+            @Value("${moa.draft.local-classifier.bootstrap-scraps:300}") int bootstrapScraps,
+            @Value("${moa.draft.local-classifier.max-vocabulary:20000}") int maxVocabulary,
+            @Value("${moa.draft.local-classifier.corrected-weight:2.0}") double correctedWeight,
+            @Value("${moa.draft.local-classifier.max-users:2000}") int maxUsers,
+            @Value("${moa.draft.local-classifier.ttl-hours:24}") long ttlHours,
+            MeterRegistry meterRegistry
+    ) {
+        this.scrapRepository = scrapRepository;
+        this.enabled = enabled;
+        this.minMargin = minMargin;
+        this.minDocs = minDocs;
+        this.minFeatures = minFeatures;
+        this.maxChars = maxChars;
+        this.bootstrapScraps = bootstrapScraps;
+        this.maxVocabulary = maxVocabulary;
+        this.correctedWeight = correctedWeight;
+        this.models = new BoundedTtlCache<>("draft-local-classifier", maxUsers, Duration.ofHours(ttlHours), meterRegistry);
+
+        this.hitCounter = predictions(meterRegistry, "hit");
+        this.lowConfidenceCounter = predictions(meterRegistry, "low_confidence");
+        this.untrainedCounter = predictions(meterRegistry, "untrained");
+        this.shortInputCounter = predictions(meterRegistry, "short_input");
+    }
+
+    private static Counter predictions(MeterRegistry registry, String result) {
+        return Counter.builder("moa.draft.local-classifier.predictions")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    /**
+     * @return margin이 min-margin 이상인 추천이 있으면 recMethod=LOCAL, 없으면 empty (LLM으로 진행)
+     */
+    public Optional<DraftRecommendation> recommend(DraftRecommendCommand command) {
+        if (!enabled || command.projects() == null || command.projects().isEmpty()) return Optional.empty();
+
+        int[] features = DraftTextFeatures.extract(command.contentPlain(), maxChars);
+        if (features.length < minFeatures) {
+            shortInputCounter.increment();
+            return Optional.empty();
+        }
+
+        Set<Long> projectIds = new HashSet<>();
+        for (DraftRecommendCommand.ProjectOption p : command.projects()) projectIds.add(p.projectId());
+        List<String> stages = command.fixedStages();
+
+        NaiveBayesModel model = modelFor(command.userId());
+        NaiveBayesModel.Prediction prediction;
+        synchronized (model) {
+            if (model.docCount() < minDocs) {
+                untrainedCounter.increment();
+                return Optional.empty();
+            }
+            prediction = model.predict(features,
+                    label -> projectIds.contains(label.projectId()) && stages.contains(label.stage()));
+        }
+
+        if (prediction == null || prediction.margin() < minMargin) {
+            lowConfidenceCounter.increment();
+            return Optional.empty();
+        }
+
+        hitCounter.increment();
+        log.debug("[DRAFT] local recommendation: userId={}, projectId={}, stage={}, margin={}",
+                command.userId(), prediction.projectId(), prediction.stage(), prediction.margin());
+
+        return Optional.of(new DraftRecommendation(
+                prediction.projectId(),
+                prediction.stage(),
+                null,
+                RecMethod.LOCAL
+        ));
+    }
+
+    /**
+     * 커밋된 스크랩 1건 학습
+     * - bootstrap 중인 사용자는 pending에 쌓아 두고 bootstrap 끝에 반영
+     * - 아직 모델도 bootstrap도 없는 사용자는 건너뜀 (다음 조회 때 bootstrap에 이 스크랩도 포함됨)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onScrapCommitted(ScrapCommittedEvent event) {
+        if (!enabled) return;
+
+        NaiveBayesModel model = models.getIfPresent(event.userId());
+        if (model == null) {
+            boolean buffered = pendingBootstraps.computeIfPresent(event.userId(), (id, events) -> {
+                events.add(event);
+                return events;
+            }) != null;
+            if (buffered) return;
+
+            // bootstrap이 방금 끝났으면 모델이 생겨 있다
+            model = models.getIfPresent(event.userId());
+            if (model == null) return;
+        }
+        learn(model, event);
+    }
+
+    private void learn(NaiveBayesModel model, ScrapCommittedEvent event) {
+        int[] features = features(event.subtitle(), event.memo(), event.normalizedText());
+        synchronized (model) {
+            model.learn(event.projectId(), event.stage(), features,
+                    weightOf(event.userRecProject(), event.userRecStage()));
+        }
+    }
+
+    private NaiveBayesModel modelFor(Long userId) {
+        NaiveBayesModel cached = models.getIfPresent(userId);
+        if (cached != null) return cached;
+
+        // 같은 사용자 동시 bootstrap은 드물고 결과도 같으므로 중복 학습을 허용 (나중 put이 남음)
+        // 조회 전에 pending을 등록해야 조회와 put 사이에 커밋된 스크랩을 놓치지 않는다
+        pendingBootstraps.putIfAbsent(userId, new ArrayList<>());
+
+        NaiveBayesModel model = new NaiveBayesModel(maxVocabulary);
+        Set<Long> bootstrappedScrapIds = new HashSet<>();
+        List<ScrapRepository.ClassifierTrainingRow> rows = scrapRepository.findClassifierTrainingRows(
+                userId, maxChars, PageRequest.of(0, bootstrapScraps));
+
+        // 시간순 학습 (이후 이벤트 학습과 같은 순서)
+        for (int i = rows.size() - 1; i >= 0; i--) {
+            ScrapRepository.ClassifierTrainingRow row = rows.get(i);
+            bootstrappedScrapIds.add(row.getScrapId());
+            model.learn(
+                    row.getProjectId(),
+                    row.getStage(),
+                    features(row.getSubtitle(), row.getMemo(), row.getNormalizedText()),
+                    weightOf(Boolean.TRUE.equals(row.getUserRecProject()), Boolean.TRUE.equals(row.getUserRecStage()))
+            );
+        }
+
+        // pending 반영과 put을 같은 compute 안에서 -> 그 사이 이벤트는 pending 또는 모델 중 한 곳에만 들어간다
+        pendingBootstraps.compute(userId, (id, events) -> {
+            if (events != null) {
+                for (ScrapCommittedEvent event : events) {
+                    // 조회 결과에 이미 포함된 스크랩은 다시 학습하지 않음
+                    if (event.scrapId() != null && bootstrappedScrapIds.contains(event.scrapId())) continue;
+                    learn(model, event);
+                }
+            }
+            models.put(userId, model);
+            return null;
+        });
+
+        log.debug("[DRAFT] local classifier bootstrapped: userId={}, docs={}, vocabulary={}",
+                userId, model.docCount(), model.vocabularySize());
+        return model;
+    }
+
+    private int[] features(String subtitle, String memo, String normalizedText) {
+        StringBuilder sb = new StringBuilder();
+        if (subtitle != null) sb.append(subtitle).append('\n');
+        if (memo != null) sb.append(memo).append('\n');
+        if (normalizedText != null) sb.append(normalizedText);
+        return DraftTextFeatures.extract(sb.toString(), maxChars);
+    }
+
+    private double weightOf(boolean userRecProject, boolean userRecStage) {
+        return (userRecProject && userRecStage) ? 1.0 : correctedWeight;
+    }
+
+    @Scheduled(fixedDelayString = "${moa.draft.local-classifier.sweep-interval-ms:600000}")
+    void sweepExpired() {
+        models.sweepExpired();
+    }
+}
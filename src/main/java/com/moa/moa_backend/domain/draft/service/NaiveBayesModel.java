@@ -0,0 +1,213 @@
+package com.moa.moa_backend.domain.draft.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * 사용자 1명의 (projectId, stage) 분류 모델 - multinomial naive Bayes (Laplace smoothing)
+ * - label = (projectId, stage) 조합 (둘을 따로 맞추면 존재하지 않는 조합이 나올 수 있음)
+ * - feature는 DraftTextFeatures의 int hash, label별 가중치는 primitive open-addressing map
+ * - vocabulary가 maxVocabulary에 차면 새 feature는 무시 (사용자당 메모리 상한)
+ * - thread-safe 하지 않음: 호출자가 model 단위로 동기화
+ */
+final class NaiveBayesModel {
+
+    private static final double ALPHA = 1.0;
+
+    record Label(long projectId, String stage) {}
+
+    /**
+     * @param confidence 사후확률 (allowed label끼리 정규화, feature가 많으면 거의 항상 1에 가까워 판단 기준으로 쓰지 않음)
+     * @param margin     (1위 log 점수 - 경쟁 점수) / 아는 feature 수: feature 1개당 1위가 얼마나 앞서는지 (nats)
+     *                   경쟁 점수 = max(2위 label, 학습된 적 없는 label)
+     */
+    record Prediction(long projectId, String stage, double confidence, double margin) {}
+
+    private final int maxVocabulary;
+
+    private final List<Label> labels = new ArrayList<>();
+    private final Map<Label, Integer> labelIndex = new HashMap<>();
+    private final List<FeatureCounts> labelCounts = new ArrayList<>();
+    private double[] labelDocWeight = new double[4];
+    private double[] labelTokenWeight = new double[4];
+
+    private final FeatureCounts vocabulary = new FeatureCounts(256);
+    private double totalDocWeight;
+    private int docCount;
+
+    NaiveBayesModel(int maxVocabulary) {
+        this.maxVocabulary = maxVocabulary;
+    }
+
+    int docCount() {
+        return docCount;
+    }
+
+    int vocabularySize() {
+        return vocabulary.size();
+    }
+
+    void learn(long projectId, String stage, int[] features, double weight) {
+        if (features.length == 0 || weight <= 0) return;
+
+        int idx = indexOf(new Label(projectId, stage));
+        FeatureCounts counts = labelCounts.get(idx);
+
+        float w = (float) weight;
+        for (int f : features) {
+            if (vocabulary.get(f) == 0f) {
+                if (vocabulary.size() >= maxVocabulary) continue;
+                vocabulary.add(f, 1f);
+            }
+            counts.add(f, w);
+            labelTokenWeight[idx] += weight;
+        }
+
+        labelDocWeight[idx] += weight;
+        totalDocWeight += weight;
+        docCount++;
+    }
+
+    /**
+     * allowed를 만족하는 label 중 사후확률 최대 label
+     * - 사후확률은 allowed label끼리만 정규화 (삭제된 프로젝트 label은 후보에서 빠짐)
+     * - 학습된 적 없는 feature는 점수에 영향이 없으므로 건너뜀
+     * - margin의 경쟁 점수에 "학습된 적 없는 label"을 포함: 후보가 1개뿐이거나 입력이 어느 label과도 닮지 않았으면 margin이 작다
+     *
+     * @return 후보가 없거나 아는 feature가 하나도 없으면 null
+     */
+    Prediction predict(int[] features, Predicate<Label> allowed) {
+        int known = 0;
+        for (int f : features) {
+            if (vocabulary.get(f) != 0f) known++;
+        }
+        if (known == 0) return null;
+
+        int labelCount = labels.size();
+        double vocab = vocabulary.size();
+        double[] scores = new double[labelCount];
+        double best = Double.NEGATIVE_INFINITY;
+        double second = Double.NEGATIVE_INFINITY;
+        int bestIdx = -1;
+
+        for (int i = 0; i < labelCount; i++) {
+            if (!allowed.test(labels.get(i))) {
+                scores[i] = Double.NEGATIVE_INFINITY;
+                continue;
+            }
+
+            FeatureCounts counts = labelCounts.get(i);
+            double denom = Math.log(labelTokenWeight[i] + ALPHA * vocab);
+            double score = Math.log((labelDocWeight[i] + 1.0) / (totalDocWeight + labelCount));
+            for (int f : features) {
+                if (vocabulary.get(f) == 0f) continue;
+                score += Math.log(counts.get(f) + ALPHA) - denom;
+            }
+
+            scores[i] = score;
+            if (score > best) {
+                second = best;
+                best = score;
+                bestIdx = i;
+            } else if (score > second) {
+                second = score;
+            }
+        }
+        if (bestIdx < 0) return null;
+
+        // 학습된 적 없는 label의 점수 (모든 feature가 smoothing 값)
+        double unseen = Math.log(1.0 / (totalDocWeight + labelCount)) + known * (Math.log(ALPHA) - Math.log(ALPHA * vocab));
+        double margin = (best - Math.max(second, unseen)) / known;
+
+        // softmax (log-sum-exp)
+        double sum = 0;
+        for (double s : scores) {
+            if (s != Double.NEGATIVE_INFINITY) sum += Math.exp(s - best);
+        }
+
+        Label label = labels.get(bestIdx);
+        return new Prediction(label.projectId(), label.stage(), 1.0 / sum, margin);
+    }
+
+    private int indexOf(Label label) {
+        Integer idx = labelIndex.get(label);
+        if (idx != null) return idx;
+
+        int next = labels.size();
+        labels.add(label);
+        labelIndex.put(label, next);
+        labelCounts.add(new FeatureCounts(64));
+        if (next >= labelDocWeight.length) {
+            labelDocWeight = Arrays.copyOf(labelDocWeight, next * 2);
+            labelTokenWeight = Arrays.copyOf(labelTokenWeight, next * 2);
+        }
+        return next;
+    }
+
+    /**
+     * int key -> float 가중치 (open addressing, linear probing)
+     * - key 0은 빈 슬롯 (DraftTextFeatures가 0을 만들지 않음)
+     * - 삭제 없음 (모델은 누적만, 초기화는 model 교체로)
+     */
+    static final class FeatureCounts {
+
+        private int[] keys;
+        private float[] values;
+        private int size;
+
+        FeatureCounts(int initialCapacity) {
+            int cap = Integer.highestOneBit(Math.max(initialCapacity, 4) - 1) << 1;
+            this.keys = new int[cap];
+            this.values = new float[cap];
+        }
+
+        int size() {
+            return size;
+        }
+
+        float get(int key) {
+            int mask = keys.length - 1;
+            for (int i = key & mask; ; i = (i + 1) & mask) {
+                int k = keys[i];
+                if (k == key) return values[i];
+                if (k == 0) return 0f;
+            }
+        }
+
+        void add(int key, float delta) {
+            int mask = keys.length - 1;
+            int i = key & mask;
+            while (keys[i] != 0 && keys[i] != key) i = (i + 1) & mask;
+
+            if (keys[i] == 0) {
+                keys[i] = key;
+                size++;
+            }
+            values[i] += delta;
+
+            // load factor 0.5 초과 시 확장
+            if (size * 2 > keys.length) rehash(keys.length * 2);
+        }
+
+        private void rehash(int capacity) {
+            int[] oldKeys = keys;
+            float[] oldValues = values;
+            keys = new int[capacity];
+            values = new float[capacity];
+
+            int mask = capacity - 1;
+            for (int j = 0; j < oldKeys.length; j++) {
+                int k = oldKeys[j];
+                if (k == 0) continue;
+                int i = k & mask;
+                while (keys[i] != 0) i = (i + 1) & mask;
+                keys[i] = k;
+                values[i] = oldValues[j];
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.moa.moa_backend.domain.draft.store;
+
+import com.moa.moa_backend.domain.draft.entity.Draft;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Draft 저장소
+ * - Postgres(drafts 테이블): JpaDraftStore (기본값, 재시작/멀티 인스턴스에서도 유지)
+ * - JVM 메모리: InMemoryDraftStore (단일 인스턴스 전용, 재시작 시 draft 유실 허용할 때)
+ * <p>
+ * 설정: moa.draft.store.type = jpa | memory
+ */
+public interface DraftStore {
+
+    /**
+     * @return 식별자가 채워진 draft
+     */
+    Draft save(Draft draft);
+
+    /**
+     * 만료 여부와 무관하게 조회 (만료 판단은 서비스에서: 410 응답용)
+     */
+    Optional<Draft> findByIdAndUserId(Long draftId, Long userId);
+
+    /**
+     * 만료되지 않은 가장 최근 draft
+     */
+    Optional<Draft> findLatest(Long userId, Instant now);
+
+    /**
+     * 삭제 (진행 중인 트랜잭션이 있으면 그 결과를 따른다: 롤백되면 draft도 남아 있어야 함)
+     *
+     * @return 삭제된 건수 (0이면 이미 없음)
+     */
+    long deleteByIdAndUserId(Long draftId, Long userId);
+
+    /**
+     * draft가 drafts 테이블에 있는지 (commit을 scrap insert와 같은 SQL 1문장으로 처리할 수 있는지)
+     */
+    default boolean isTableBacked() {
+        return false;
+    }
+}
@@ -0,0 +1,115 @@
+package com.moa.moa_backend.domain.draft.store;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+/**
+ * 계층형 timing wheel (만료 예약)
+ * - level L의 slot 1칸 = 64^L tick, level마다 64칸 (1s tick 기준: 64s / 68분 / 3일)
+ * - 등록 O(1), 진행 시 현재 slot만 처리 (정렬/전체 스캔 없음)
+ * - 상위 level slot 차례가 오면 항목을 하위 level로 내려보낸다 (cascade)
+ * - 예약 취소는 없다: 발화 시 호출자가 아직 유효한지 확인 (삭제된 id는 무시)
+ * - thread-safe 하지 않음: 호출자가 동기화
+ */
+final class HierarchicalTimingWheel {
+
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 3;
+
+    private record Timer(long id, long deadlineTick) {}
+
+    private final long tickMillis;
+    private final List<List<Timer>> slots;
+    private final List<Timer> overflow = new ArrayList<>();   // 최상위 level 범위 밖 (다음 최상위 블록에서 재배치)
+    private long currentTick;
+    private int size;
+
+    HierarchicalTimingWheel(long tickMillis, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.currentTick = startMillis / tickMillis;
+        this.slots = new ArrayList<>(LEVELS * SLOTS);
+        for (int i = 0; i < LEVELS * SLOTS; i++) slots.add(new ArrayList<>());
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * deadlineMillis 이후 첫 advance에서 id를 발화
+     */
+    void schedule(long id, long deadlineMillis) {
+        // 올림: deadline보다 일찍 발화하지 않도록
+        long deadlineTick = Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis);
+        place(new Timer(id, Math.max(deadlineTick, currentTick + 1)));
+        size++;
+    }
+
+    /**
+     * nowMillis까지 tick을 진행하며 만료된 id를 expired에 전달
+     */
+    void advance(long nowMillis, LongConsumer expired) {
+        long target = nowMillis / tickMillis;
+        while (currentTick < target) {
+            currentTick++;
+
+            if ((currentTick & ((1L << (BITS * LEVELS)) - 1)) == 0 && !overflow.isEmpty()) {
+                List<Timer> moving = new ArrayList<>(overflow);
+                overflow.clear();
+                for (Timer t : moving) place(t);
+            }
+
+            for (int level = LEVELS - 1; level >= 1; level--) {
+                if ((currentTick & ((1L << (BITS * level)) - 1)) == 0) {
+                    cascade(level);
+                }
+            }
+
+            List<Timer> due = slots.get(index(0, (int) (currentTick & MASK)));
+            if (due.isEmpty()) continue;
+
+            List<Timer> fired = new ArrayList<>(due);
+            due.clear();
+            for (Timer t : fired) {
+                if (t.deadlineTick() <= currentTick) {
+                    size--;
+                    expired.accept(t.id());
+                } else {
+                    place(t);
+                }
+            }
+        }
+    }
+
+    private void cascade(int level) {
+        List<Timer> slot = slots.get(index(level, (int) ((currentTick >>> (BITS * level)) & MASK)));
+        if (slot.isEmpty()) return;
+
+        List<Timer> moving = new ArrayList<>(slot);
+        slot.clear();
+        for (Timer t : moving) place(t);
+    }
+
+    /**
+     * deadline과 현재 tick이 같은 상위 블록에 속하는 가장 낮은 level에 배치
+     * - cascade로 내려온 deadline == currentTick 항목은 현재 slot에 들어가 이번 tick에 바로 발화
+     * - 최상위 level 범위를 넘는 먼 deadline은 overflow에 두고, 최상위 블록이 바뀔 때 다시 배치
+     */
+    private void place(Timer t) {
+        long deadline = Math.max(t.deadlineTick(), currentTick);
+        for (int level = 0; level < LEVELS; level++) {
+            if ((deadline >>> (BITS * (level + 1))) == (currentTick >>> (BITS * (level + 1)))) {
+                slots.get(index(level, (int) ((deadline >>> (BITS * level)) & MASK))).add(t);
+                return;
+            }
+        }
+        overflow.add(t);
+    }
+
+    private static int index(int level, int slot) {
+        return level * SLOTS + slot;
+    }
+}
@@ -0,0 +1,214 @@
+package com.moa.moa_backend.domain.draft.store;
+
+import com.moa.moa_backend.domain.draft.entity.Draft;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JVM 메모리 draft 저장소 (단일 인스턴스 전용)
+ * - create/latest/commit/delete에서 drafts 테이블을 쓰지 않는다 (commit의 scrap insert만 DB)
+ * - 만료: 계층형 timing wheel, 만료 후 grace가 지나면 제거 (그 사이 commit은 410 DRAFT_EXPIRED)
+ * - 상한: 사용자당 max-per-user (초과 시 그 사용자의 가장 오래된 draft 제거),
+ *        전체 추정 메모리 max-memory-mb (초과 시 전체에서 가장 오래된 draft 제거)
+ * - 삭제는 트랜잭션을 따른다: 트랜잭션 안의 삭제는 즉시 "점유"하고, 롤백되면 되돌린다
+ * - id: 재시작 후에도 겹치지 않도록 시작 시각 기반 시퀀스
+ * <p>
+ * metrics
+ * - moa.draft.store.size / moa.draft.store.bytes
+ * - moa.draft.store.evictions{cause=expired|user_limit|memory}
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "moa.draft.store.type", havingValue = "memory")
+public class InMemoryDraftStore implements DraftStore {
+
+    private final int maxPerUser;
+    private final long maxBytes;
+    private final Duration grace;
+
+    private final AtomicLong sequence = new AtomicLong(System.currentTimeMillis() * 1000);
+
+    // ---- 아래 상태는 this 모니터로 보호 ----
+    private final LinkedHashMap<Long, Draft> drafts = new LinkedHashMap<>();     // 생성 순서
+    private final Map<Long, ArrayDeque<Long>> byUser = new HashMap<>();           // userId -> draftId (오래된 순)
+    private final HierarchicalTimingWheel wheel;
+    private long bytes;
+
+    private final Counter expiredEvictions;
+    private final Counter userLimitEvictions;
+    private final Counter memoryEvictions;
+
+    public InMemoryDraftStore(
+            @Value("${moa.draft.store.memory.max-per-user:20}") int maxPerUser,
+            @Value("${moa.draft.store.memory.max-memory-mb:128}") long maxMemoryMb,
+            @Value("${moa.draft.store.memory.grace-minutes:60}") long graceMinutes,
+            @Value("${moa.draft.store.memory.tick-ms:1000}") long tickMs,
+            MeterRegistry meterRegistry
+    ) {
+        this.maxPerUser = maxPerUser;
+        this.maxBytes = maxMemoryMb * 1024 * 1024;
+        this.grace = Duration.ofMinutes(graceMinutes);
+        this.wheel = new HierarchicalTimingWheel(tickMs, System.currentTimeMillis());
+
+        this.expiredEvictions = evictions(meterRegistry, "expired");
+        this.userLimitEvictions = evictions(meterRegistry, "user_limit");
+        this.memoryEvictions = evictions(meterRegistry, "memory");
+        Gauge.builder("moa.draft.store.size", this, InMemoryDraftStore::size).register(meterRegistry);
+        Gauge.builder("moa.draft.store.bytes", this, InMemoryDraftStore::bytes).register(meterRegistry);
+    }
+
+    private static Counter evictions(MeterRegistry registry, String cause) {
+        return Counter.builder("moa.draft.store.evictions")
+                .tag("cause", cause)
+                .register(registry);
+    }
+
+    @Override
+    public Draft save(Draft draft) {
+        draft.assignId(sequence.incrementAndGet());
+
+        synchronized (this) {
+            insert(draft);
+            wheel.schedule(draft.getId(), draft.getExpiredAt().plus(grace).toEpochMilli());
+
+            ArrayDeque<Long> ids = byUser.get(draft.getUserId());
+            while (ids.size() > maxPerUser) {
+                remove(ids.peekFirst());
+                userLimitEvictions.increment();
+            }
+
+            while (bytes > maxBytes) {
+                Long eldest = drafts.keySet().iterator().next();
+                if (eldest.equals(draft.getId())) break;
+                remove(eldest);
+                memoryEvictions.increment();
+            }
+        }
+        return draft;
+    }
+
+    @Override
+    public synchronized Optional<Draft> findByIdAndUserId(Long draftId, Long userId) {
+        Draft d = drafts.get(draftId);
+        return (d != null && d.getUserId().equals(userId)) ? Optional.of(d) : Optional.empty();
+    }
+
+    @Override
+    public synchronized Optional<Draft> findLatest(Long userId, Instant now) {
+        ArrayDeque<Long> ids = byUser.get(userId);
+        if (ids == null) return Optional.empty();
+
+        Iterator<Long> newestFirst = ids.descendingIterator();
+        while (newestFirst.hasNext()) {
+            Draft d = drafts.get(newestFirst.next());
+            if (d != null && d.getExpiredAt().isAfter(now)) return Optional.of(d);
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public long deleteByIdAndUserId(Long draftId, Long userId) {
+        Draft removed;
+        synchronized (this) {
+            Draft d = drafts.get(draftId);
+            if (d == null || !d.getUserId().equals(userId)) return 0;
+            removed = remove(draftId);
+        }
+
+        // 트랜잭션 안이면 롤백 시 복구 (같은 draft의 동시 commit은 먼저 점유한 쪽만 1을 받는다)
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) restore(removed);
+                }
+            });
+        }
+        return 1;
+    }
+
+    /**
+     * 만료 + grace가 지난 draft 제거
+     */
+    @Scheduled(fixedDelayString = "${moa.draft.store.memory.tick-ms:1000}")
+    void expire() {
+        expire(System.currentTimeMillis());
+    }
+
+    synchronized void expire(long nowMillis) {
+        wheel.advance(nowMillis, id -> {
+            Draft d = drafts.get(id);
+            // 롤백 복구 등으로 같은 id가 다시 예약됐을 수 있으므로 실제 기한 확인
+            if (d != null && d.getExpiredAt().plus(grace).toEpochMilli() <= nowMillis) {
+                remove(id);
+                expiredEvictions.increment();
+            }
+        });
+    }
+
+    synchronized int size() {
+        return drafts.size();
+    }
+
+    synchronized long bytes() {
+        return bytes;
+    }
+
+    private synchronized void restore(Draft draft) {
+        if (drafts.containsKey(draft.getId())) return;
+        insert(draft);
+        wheel.schedule(draft.getId(), draft.getExpiredAt().plus(grace).toEpochMilli());
+        log.debug("[DRAFT] in-memory delete rolled back. draftId={}", draft.getId());
+    }
+
+    private void insert(Draft draft) {
+        drafts.put(draft.getId(), draft);
+        byUser.computeIfAbsent(draft.getUserId(), k -> new ArrayDeque<>()).addLast(draft.getId());
+        bytes += estimateBytes(draft);
+    }
+
+    private Draft remove(Long id) {
+        Draft d = drafts.remove(id);
+        if (d != null) detach(d);
+        return d;
+    }
+
+    // drafts에서 빠진 항목의 사용자 인덱스/용량 정리
+    private void detach(Draft d) {
+        ArrayDeque<Long> ids = byUser.get(d.getUserId());
+        if (ids != null) {
+            ids.remove(d.getId());
+            if (ids.isEmpty()) byUser.remove(d.getUserId());
+        }
+        bytes -= estimateBytes(d);
+    }
+
+    // 문자열 char 2바이트 + 객체 오버헤드 근사
+    private static long estimateBytes(Draft d) {
+        long chars = length(d.getContentPlain()) + length(d.getAiSourceUrl()) + length(d.getAiSource())
+                + length(d.getRecStage()) + length(d.getRecSubtitle());
+        return 2 * chars + 256;
+    }
+
+    private static int length(String s) {
+        return (s == null) ? 0 : s.length();
+    }
+}
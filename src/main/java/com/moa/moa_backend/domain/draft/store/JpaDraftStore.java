@@ -0,0 +1,52 @@
+package com.moa.moa_backend.domain.draft.store;
+
+import com.moa.moa_backend.domain.draft.entity.Draft;
+import com.moa.moa_backend.domain.draft.repository.DraftRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * drafts 테이블 기반 저장소 (기본값)
+ * - 각 메서드는 단건 트랜잭션, 바깥 트랜잭션(commit)이 있으면 참여
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "moa.draft.store.type", havingValue = "jpa", matchIfMissing = true)
+public class JpaDraftStore implements DraftStore {
+
+    private final DraftRepository draftRepository;
+
+    @Override
+    @Transactional
+    public Draft save(Draft draft) {
+        return draftRepository.save(draft);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Draft> findByIdAndUserId(Long draftId, Long userId) {
+        return draftRepository.findByIdAndUserId(draftId, userId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Draft> findLatest(Long userId, Instant now) {
+        return draftRepository.findFirstByUserIdAndExpiredAtAfterOrderByCreatedAtDesc(userId, now);
+    }
+
+    @Override
+    @Transactional
+    public long deleteByIdAndUserId(Long draftId, Long userId) {
+        return draftRepository.deleteByIdAndUserId(draftId, userId);
+    }
+
+    @Override
+    public boolean isTableBacked() {
+        return true;
+    }
+}
@@ -26,6 +26,10 @@ public class Scrap {
     @Column(name = "raw_html", nullable = false, columnDefinition = "TEXT")
     private String rawHtml;
 
+    // === digest 입력용 정규화 텍스트 (NULL: 미처리, '': 의미 있는 텍스트 없음) ===
+    @Column(name = "normalized_text", columnDefinition = "TEXT")
+    private String normalizedText;
+
     // === 메타데이터 ===
     @Column(name = "subtitle", nullable = false, length = 120)
     private String subtitle;
@@ -94,4 +98,8 @@ public class Scrap {
         s.recMethod = recMethod;
         return s;
     }
+
+    public void updateNormalizedText(String normalizedText) {
+        this.normalizedText = (normalizedText == null) ? "" : normalizedText;
+    }
 }
@@ -0,0 +1,59 @@
+package com.moa.moa_backend.domain.scrap.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * (user, project, stage) 단위 최신 스크랩 활동
+ * - scraps 저장과 같은 트랜잭션에서 native upsert로 갱신된다. (ScrapActivityRepository.recordScrap)
+ * - 엔티티는 조회(JPQL) 전용: 직접 persist하지 않는다.
+ * - "최신 captured_at" 류 조회를 scraps 집계 없이 처리하기 위한 테이블
+ */
+@Getter
+@Entity
+@IdClass(ScrapActivity.Key.class)
+@Table(name = "scrap_activity")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ScrapActivity {
+
+    @Id
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Id
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Id
+    @Column(name = "stage", nullable = false, length = 30)
+    private String stage;
+
+    @Column(name = "last_captured_at", nullable = false)
+    private Instant lastCapturedAt;
+
+    @Column(name = "last_scrap_id", nullable = false)
+    private Long lastScrapId;
+
+    @Column(name = "scrap_count", nullable = false)
+    private long scrapCount;
+
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+        private Long userId;
+        private Long projectId;
+        private String stage;
+
+        public Key(Long userId, Long projectId, String stage) {
+            this.userId = userId;
+            this.projectId = projectId;
+            this.stage = stage;
+        }
+    }
+}
@@ -1,23 +1,44 @@
 package com.moa.moa_backend.domain.scrap.repository;
 
 import com.moa.moa_backend.domain.scrap.entity.Scrap;
+import com.moa.moa_backend.domain.scrap.repository.projection.StageLatestCapturedView;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
+import java.util.List;
 
 public interface ProjectScrapDigestQueryRepository extends Repository<Scrap, Long> {
 
+    /**
+     * 프로젝트 최신 captured_at - scrap_activity의 stage별 row 중 최댓값
+     */
     @Query("""
-        select max(s.capturedAt)
-        from Scrap s
-        where s.userId = :userId
-          and s.projectId = :projectId
+        select max(a.lastCapturedAt)
+        from ScrapActivity a
+        where a.userId = :userId
+          and a.projectId = :projectId
     """)
     Instant findLatestCapturedAt(
             @Param("userId") Long userId,
             @Param("projectId") Long projectId
     );
-}
 
+    /**
+     * 프로젝트의 stage별 최신 capturedAt (최근 활동 stage 우선)
+     */
+    @Query("""
+        select new com.moa.moa_backend.domain.scrap.repository.projection.StageLatestCapturedView(
+            a.stage, a.lastCapturedAt
+        )
+        from ScrapActivity a
+        where a.userId = :userId
+          and a.projectId = :projectId
+        order by a.lastCapturedAt desc
+    """)
+    List<StageLatestCapturedView> findLatestCapturedAtByStage(
+            @Param("userId") Long userId,
+            @Param("projectId") Long projectId
+    );
+}
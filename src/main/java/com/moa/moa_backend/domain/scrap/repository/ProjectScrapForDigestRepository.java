@@ -13,7 +13,10 @@ public interface ProjectScrapForDigestRepository extends Repository<Scrap, Long>
 
     @Query("""
     select new com.moa.moa_backend.domain.scrap.repository.projection.ScrapForDigestView(
-        s.id, s.stage, s.subtitle, s.memo, s.rawHtml, s.capturedAt
+        s.id, s.stage, s.subtitle, s.memo,
+        case when s.normalizedText is null then s.rawHtml end,
+        s.normalizedText,
+        s.capturedAt
     )
     from Scrap s
     where s.userId = :userId
@@ -0,0 +1,35 @@
+package com.moa.moa_backend.domain.scrap.repository;
+
+import com.moa.moa_backend.domain.scrap.entity.ScrapActivity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+
+public interface ScrapActivityRepository extends JpaRepository<ScrapActivity, ScrapActivity.Key> {
+
+    /**
+     * 스크랩 1건 반영 (upsert 1문장: 첫 스크랩 insert 경쟁은 PK 충돌 처리로 해결, 프로젝트 row 잠금 없음)
+     * - captured_at이 과거로 들어와도 최신 값은 유지 (SET 우변은 모두 갱신 전 값 기준)
+     * - ScrapDraftCommitRepository의 CTE(act)와 같은 규칙
+     */
+    @Modifying
+    @Query(value = """
+        insert into scrap_activity as a (user_id, project_id, stage, last_captured_at, last_scrap_id, scrap_count)
+        values (:userId, :projectId, :stage, :capturedAt, :scrapId, 1)
+        on conflict (user_id, project_id, stage) do update
+           set scrap_count = a.scrap_count + 1,
+               last_scrap_id = case when excluded.last_captured_at >= a.last_captured_at
+                                    then excluded.last_scrap_id else a.last_scrap_id end,
+               last_captured_at = greatest(a.last_captured_at, excluded.last_captured_at)
+    """, nativeQuery = true)
+    void recordScrap(
+            @Param("userId") Long userId,
+            @Param("projectId") Long projectId,
+            @Param("stage") String stage,
+            @Param("scrapId") Long scrapId,
+            @Param("capturedAt") Instant capturedAt
+    );
+}
@@ -11,12 +11,15 @@ import java.util.List;
 
 public interface ScrapDigestQueryRepository extends Repository<Scrap, Long> {
 
+    /**
+     * (user, project, stage) 최신 captured_at - scrap_activity PK 조회
+     */
     @Query("""
-        select max(s.capturedAt)
-        from Scrap s
-        where s.userId = :userId
-          and s.projectId = :projectId
-          and s.stage = :stage
+        select a.lastCapturedAt
+        from ScrapActivity a
+        where a.userId = :userId
+          and a.projectId = :projectId
+          and a.stage = :stage
     """)
     Instant findLatestCapturedAt(
             @Param("userId") Long userId,
@@ -25,23 +28,38 @@ public interface ScrapDigestQueryRepository extends Repository<Scrap, Long> {
     );
 
     /**
-     * 스케줄러용: 최근 활동한 (userId, projectId, stage) 목록 조회
-     * - since 이후 scraps만 대상
-     * - 각 그룹의 최신 captured_at 기준으로 최신순 정렬
+     * 스케줄러용: 요약 갱신이 필요한 (userId, projectId, stage) 목록 조회
+     * - scrap_activity 기준: since 이후 스크랩이 있는 그룹만 대상 (scraps 집계 없음)
+     * - stage_digests를 left join 해서 요약이 없거나 최신 captured_at이 요약 기준 시각보다 뒤인 그룹만 반환
+     *   (이미 최신인 target은 여기서 걸러져 dailyLimit을 소모하지 않는다)
+     * - 최신 captured_at 기준으로 최신순 정렬
      * - limit 개수 제한
      */
     @Query(value = """
         select
-            s.user_id as userId,
-            s.project_id as projectId,
-            s.stage as stage
-        from scraps s
-        where s.captured_at >= :since
-        group by s.user_id, s.project_id, s.stage
-        order by max(s.captured_at) desc
+            a.user_id as userId,
+            a.project_id as projectId,
+            a.stage as stage,
+            p.project_name as projectName,
+            a.last_captured_at as latestCapturedAt
+        from scrap_activity a
+        join projects p
+          on p.project_id = a.project_id
+         and p.user_id = a.user_id
+        left join stage_digests d
+          on d.user_id = a.user_id
+         and d.project_id = a.project_id
+         and d.stage = a.stage
+        where a.last_captured_at >= :since
+          and (
+              d.stage_digest_id is null
+              or d.source_last_captured_at is null
+              or a.last_captured_at > d.source_last_captured_at
+          )
+        order by a.last_captured_at desc
         limit :limit
         """, nativeQuery = true)
-    List<DigestRefreshTarget> findRecentTargetsForAutoRefresh(
+    List<DigestRefreshTarget> findStaleTargetsForAutoRefresh(
             @Param("since") Instant since,
             @Param("limit") int limit
     );
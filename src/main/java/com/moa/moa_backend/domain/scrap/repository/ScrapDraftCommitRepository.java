@@ -0,0 +1,139 @@
+package com.moa.moa_backend.domain.scrap.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * draft commit 단일 statement (Postgres 전용: data-modifying CTE)
+ * - draft 소유/만료 확인 + 프로젝트 소유 확인 + scraps insert + scrap_activity upsert + drafts delete 를 1 round trip으로
+ * - 조건을 통과하지 못하면 아무것도 쓰지 않고 판정 플래그만 돌려준다 (에러 코드 결정은 호출자)
+ * - draft row는 잠그지 않는다: 동시 commit은 둘 다 insert까지 가고, 늦은 쪽 delete가 0건 -> 호출자가 409로 롤백
+ *   (기존 경로와 같은 결과)
+ * - CTE 안의 insert/delete는 본문에서 참조하지 않아도 항상 1회 실행된다 (act)
+ * - scrap_activity는 ScrapActivityRepository.recordScrap과 같은 ON CONFLICT upsert
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScrapDraftCommitRepository {
+
+    private static final String COMMIT_SQL = """
+        with d as (
+            select draft_id, rec_method, draft_expired_at > :now as alive
+              from drafts
+             where draft_id = :draftId
+               and user_id = :userId
+        ),
+        p as (
+            select project_id
+              from projects
+             where project_id = :projectId
+               and user_id = :userId
+        ),
+        ins as (
+            insert into scraps (
+                project_id, user_id, raw_html, normalized_text, subtitle, stage, memo,
+                ai_source, ai_source_url, user_rec_project, user_rec_stage, user_rec_subtitle,
+                captured_at, rec_method
+            )
+            select p.project_id, :userId, :rawHtml, :normalizedText, :subtitle, :stage, :memo,
+                   :aiSource, :aiSourceUrl, :userRecProject, :userRecStage, :userRecSubtitle,
+                   :capturedAt, d.rec_method
+              from d, p
+             where d.alive
+            returning scrap_id
+        ),
+        act as (
+            insert into scrap_activity as a (user_id, project_id, stage, last_captured_at, last_scrap_id, scrap_count)
+            select :userId, :projectId, :stage, :capturedAt, ins.scrap_id, 1
+              from ins
+            on conflict (user_id, project_id, stage) do update
+               set scrap_count = a.scrap_count + 1,
+                   last_scrap_id = case when excluded.last_captured_at >= a.last_captured_at
+                                        then excluded.last_scrap_id else a.last_scrap_id end,
+                   last_captured_at = greatest(a.last_captured_at, excluded.last_captured_at)
+        ),
+        del as (
+            delete from drafts
+             where draft_id = :draftId
+               and user_id = :userId
+               and exists (select 1 from ins)
+            returning draft_id
+        )
+        select exists (select 1 from d)                  as draft_found,
+               coalesce((select alive from d), false)    as draft_alive,
+               exists (select 1 from p)                  as project_found,
+               (select scrap_id from ins)                as scrap_id,
+               (select count(*) from del)                as deleted
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 검증/정규화가 끝난 scrap 값 (rec_method는 draft row에서 가져온다)
+     */
+    public record NewScrap(
+            Long projectId,
+            String stage,
+            String rawHtml,
+            String normalizedText,
+            String subtitle,
+            String memo,
+            String aiSource,
+            String aiSourceUrl,
+            boolean userRecProject,
+            boolean userRecStage,
+            boolean userRecSubtitle,
+            Instant capturedAt
+    ) {}
+
+    /**
+     * @param scrapId   insert 되었을 때만 값 (draft/프로젝트 조건을 통과한 경우)
+     * @param deleted   삭제된 draft 수 (scrapId가 있는데 0이면 동시 commit에 졌음)
+     */
+    public record Result(
+            boolean draftFound,
+            boolean draftAlive,
+            boolean projectFound,
+            Long scrapId,
+            long deleted
+    ) {}
+
+    public Result commit(Long userId, Long draftId, NewScrap scrap, Instant now) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("draftId", draftId)
+                .addValue("projectId", scrap.projectId())
+                .addValue("now", utc(now))
+                .addValue("rawHtml", scrap.rawHtml())
+                .addValue("normalizedText", scrap.normalizedText())
+                .addValue("subtitle", scrap.subtitle())
+                .addValue("stage", scrap.stage())
+                .addValue("memo", scrap.memo(), Types.VARCHAR)
+                .addValue("aiSource", scrap.aiSource())
+                .addValue("aiSourceUrl", scrap.aiSourceUrl())
+                .addValue("userRecProject", scrap.userRecProject())
+                .addValue("userRecStage", scrap.userRecStage())
+                .addValue("userRecSubtitle", scrap.userRecSubtitle())
+                .addValue("capturedAt", utc(scrap.capturedAt()));
+
+        return jdbcTemplate.queryForObject(COMMIT_SQL, params, (rs, rowNum) -> new Result(
+                rs.getBoolean("draft_found"),
+                rs.getBoolean("draft_alive"),
+                rs.getBoolean("project_found"),
+                rs.getObject("scrap_id", Long.class),
+                rs.getLong("deleted")
+        ));
+    }
+
+    // timestamptz 바인딩 (PgJDBC는 Instant를 직접 받지 않음)
+    private static OffsetDateTime utc(Instant instant) {
+        return instant.atOffset(ZoneOffset.UTC);
+    }
+}
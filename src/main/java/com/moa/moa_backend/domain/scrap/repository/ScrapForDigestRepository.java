@@ -7,13 +7,17 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
 
 public interface ScrapForDigestRepository extends Repository<Scrap, Long> {
 
     @Query("""
     select new com.moa.moa_backend.domain.scrap.repository.projection.ScrapForDigestView(
-        s.id, s.stage, s.subtitle, s.memo, s.rawHtml, s.capturedAt
+        s.id, s.stage, s.subtitle, s.memo,
+        case when s.normalizedText is null then s.rawHtml end,
+        s.normalizedText,
+        s.capturedAt
     )
     from Scrap s
     where s.userId = :userId
@@ -28,4 +32,82 @@ public interface ScrapForDigestRepository extends Repository<Scrap, Long> {
             Pageable pageable
     );
 
+    /**
+     * 증분 갱신용: 기존 요약 기준 시각(after) 이후에 들어온 스크랩만
+     */
+    @Query("""
+    select new com.moa.moa_backend.domain.scrap.repository.projection.ScrapForDigestView(
+        s.id, s.stage, s.subtitle, s.memo,
+        case when s.normalizedText is null then s.rawHtml end,
+        s.normalizedText,
+        s.capturedAt
+    )
+    from Scrap s
+    where s.userId = :userId
+      and s.projectId = :projectId
+      and s.stage = :stage
+      and s.capturedAt > :after
+    order by s.capturedAt desc, s.id desc
+""")
+    List<ScrapForDigestView> findRecentForDigestSince(
+            @Param("userId") Long userId,
+            @Param("projectId") Long projectId,
+            @Param("stage") String stage,
+            @Param("after") Instant after,
+            Pageable pageable
+    );
+
+    /**
+     * 요약 생성용: 기준 시각(until)까지 들어온 스크랩만
+     * - until = 요약에 기록할 sourceLastCapturedAt (그 뒤에 들어온 스크랩은 다음 갱신에서 처리)
+     */
+    @Query("""
+    select new com.moa.moa_backend.domain.scrap.repository.projection.ScrapForDigestView(
+        s.id, s.stage, s.subtitle, s.memo,
+        case when s.normalizedText is null then s.rawHtml end,
+        s.normalizedText,
+        s.capturedAt
+    )
+    from Scrap s
+    where s.userId = :userId
+      and s.projectId = :projectId
+      and s.stage = :stage
+      and s.capturedAt <= :until
+    order by s.capturedAt desc, s.id desc
+""")
+    List<ScrapForDigestView> findRecentForDigestUntil(
+            @Param("userId") Long userId,
+            @Param("projectId") Long projectId,
+            @Param("stage") String stage,
+            @Param("until") Instant until,
+            Pageable pageable
+    );
+
+    /**
+     * 증분 갱신용: 기존 요약 기준 시각(after) 이후 ~ 이번 기준 시각(until)까지 들어온 스크랩만
+     */
+    @Query("""
+    select new com.moa.moa_backend.domain.scrap.repository.projection.ScrapForDigestView(
+        s.id, s.stage, s.subtitle, s.memo,
+        case when s.normalizedText is null then s.rawHtml end,
+        s.normalizedText,
+        s.capturedAt
+    )
+    from Scrap s
+    where s.userId = :userId
+      and s.projectId = :projectId
+      and s.stage = :stage
+      and s.capturedAt > :after
+      and s.capturedAt <= :until
+    order by s.capturedAt desc, s.id desc
+""")
+    List<ScrapForDigestView> findForDigestBetween(
+            @Param("userId") Long userId,
+            @Param("projectId") Long projectId,
+            @Param("stage") String stage,
+            @Param("after") Instant after,
+            @Param("until") Instant until,
+            Pageable pageable
+    );
+
 }
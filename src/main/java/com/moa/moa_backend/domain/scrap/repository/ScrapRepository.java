@@ -3,6 +3,7 @@ package com.moa.moa_backend.domain.scrap.repository;
 import com.moa.moa_backend.domain.scrap.entity.Scrap;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -60,29 +61,30 @@ public interface ScrapRepository extends JpaRepository<Scrap, Long> {
 
     // =========================
     // Recent context (native)
+    // - scrap_activity 기준: 프로젝트별 가장 최근 stage 1개 (사용자 스크랩 수와 무관)
     // =========================
     @Query(value = """
         select x.project_id   as projectId,
                x.project_name as projectName,
                x.project_description as projectDescription,
                x.stage        as lastStage,
-               x.captured_at  as lastCapturedAt
+               x.last_captured_at as lastCapturedAt
         from (
-            select distinct on (s.project_id)
-                   s.project_id,
+            select distinct on (a.project_id)
+                   a.project_id,
                    p.project_name,
                    p.project_description,
-                   s.stage,
-                   s.captured_at,
-                   s.scrap_id
-            from scraps s
+                   a.stage,
+                   a.last_captured_at,
+                   a.last_scrap_id
+            from scrap_activity a
             join projects p
-              on p.project_id = s.project_id
-             and p.user_id    = s.user_id
-            where s.user_id = :userId
-            order by s.project_id, s.captured_at desc, s.scrap_id desc
+              on p.project_id = a.project_id
+             and p.user_id    = a.user_id
+            where a.user_id = :userId
+            order by a.project_id, a.last_captured_at desc, a.last_scrap_id desc
         ) x
-        order by x.captured_at desc
+        order by x.last_captured_at desc
         limit 3
     """, nativeQuery = true)
     List<RecentContextRow> findRecentContext(@Param("userId") Long userId);
@@ -94,4 +96,65 @@ public interface ScrapRepository extends JpaRepository<Scrap, Long> {
         String getLastStage();
         Instant getLastCapturedAt();
     }
+
+    // =========================
+    // normalized_text 백필
+    // =========================
+    @Query("""
+        select s.id as scrapId, s.rawHtml as rawHtml
+        from Scrap s
+        where s.normalizedText is null
+        order by s.id
+    """)
+    List<PendingNormalizationRow> findPendingNormalization(Pageable pageable);
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        update Scrap s
+           set s.normalizedText = :normalizedText
+         where s.id = :scrapId
+           and s.normalizedText is null
+    """)
+    int updateNormalizedTextIfNull(
+            @Param("scrapId") Long scrapId,
+            @Param("normalizedText") String normalizedText
+    );
+
+    interface PendingNormalizationRow {
+        Long getScrapId();
+        String getRawHtml();
+    }
+
+    // =========================
+    // 로컬 추천 모델 학습 데이터 (최근 N개, 본문은 앞부분만)
+    // =========================
+    @Query("""
+        select s.id as scrapId,
+               s.projectId as projectId,
+               s.stage as stage,
+               s.subtitle as subtitle,
+               s.memo as memo,
+               substring(s.normalizedText, 1, :maxChars) as normalizedText,
+               s.userRecProject as userRecProject,
+               s.userRecStage as userRecStage
+        from Scrap s
+        where s.userId = :userId
+        order by s.capturedAt desc, s.id desc
+    """)
+    List<ClassifierTrainingRow> findClassifierTrainingRows(
+            @Param("userId") Long userId,
+            @Param("maxChars") int maxChars,
+            Pageable pageable
+    );
+
+    interface ClassifierTrainingRow {
+        Long getScrapId();
+        Long getProjectId();
+        String getStage();
+        String getSubtitle();
+        String getMemo();
+        String getNormalizedText();
+        Boolean getUserRecProject();
+        Boolean getUserRecStage();
+    }
 }
@@ -1,9 +1,16 @@
 package com.moa.moa_backend.domain.scrap.repository.projection;
 
+import java.time.Instant;
+
+/**
+ * 스케줄러 자동 refresh 대상
+ * - projectName / latestCapturedAt은 target 조회 쿼리에서 함께 가져와
+ *   StageDigestService.refresh(target)에서 재조회하지 않는다.
+ */
 public record DigestRefreshTarget (
     Long userId,
     Long projectId,
-    String stage
+    String stage,
+    String projectName,
+    Instant latestCapturedAt
 ) {}
-
-
@@ -5,7 +5,9 @@ import java.time.Instant;
 /**
  * LLM 입력용으로 필요한 스크랩 필드만 추려온 Projection.
  * - memo는 선택사항이므로 null 가능.
- * - rawHtml은 크기 제한/전처리를 거쳐 LLM 입력에 포함한다.
+ * - normalizedText: 저장 시점에 정규화된 텍스트 (아직 백필 전이면 null)
+ * - rawHtml: normalizedText가 없을 때만 조회 (fallback 정규화용), 있으면 null
+ * - 서비스에서 DigestInputNormalizer.ensureNormalized로 normalizedText를 채워 어댑터에 넘긴다.
  */
 public record ScrapForDigestView(
         Long scrapId,
@@ -13,5 +15,6 @@ public record ScrapForDigestView(
         String subtitle,
         String memo,
         String rawHtml,
+        String normalizedText,
         Instant capturedAt
 ) {}
@@ -0,0 +1,11 @@
+package com.moa.moa_backend.domain.scrap.repository.projection;
+
+import java.time.Instant;
+
+/**
+ * 프로젝트 내 stage별 최신 스크랩 시각 (계층형 project digest 입력 판단용)
+ */
+public record StageLatestCapturedView(
+        String stage,
+        Instant latestCapturedAt
+) {}
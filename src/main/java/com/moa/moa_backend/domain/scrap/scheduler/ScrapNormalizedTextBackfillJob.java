@@ -0,0 +1,101 @@
+package com.moa.moa_backend.domain.scrap.scheduler;
+
+import com.moa.moa_backend.domain.digest.service.DigestInputNormalizer;
+import com.moa.moa_backend.domain.scrap.repository.ScrapRepository;
+import com.moa.moa_backend.domain.scrap.service.ScrapNormalizedTextWriter;
+import com.moa.moa_backend.global.lock.RefreshLockProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * scraps.normalized_text 백필
+ * - V10 이전에 저장된 스크랩(normalized_text IS NULL)을 배치로 정규화
+ * - 백필이 끝나면 partial index 조회가 빈 결과만 돌려주므로 부담 없음
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "moa.scrap.normalize-backfill.enabled", havingValue = "true", matchIfMissing = true)
+public class ScrapNormalizedTextBackfillJob {
+
+    private static final String LOCK_KEY = "scrap-normalized-text-backfill";
+
+    private final ScrapRepository scrapRepository;
+    private final ScrapNormalizedTextWriter scrapNormalizedTextWriter;
+    private final RefreshLockProvider refreshLockProvider;
+
+    /**
+     * 배치 1회당 처리 건수
+     */
+    @Value("${moa.scrap.normalize-backfill.batch-size:200}")
+    private int batchSize;
+
+    /**
+     * 실행 1회당 최대 배치 수 (한 번에 너무 오래 돌지 않도록)
+     */
+    @Value("${moa.scrap.normalize-backfill.max-batches-per-run:50}")
+    private int maxBatchesPerRun;
+
+    public ScrapNormalizedTextBackfillJob(
+            ScrapRepository scrapRepository,
+            ScrapNormalizedTextWriter scrapNormalizedTextWriter,
+            RefreshLockProvider refreshLockProvider
+    ) {
+        this.scrapRepository = scrapRepository;
+        this.scrapNormalizedTextWriter = scrapNormalizedTextWriter;
+        this.refreshLockProvider = refreshLockProvider;
+    }
+
+    @Scheduled(
+            fixedDelayString = "${moa.scrap.normalize-backfill.interval-ms:60000}",
+            initialDelayString = "${moa.scrap.normalize-backfill.initial-delay-ms:30000}"
+    )
+    public void run() {
+        Optional<RefreshLockProvider.RefreshLock> lockOpt = refreshLockProvider.tryAcquire(LOCK_KEY);
+        if (lockOpt.isEmpty()) {
+            return;
+        }
+
+        Instant start = Instant.now();
+        int scanned = 0;
+        int updated = 0;
+
+        try (RefreshLockProvider.RefreshLock ignored = lockOpt.get()) {
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                List<ScrapRepository.PendingNormalizationRow> rows =
+                        scrapRepository.findPendingNormalization(PageRequest.of(0, batchSize));
+                if (rows.isEmpty()) break;
+
+                // 정규화(Jsoup)는 트랜잭션 밖에서
+                Map<Long, String> normalized = new LinkedHashMap<>(rows.size() * 2);
+                for (ScrapRepository.PendingNormalizationRow row : rows) {
+                    normalized.put(row.getScrapId(), DigestInputNormalizer.normalizeForStorage(row.getRawHtml()));
+                }
+
+                scanned += rows.size();
+                updated += scrapNormalizedTextWriter.applyBatch(normalized);
+
+                if (rows.size() < batchSize) break;
+            }
+
+        } catch (Exception e) {
+            log.warn("[SCRAP][BACKFILL] normalized_text backfill failed. scanned={}, updated={}", scanned, updated, e);
+            return;
+        }
+
+        if (scanned > 0) {
+            log.info("[SCRAP][BACKFILL] normalized_text backfill. scanned={}, updated={}, elapsedMs={}",
+                    scanned, updated, Duration.between(start, Instant.now()).toMillis());
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.moa.moa_backend.domain.scrap.service;
+
+/**
+ * Draft commit으로 스크랩이 저장됨 (커밋 이후 리스너에서 사용: 로컬 추천 모델 학습 등)
+ * - normalizedText: 저장 시점에 정규화한 본문
+ * - userRec*: 사용자가 추천값을 그대로 받아들였는지 여부
+ */
+public record ScrapCommittedEvent(
+        Long userId,
+        Long scrapId,
+        Long projectId,
+        String stage,
+        String subtitle,
+        String memo,
+        String normalizedText,
+        boolean userRecProject,
+        boolean userRecStage
+) {}
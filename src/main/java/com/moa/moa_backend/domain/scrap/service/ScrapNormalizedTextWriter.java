@@ -0,0 +1,30 @@
+package com.moa.moa_backend.domain.scrap.service;
+
+import com.moa.moa_backend.domain.scrap.repository.ScrapRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+@RequiredArgsConstructor
+@Service
+public class ScrapNormalizedTextWriter {
+
+    private final ScrapRepository scrapRepository;
+
+    /**
+     * 백필 배치 반영 (정규화는 트랜잭션 밖에서 끝낸 뒤 update만 짧게)
+     * - 아직 NULL인 행만 갱신하므로 저장 시점 값/다른 노드 결과를 덮어쓰지 않는다
+     *
+     * @return 실제 갱신된 행 수
+     */
+    @Transactional
+    public int applyBatch(Map<Long, String> normalizedTextByScrapId) {
+        int updated = 0;
+        for (Map.Entry<Long, String> e : normalizedTextByScrapId.entrySet()) {
+            updated += scrapRepository.updateNormalizedTextIfNull(e.getKey(), e.getValue());
+        }
+        return updated;
+    }
+}
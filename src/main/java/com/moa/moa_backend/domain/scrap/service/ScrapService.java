@@ -1,5 +1,6 @@
 package com.moa.moa_backend.domain.scrap.service;
 
+import com.moa.moa_backend.domain.digest.service.DigestInputNormalizer;
 import com.moa.moa_backend.domain.draft.dto.DraftCommitRequest;
 import com.moa.moa_backend.domain.draft.entity.DraftStage;
 import com.moa.moa_backend.domain.draft.entity.RecMethod;
@@ -8,17 +9,21 @@ import com.moa.moa_backend.domain.scrap.dto.ScrapDetailResponse;
 import com.moa.moa_backend.domain.scrap.dto.ScrapListResponse;
 import com.moa.moa_backend.domain.scrap.dto.ScrapRecentContextResponse;
 import com.moa.moa_backend.domain.scrap.entity.Scrap;
+import com.moa.moa_backend.domain.scrap.repository.ScrapActivityRepository;
+import com.moa.moa_backend.domain.scrap.repository.ScrapDraftCommitRepository;
 import com.moa.moa_backend.domain.scrap.repository.ScrapRepository;
 import com.moa.moa_backend.domain.scrap.service.MarkdownConvertService;
 import com.moa.moa_backend.global.error.ApiException;
 import com.moa.moa_backend.global.error.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 @Transactional
 @RequiredArgsConstructor
@@ -29,8 +34,11 @@ public class ScrapService {
     private static final int MAX_LIMIT = 100;
 
     private final ScrapRepository scrapRepository;
+    private final ScrapActivityRepository scrapActivityRepository;
+    private final ScrapDraftCommitRepository scrapDraftCommitRepository;
     private final ProjectRepository projectRepository;
     private final MarkdownConvertService markdownConvertService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // =========================
     // Create (Draft commit -> Scrap)
@@ -74,7 +82,98 @@ public class ScrapService {
                 recMethod
         );
 
-        return scrapRepository.save(scrap).getId();
+        // digest 입력용 텍스트는 저장 시점에 1회만 정규화 (refresh마다 Jsoup 파싱하지 않도록)
+        scrap.updateNormalizedText(normalizedTextOf(rawHtml));
+
+        Long scrapId = scrapRepository.save(scrap).getId();
+
+        // 같은 트랜잭션에서 (user, project, stage) 최신 활동 갱신 (upsert)
+        scrapActivityRepository.recordScrap(userId, req.projectId(), req.stage(), scrapId, capturedAt);
+
+        // 리스너는 커밋 이후 실행 (롤백된 스크랩으로 학습하지 않도록)
+        eventPublisher.publishEvent(new ScrapCommittedEvent(
+                userId,
+                scrapId,
+                req.projectId(),
+                req.stage(),
+                subtitle,
+                req.memo(),
+                scrap.getNormalizedText(),
+                userRecProject,
+                userRecStage
+        ));
+
+        return scrapId;
+    }
+
+    // =========================
+    // Create (Draft commit -> Scrap, 단일 statement)
+    // =========================
+    /**
+     * draft 확인 ~ draft 삭제를 CTE 1문장으로 처리 (drafts 테이블 저장소 전용, Postgres)
+     * - DB를 보지 않는 입력 검증(projectId/stage/필수 필드)에 걸리면 empty:
+     *   호출자가 기존 경로로 처리해 에러 코드와 우선순위(draft 404/410 먼저)를 그대로 유지
+     * - insert 되었으면 기존 경로와 같은 ScrapCommittedEvent 발행 (호출자가 409로 롤백하면 리스너는 실행되지 않음)
+     *
+     * @return 판정 결과 (에러 코드 결정은 호출자)
+     */
+    public Optional<ScrapDraftCommitRepository.Result> createFromDraftCommitInSingleStatement(
+            Long userId,
+            Long draftId,
+            DraftCommitRequest req,
+            Instant capturedAt
+    ) {
+        if (req.projectId() == null || req.stage() == null || !DraftStage.isValid(req.stage())) {
+            return Optional.empty();
+        }
+
+        String rawHtml = trimToNull(req.rawHtml());
+        String subtitle = trimToNull(req.subtitle());
+        String aiSource = trimToNull(req.aiSource());
+        String aiSourceUrl = trimToNull(req.aiSourceUrl());
+        if (rawHtml == null || subtitle == null || aiSource == null || aiSourceUrl == null) {
+            return Optional.empty();
+        }
+
+        boolean userRecProject = Boolean.TRUE.equals(req.userRecProject());
+        boolean userRecStage = Boolean.TRUE.equals(req.userRecStage());
+        String normalizedText = normalizedTextOf(rawHtml);
+
+        ScrapDraftCommitRepository.Result result = scrapDraftCommitRepository.commit(
+                userId,
+                draftId,
+                new ScrapDraftCommitRepository.NewScrap(
+                        req.projectId(),
+                        req.stage(),
+                        rawHtml,
+                        normalizedText,
+                        subtitle,
+                        req.memo(),
+                        aiSource,
+                        aiSourceUrl,
+                        userRecProject,
+                        userRecStage,
+                        Boolean.TRUE.equals(req.userRecSubtitle()),
+                        capturedAt
+                ),
+                capturedAt
+        );
+
+        if (result.scrapId() != null) {
+            eventPublisher.publishEvent(new ScrapCommittedEvent(
+                    userId,
+                    result.scrapId(),
+                    req.projectId(),
+                    req.stage(),
+                    subtitle,
+                    req.memo(),
+                    normalizedText,
+                    userRecProject,
+                    userRecStage
+            ));
+        }
+
+        return Optional.of(result);
     }
 
     // =========================
@@ -212,6 +311,18 @@ public class ScrapService {
         return Math.min(limit, MAX_LIMIT);
     }
 
+    // Scrap.updateNormalizedText와 같은 규칙 (null -> "")
+    private static String normalizedTextOf(String rawHtml) {
+        String normalized = DigestInputNormalizer.normalizeForStorage(rawHtml);
+        return (normalized == null) ? "" : normalized;
+    }
+
+    private static String trimToNull(String v) {
+        if (v == null) return null;
+        String t = v.trim();
+        return t.isEmpty() ? null : t;
+    }
+
     private static String normalizeRequired(String v, String fieldName) {
         if (v == null) {
             throw new ApiException(ErrorCode.INVALID_REQUEST, fieldName + "은(는) 필수입니다.");
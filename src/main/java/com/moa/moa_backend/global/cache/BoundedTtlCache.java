@@ -0,0 +1,117 @@
+package com.moa.moa_backend.global.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 크기 제한 + TTL 메모리 캐시
+ * - TTL이 고정이므로 "마지막 write 순서 = 만료 순서"
+ *   -> LinkedHashMap(insertion order)의 앞쪽부터 만료된 것만 잘라내면 sweep이 끝난다.
+ * - maxSize 초과 시 가장 오래된(곧 만료될) 항목부터 제거
+ * - 조회 시 만료 확인 + 주기적 sweepExpired() 로 읽히지 않는 키도 정리
+ * <p>
+ * metrics (tag: cache=name)
+ * - moa.cache.gets{result=hit|miss}
+ * - moa.cache.evictions{cause=size|expired}
+ * - moa.cache.size
+ */
+public class BoundedTtlCache<K, V> {
+
+    private record Entry<V>(V value, long expiresAtNanos) {}
+
+    private final long ttlNanos;
+    private final int maxSize;
+    private final LongSupplier nanoClock;
+
+    private final LinkedHashMap<K, Entry<V>> map;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter sizeEvictions;
+    private final Counter expiredEvictions;
+
+    public BoundedTtlCache(String name, int maxSize, Duration ttl, MeterRegistry meterRegistry) {
+        this(name, maxSize, ttl, meterRegistry, System::nanoTime);
+    }
+
+    BoundedTtlCache(String name, int maxSize, Duration ttl, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        if (maxSize <= 0) throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+
+        this.hits = Counter.builder("moa.cache.gets").tag("cache", name).tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("moa.cache.gets").tag("cache", name).tag("result", "miss").register(meterRegistry);
+        this.sizeEvictions = Counter.builder("moa.cache.evictions").tag("cache", name).tag("cause", "size").register(meterRegistry);
+        this.expiredEvictions = Counter.builder("moa.cache.evictions").tag("cache", name).tag("cause", "expired").register(meterRegistry);
+
+        this.map = new LinkedHashMap<>(Math.min(maxSize, 1024), 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > BoundedTtlCache.this.maxSize) {
+                    sizeEvictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        Gauge.builder("moa.cache.size", this, BoundedTtlCache::size).tag("cache", name).register(meterRegistry);
+    }
+
+    public synchronized void put(K key, V value) {
+        // 재삽입으로 순서를 맨 뒤(가장 늦게 만료)로 옮긴다
+        map.remove(key);
+        map.put(key, new Entry<>(value, nanoClock.getAsLong() + ttlNanos));
+    }
+
+    public synchronized V getIfPresent(K key) {
+        Entry<V> e = map.get(key);
+        if (e == null) {
+            misses.increment();
+            return null;
+        }
+        if (nanoClock.getAsLong() - e.expiresAtNanos() > 0) {
+            map.remove(key);
+            expiredEvictions.increment();
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return e.value();
+    }
+
+    public synchronized void invalidate(K key) {
+        map.remove(key);
+    }
+
+    /**
+     * 만료된 항목 일괄 정리
+     * - 만료 순서로 정렬되어 있으므로 첫 미만료 항목에서 멈춘다
+     *
+     * @return 제거한 개수
+     */
+    public synchronized int sweepExpired() {
+        long now = nanoClock.getAsLong();
+        int removed = 0;
+        Iterator<Entry<V>> it = map.values().iterator();
+        while (it.hasNext()) {
+            if (now - it.next().expiresAtNanos() <= 0) break;
+            it.remove();
+            removed++;
+        }
+        if (removed > 0) expiredEvictions.increment(removed);
+        return removed;
+    }
+
+    public synchronized int size() {
+        return map.size();
+    }
+}
@@ -1,14 +1,84 @@
 package com.moa.moa_backend.global.config;
 
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.Http11SslContextSpec;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.function.Function;
 
 @Configuration
 public class WebClientConfig {
 
+    static final String GEMINI_POOL_NAME = "gemini";
+
     @Bean
+    @Primary
     public WebClient.Builder webClientBuilder() {
         return WebClient.builder();
     }
+
+    // =========================
+    // Gemini 전용 connector
+    // - draft 트래픽이 몰려도 warm TLS 연결을 재사용하도록 pool을 분리
+    // - pool 지표: reactor.netty.connection.provider.*{name=gemini}
+    // =========================
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider geminiConnectionProvider(
+            @Value("${moa.llm.http.max-connections:50}") int maxConnections,
+            @Value("${moa.llm.http.pending-acquire-max-count:200}") int pendingAcquireMaxCount,
+            @Value("${moa.llm.http.pending-acquire-timeout-ms:2000}") long pendingAcquireTimeoutMs,
+            @Value("${moa.llm.http.max-idle-time-ms:30000}") long maxIdleTimeMs,
+            @Value("${moa.llm.http.max-life-time-ms:300000}") long maxLifeTimeMs,
+            @Value("${moa.llm.http.evict-interval-ms:10000}") long evictIntervalMs
+    ) {
+        return ConnectionProvider.builder(GEMINI_POOL_NAME)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMs))     // 서버/LB가 먼저 끊기 전에 정리
+                .maxLifeTime(Duration.ofMillis(maxLifeTimeMs))
+                .evictInBackground(Duration.ofMillis(evictIntervalMs))
+                .lifo()                                            // 최근 쓴(살아있을 확률 높은) 연결부터 재사용
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public WebClient.Builder geminiWebClientBuilder(
+            @Qualifier("geminiConnectionProvider") ConnectionProvider connectionProvider,
+            @Value("${moa.llm.gemini.base-url:https://generativelanguage.googleapis.com}") String baseUrl,
+            @Value("${moa.llm.http.connect-timeout-ms:2000}") int connectTimeoutMs,
+            @Value("${moa.llm.http.tls-handshake-timeout-ms:3000}") long tlsHandshakeTimeoutMs,
+            @Value("${moa.llm.http.response-timeout-ms:30000}") long responseTimeoutMs,
+            @Value("${moa.llm.http.keep-alive:true}") boolean keepAlive,
+            @Value("${moa.llm.http.compress:true}") boolean compress,
+            @Value("${moa.llm.http.max-in-memory-size-kb:1024}") int maxInMemorySizeKb
+    ) {
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .option(ChannelOption.SO_KEEPALIVE, keepAlive)
+                .keepAlive(keepAlive)
+                .compress(compress)                                         // Accept-Encoding: gzip
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs))      // 호출별 Mono.timeout보다 큰 backstop
+                .metrics(true, uri -> GEMINI_POOL_NAME);                   // uri에 api key가 있으므로 tag는 고정값
+
+        if (baseUrl.startsWith("https")) {
+            httpClient = httpClient.secure(spec -> spec
+                    .sslContext(Http11SslContextSpec.forClient())
+                    .handshakeTimeout(Duration.ofMillis(tlsHandshakeTimeoutMs)));
+        }
+
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(c -> c.defaultCodecs().maxInMemorySize(maxInMemorySizeKb * 1024));
+    }
 }
@@ -0,0 +1,109 @@
+package com.moa.moa_backend.global.db;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Set;
+
+/**
+ * 커넥션 점유 계측 DataSource
+ * - getConnection 시점에 caller(호출 스택의 첫 애플리케이션 메서드)와 시각을 기록
+ * - close(풀 반납) 시점에 점유 시간 + 준비한 statement 수를 ConnectionHoldRecorder에 전달
+ * - 그 외 호출은 원본 커넥션에 그대로 위임 (unwrap/isWrapperFor 포함)
+ */
+final class ConnectionHoldDataSource extends DelegatingDataSource {
+
+    private static final String APP_PACKAGE = "com.moa.moa_backend";
+    private static final Set<String> STATEMENT_METHODS = Set.of("createStatement", "prepareStatement", "prepareCall");
+
+    private final ConnectionHoldRecorder recorder;
+
+    ConnectionHoldDataSource(DataSource target, ConnectionHoldRecorder recorder) {
+        super(target);
+        this.recorder = recorder;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return track(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return track(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection track(Connection target) {
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionHoldDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new TrackingHandler(target, callerOf(), System.nanoTime())
+        );
+    }
+
+    /**
+     * 계측 코드 / Spring CGLIB 프록시를 건너뛴 첫 애플리케이션 frame
+     * - Hibernate는 첫 statement 시점에 커넥션을 얻으므로 보통 트랜잭션 안의 서비스 메서드가 잡힌다.
+     */
+    static String callerOf() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(f -> f.getClassName().startsWith(APP_PACKAGE))
+                .filter(f -> !isSelf(f.getClassName()))
+                .filter(f -> !f.getClassName().contains("$$"))
+                .findFirst()
+                .map(f -> simpleName(f.getClassName()) + "." + f.getMethodName())
+                .orElse("unknown"));
+    }
+
+    private static boolean isSelf(String className) {
+        String self = ConnectionHoldDataSource.class.getName();
+        return className.equals(self) || className.startsWith(self + "$");
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+
+    private final class TrackingHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final String caller;
+        private final long acquiredAt;
+        private int statements;
+        private boolean closed;
+
+        TrackingHandler(Connection target, String caller, long acquiredAt) {
+            this.target = target;
+            this.caller = caller;
+            this.acquiredAt = acquiredAt;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+
+            if ("equals".equals(name)) return proxy == args[0];
+            if ("hashCode".equals(name)) return System.identityHashCode(proxy);
+            if ("toString".equals(name)) return "ConnectionHold[" + caller + "] " + target;
+
+            if (STATEMENT_METHODS.contains(name)) statements++;
+
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            } finally {
+                if ("close".equals(name) && !closed) {
+                    closed = true;
+                    recorder.record(caller, System.nanoTime() - acquiredAt, statements);
+                }
+            }
+        }
+    }
+}
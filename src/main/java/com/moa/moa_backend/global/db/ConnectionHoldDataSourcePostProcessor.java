@@ -0,0 +1,36 @@
+package com.moa.moa_backend.global.db;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * DataSource 빈을 ConnectionHoldDataSource로 감싼다
+ * - recorder는 ObjectProvider로 늦게 꺼낸다 (BeanPostProcessor는 일반 빈보다 먼저 만들어지므로)
+ * - 원본(HikariDataSource)은 DelegatingDataSource.unwrap으로 접근 가능 (pool metrics 등)
+ */
+@Component
+public class ConnectionHoldDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final boolean enabled;
+    private final ObjectProvider<ConnectionHoldRecorder> recorder;
+
+    public ConnectionHoldDataSourcePostProcessor(
+            @Value("${moa.db.connection-hold.enabled:true}") boolean enabled,
+            ObjectProvider<ConnectionHoldRecorder> recorder
+    ) {
+        this.enabled = enabled;
+        this.recorder = recorder;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!enabled || !(bean instanceof DataSource dataSource) || bean instanceof ConnectionHoldDataSource) {
+            return bean;
+        }
+        return new ConnectionHoldDataSource(dataSource, recorder.getObject());
+    }
+}
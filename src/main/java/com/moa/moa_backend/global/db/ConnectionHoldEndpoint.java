@@ -0,0 +1,28 @@
+package com.moa.moa_backend.global.db;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * /actuator/connectionholds (management 포트 전용, 읽기만)
+ * - GET: 누적 커넥션 점유 시간 상위 caller (풀 고갈 위험 후보)
+ * - 누적값은 프로세스 재시작 시 초기화 (구간 비교는 moa.db.connection.hold metric으로)
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "connectionholds")
+public class ConnectionHoldEndpoint {
+
+    private static final int TOP_LIMIT = 20;
+
+    private final ConnectionHoldRecorder recorder;
+
+    @ReadOperation
+    public List<ConnectionHoldRecorder.Offender> topOffenders() {
+        return recorder.topOffenders(TOP_LIMIT);
+    }
+}
@@ -0,0 +1,125 @@
+package com.moa.moa_backend.global.db;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * JDBC 커넥션 점유 기록 (checkout ~ close 1회 = 1건)
+ * - caller: 커넥션을 처음 요청한 애플리케이션 메서드 (대개 트랜잭션을 연 서비스 메서드)
+ * - metrics (tag: caller)
+ *   - moa.db.connection.hold (timer, histogram)
+ *   - moa.db.connection.statements (statement 준비 수)
+ * - 점유 시간이 warn-threshold 이상이면 warn 로그 (의도적으로 오래 잡는 caller는 warn-ignore-callers로 제외)
+ * - caller 종류가 max-callers를 넘으면 "other"로 묶는다 (metric tag 폭증 방지)
+ */
+@Slf4j
+@Component
+public class ConnectionHoldRecorder {
+
+    static final String OTHER = "other";
+
+    private final long warnThresholdNanos;
+    private final int maxCallers;
+    private final List<String> warnIgnoreCallers;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentHashMap<String, CallerStats> stats = new ConcurrentHashMap<>();
+
+    public ConnectionHoldRecorder(
+            @Value("${moa.db.connection-hold.warn-threshold-ms:1000}") long warnThresholdMs,
+            @Value("${moa.db.connection-hold.max-callers:300}") int maxCallers,
+            @Value("${moa.db.connection-hold.warn-ignore-callers:PostgresAdvisoryRefreshLockProvider.}") List<String> warnIgnoreCallers,
+            MeterRegistry meterRegistry
+    ) {
+        this.warnThresholdNanos = TimeUnit.MILLISECONDS.toNanos(warnThresholdMs);
+        this.maxCallers = maxCallers;
+        this.warnIgnoreCallers = List.copyOf(warnIgnoreCallers);
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 상위 점유자 (누적 점유 시간 내림차순)
+     */
+    public record Offender(
+            String caller,
+            long checkouts,
+            double totalHoldMs,
+            double avgHoldMs,
+            double maxHoldMs,
+            double avgStatements,
+            long slowCheckouts
+    ) {}
+
+    public void record(String caller, long holdNanos, int statements) {
+        String key = boundedCaller(caller);
+        CallerStats s = stats.computeIfAbsent(key, k -> new CallerStats());
+
+        boolean slow = holdNanos >= warnThresholdNanos;
+        s.checkouts.increment();
+        s.totalHoldNanos.add(holdNanos);
+        s.maxHoldNanos.accumulateAndGet(holdNanos, Math::max);
+        s.statements.add(statements);
+        if (slow) s.slowCheckouts.increment();
+
+        Timer.builder("moa.db.connection.hold")
+                .tag("caller", key)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(holdNanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("moa.db.connection.statements")
+                .tag("caller", key)
+                .register(meterRegistry)
+                .record(statements);
+
+        if (slow && warnIgnoreCallers.stream().noneMatch(caller::startsWith)) {
+            log.warn("[DB] connection held too long: caller={}, holdMs={}, statements={}",
+                    caller, TimeUnit.NANOSECONDS.toMillis(holdNanos), statements);
+        }
+    }
+
+    public List<Offender> topOffenders(int limit) {
+        return stats.entrySet().stream()
+                .map(e -> e.getValue().toOffender(e.getKey()))
+                .sorted(Comparator.comparingDouble(Offender::totalHoldMs).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    private String boundedCaller(String caller) {
+        if (stats.containsKey(caller) || stats.size() < maxCallers) return caller;
+        return OTHER;
+    }
+
+    private static final class CallerStats {
+        final LongAdder checkouts = new LongAdder();
+        final LongAdder totalHoldNanos = new LongAdder();
+        final AtomicLong maxHoldNanos = new AtomicLong();
+        final LongAdder statements = new LongAdder();
+        final LongAdder slowCheckouts = new LongAdder();
+
+        Offender toOffender(String caller) {
+            long n = checkouts.sum();
+            double totalMs = totalHoldNanos.sum() / 1_000_000.0;
+            return new Offender(
+                    caller,
+                    n,
+                    totalMs,
+                    (n == 0) ? 0 : totalMs / n,
+                    maxHoldNanos.get() / 1_000_000.0,
+                    (n == 0) ? 0 : (double) statements.sum() / n,
+                    slowCheckouts.sum()
+            );
+        }
+    }
+}
@@ -35,6 +35,7 @@ public enum ErrorCode {
 
     // digest
     DIGEST_REFRESH_IN_PROGRESS(HttpStatus.CONFLICT, "DIG_409", "해당 단계 요약이 이미 갱신 중입니다."),
+    DIGEST_REFRESH_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "DIG_503", "요약 갱신 요청이 많습니다. 잠시 후 다시 시도해주세요."),
 
     //server
     INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "SRV_500", "서버 오류가 발생했습니다."),
@@ -0,0 +1,22 @@
+package com.moa.moa_backend.global.llm;
+
+/**
+ * LLM 입력 토큰 수 추정 (ASCII 4글자 = 1토큰, 그 외 1글자 = 1토큰)
+ * - 프롬프트 예산(DigestPromptPacker)과 RPM/TPM 쿼터 차감(GeminiClient)이 같은 값을 쓰도록 한 곳에 둔다.
+ */
+public final class LlmTokenEstimator {
+
+    private LlmTokenEstimator() {
+    }
+
+    public static int estimateTokens(CharSequence s) {
+        if (s == null) return 0;
+        int ascii = 0;
+        int other = 0;
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) < 0x80) ascii++;
+            else other++;
+        }
+        return (ascii + 3) / 4 + other;
+    }
+}
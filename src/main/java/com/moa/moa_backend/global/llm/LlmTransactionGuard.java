@@ -0,0 +1,64 @@
+package com.moa.moa_backend.global.llm;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+/**
+ * DB 트랜잭션 안에서 외부 LLM 호출을 시작하는지 감시
+ * - 트랜잭션이 LLM 응답(수 초)을 기다리는 동안 Hikari 커넥션을 잡고 있으면 pool 전체가 막힌다.
+ * - 호출 시작 스레드에서 검사 (구독이 다른 스레드에서 일어나도 트랜잭션은 호출 스레드에 묶여 있음)
+ * - 위반 시 warn 로그 + moa.llm.tx-spanning-calls{client}, fail-fast면 IllegalStateException
+ */
+@Slf4j
+@Component
+public class LlmTransactionGuard {
+
+    private static final String APP_PACKAGE = "com.moa.moa_backend";
+
+    private final boolean failFast;
+    private final MeterRegistry meterRegistry;
+
+    public LlmTransactionGuard(
+            @Value("${moa.llm.tx-guard.fail-fast:false}") boolean failFast,
+            MeterRegistry meterRegistry
+    ) {
+        this.failFast = failFast;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param client 호출 대상 (metric tag, 예: gemini)
+     */
+    public void check(String client) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) return;
+
+        String txName = TransactionSynchronizationManager.getCurrentTransactionName();
+        String caller = callerFrame().orElse("unknown");
+
+        Counter.builder("moa.llm.tx-spanning-calls")
+                .tag("client", client)
+                .register(meterRegistry)
+                .increment();
+
+        log.warn("[LLM] outbound call inside DB transaction: client={}, tx={}, caller={}", client, txName, caller);
+
+        if (failFast) {
+            throw new IllegalStateException("LLM call inside DB transaction: tx=" + txName + ", caller=" + caller);
+        }
+    }
+
+    // llm 패키지(클라이언트/어댑터) 바깥의 첫 애플리케이션 frame (= 트랜잭션을 연 서비스 쪽)
+    private static Optional<String> callerFrame() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(f -> f.getClassName().startsWith(APP_PACKAGE))
+                .filter(f -> !f.getClassName().contains(".llm."))
+                .findFirst()
+                .map(f -> f.getClassName() + "." + f.getMethodName() + ":" + f.getLineNumber()));
+    }
+}
@@ -0,0 +1,168 @@
+package com.moa.moa_backend.global.llm.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * content-addressed LLM 결과 캐시 (llm_result_cache 테이블)
+ * <p>
+ * key = sha256(model, 프롬프트 템플릿 버전, 조립된 프롬프트)
+ * - 입력이 한 글자라도 다르면 다른 key → 무효화 로직이 필요 없다.
+ * - 템플릿 문구를 바꾸면 어댑터의 템플릿 버전을 올려서 이전 결과를 재사용하지 않게 한다.
+ * <p>
+ * 캐시는 "있으면 좋은 것"이므로 DB 오류는 로그만 남기고 miss로 취급한다.
+ * - 그래서 여기서는 트랜잭션을 묶지 않는다. (repository 호출 단위 트랜잭션)
+ *   묶으면 catch한 예외가 rollback-only로 남아 커밋 시점에 호출자에게 새어 나간다.
+ */
+@Slf4j
+@Component
+public class LlmResultCache {
+
+    private final LlmResultCacheRepository repository;
+    private final boolean enabled;
+    private final Duration ttl;
+    private final int maxEntries;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter puts;
+
+    public LlmResultCache(
+            LlmResultCacheRepository repository,
+            MeterRegistry meterRegistry,
+            @Value("${moa.llm.result-cache.enabled:true}") boolean enabled,
+            @Value("${moa.llm.result-cache.ttl-hours:168}") long ttlHours,
+            @Value("${moa.llm.result-cache.max-entries:10000}") int maxEntries
+    ) {
+        this.repository = repository;
+        this.enabled = enabled;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.maxEntries = maxEntries;
+
+        this.hits = Counter.builder("moa.llm.result-cache.gets").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("moa.llm.result-cache.gets").tag("result", "miss").register(meterRegistry);
+        this.puts = Counter.builder("moa.llm.result-cache.puts").register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 캐시 key 생성 (필드 사이에 구분자를 넣어 경계가 섞이지 않게 한다)
+     */
+    public static String keyOf(String model, String template, String prompt) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            md.update(model.getBytes(StandardCharsets.UTF_8));
+            md.update((byte) 0);
+            md.update(template.getBytes(StandardCharsets.UTF_8));
+            md.update((byte) 0);
+            md.update(prompt.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(md.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * 만료 전 결과가 있으면 반환 + LRU 시각 갱신
+     */
+    public Optional<String> get(String cacheKey) {
+        if (!enabled) return Optional.empty();
+
+        try {
+            OffsetDateTime now = OffsetDateTime.now();
+            Optional<LlmResultCacheEntry> found = repository.findById(cacheKey)
+                    .filter(e -> !e.isExpired(now));
+
+            if (found.isEmpty()) {
+                misses.increment();
+                return Optional.empty();
+            }
+
+            repository.touch(cacheKey, now);
+            hits.increment();
+            return Optional.of(found.get().getResultText());
+
+        } catch (DataAccessException e) {
+            log.warn("[LLM_CACHE] get failed. treat as miss. key={}", cacheKey, e);
+            misses.increment();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 검증까지 끝난 결과만 저장한다.
+     * - 같은 key로 동시에 저장하면 PK 충돌 → 먼저 저장된 결과를 그대로 둔다 (입력이 같으니 결과도 교환 가능)
+     */
+    public void put(String cacheKey, String model, String template, String resultText) {
+        if (!enabled || resultText == null || resultText.isBlank()) return;
+
+        try {
+            OffsetDateTime now = OffsetDateTime.now();
+            OffsetDateTime expiresAt = now.plus(ttl);
+
+            Optional<LlmResultCacheEntry> existing = repository.findById(cacheKey);
+            if (existing.isPresent()) {
+                LlmResultCacheEntry entry = existing.get();
+                entry.refresh(resultText, now, expiresAt);
+                repository.save(entry);
+            } else {
+                repository.saveAndFlush(LlmResultCacheEntry.create(cacheKey, model, template, resultText, now, expiresAt));
+            }
+            puts.increment();
+
+        } catch (DataIntegrityViolationException e) {
+            log.debug("[LLM_CACHE] put race ignored. key={}", cacheKey);
+        } catch (DataAccessException e) {
+            log.warn("[LLM_CACHE] put failed. key={}", cacheKey, e);
+        }
+    }
+
+    /**
+     * TTL 만료 + LRU(max-entries 초과분) 정리
+     */
+    @Scheduled(
+            initialDelayString = "${moa.llm.result-cache.purge-initial-delay-ms:60000}",
+            fixedDelayString = "${moa.llm.result-cache.purge-interval-ms:3600000}"
+    )
+    public void purge() {
+        if (!enabled) return;
+
+        try {
+            int expired = repository.deleteExpired(OffsetDateTime.now());
+
+            long excess = repository.count() - maxEntries;
+            int evicted = 0;
+            if (excess > 0) {
+                List<String> keys = repository.findLeastRecentlyUsedKeys(
+                        PageRequest.of(0, (int) Math.min(excess, Integer.MAX_VALUE)));
+                repository.deleteAllByIdInBatch(keys);
+                evicted = keys.size();
+            }
+
+            if (expired > 0 || evicted > 0) {
+                log.info("[LLM_CACHE] purge done. expired={}, lruEvicted={}", expired, evicted);
+            }
+        } catch (DataAccessException e) {
+            log.warn("[LLM_CACHE] purge failed", e);
+        }
+    }
+}
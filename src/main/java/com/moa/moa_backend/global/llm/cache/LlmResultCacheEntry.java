@@ -0,0 +1,75 @@
+package com.moa.moa_backend.global.llm.cache;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+/**
+ * llm_result_cache 엔티티
+ * - PK가 입력 해시(cache_key)라서 같은 입력이면 항상 같은 row를 가리킨다.
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "llm_result_cache")
+public class LlmResultCacheEntry {
+
+    @Id
+    @Column(name = "cache_key", length = 64)
+    private String cacheKey;
+
+    @Column(name = "model", nullable = false, length = 100)
+    private String model;
+
+    @Column(name = "template", nullable = false, length = 100)
+    private String template;
+
+    @Column(name = "result_text", nullable = false)
+    private String resultText;
+
+    @Column(name = "hit_count", nullable = false)
+    private long hitCount;
+
+    @Column(name = "created_at", nullable = false)
+    private OffsetDateTime createdAt;
+
+    @Column(name = "last_accessed_at", nullable = false)
+    private OffsetDateTime lastAccessedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private OffsetDateTime expiresAt;
+
+    public static LlmResultCacheEntry create(
+            String cacheKey,
+            String model,
+            String template,
+            String resultText,
+            OffsetDateTime now,
+            OffsetDateTime expiresAt
+    ) {
+        LlmResultCacheEntry e = new LlmResultCacheEntry();
+        e.cacheKey = cacheKey;
+        e.model = model;
+        e.template = template;
+        e.resultText = resultText;
+        e.createdAt = now;
+        e.lastAccessedAt = now;
+        e.expiresAt = expiresAt;
+        return e;
+    }
+
+    public boolean isExpired(OffsetDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    /**
+     * 같은 입력으로 다시 생성된 결과 반영 (만료 후 재생성 등)
+     */
+    public void refresh(String resultText, OffsetDateTime now, OffsetDateTime expiresAt) {
+        this.resultText = resultText;
+        this.lastAccessedAt = now;
+        this.expiresAt = expiresAt;
+    }
+}
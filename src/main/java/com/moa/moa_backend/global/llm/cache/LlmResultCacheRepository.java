@@ -0,0 +1,42 @@
+package com.moa.moa_backend.global.llm.cache;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public interface LlmResultCacheRepository extends JpaRepository<LlmResultCacheEntry, String> {
+
+    /**
+     * 캐시 hit 기록 (LRU 기준 시각 + hit 횟수)
+     * - 엔티티 dirty checking 대신 단건 update로 처리
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+        update LlmResultCacheEntry e
+           set e.lastAccessedAt = :now,
+               e.hitCount = e.hitCount + 1
+         where e.cacheKey = :cacheKey
+        """)
+    int touch(@Param("cacheKey") String cacheKey, @Param("now") OffsetDateTime now);
+
+    /**
+     * TTL 만료 항목 삭제
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from LlmResultCacheEntry e where e.expiresAt <= :now")
+    int deleteExpired(@Param("now") OffsetDateTime now);
+
+    /**
+     * LRU 정리 대상: 가장 오래 안 쓰인 순
+     */
+    @Query("select e.cacheKey from LlmResultCacheEntry e order by e.lastAccessedAt asc")
+    List<String> findLeastRecentlyUsedKeys(Pageable pageable);
+}
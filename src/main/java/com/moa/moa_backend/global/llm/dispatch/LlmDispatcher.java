@@ -0,0 +1,257 @@
+package com.moa.moa_backend.global.llm.dispatch;
+
+import com.moa.moa_backend.global.llm.gemini.GeminiClientException;
+import com.moa.moa_backend.global.llm.ratelimit.AdaptiveConcurrencyLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 우선순위별 LLM 호출 슬롯 배분
+ * - 우선순위마다 전용(reserved) 슬롯 + 모두가 빌려 쓰는 공용(shared) 슬롯
+ * - 공용 슬롯은 우선순위별 borrow-limit까지만 사용 (배치가 공용을 다 점유하지 못하도록)
+ * - 슬롯이 없으면 우선순위별 대기열에서 대기, 반환 시 높은 우선순위 대기자부터 배정
+ * - 전체 배정 수는 AdaptiveConcurrencyLimiter의 현재 limit을 넘지 않는다
+ *   (429 등으로 limit이 줄면 초과분은 거절되지 않고 대기열에서 우선순위대로 기다린다)
+ * - max-wait 안에 못 받으면 GeminiClientException (draft는 짧게 → 바로 heuristic fallback)
+ * <p>
+ * 대기는 Mono로 표현되어 스레드를 점유하지 않는다.
+ */
+@Slf4j
+@Component
+public class LlmDispatcher {
+
+    private final int shared;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final Map<LlmPriority, ClassConfig> configs = new EnumMap<>(LlmPriority.class);
+
+    // ---- 아래 상태는 this 모니터로 보호 ----
+    private int sharedInUse;
+    private final Map<LlmPriority, ClassState> states = new EnumMap<>(LlmPriority.class);
+
+    private final Map<LlmPriority, Counter> timeouts = new EnumMap<>(LlmPriority.class);
+
+    public LlmDispatcher(
+            @Value("${moa.llm.dispatch.shared:8}") int shared,
+            @Value("${moa.llm.dispatch.draft.reserved:8}") int draftReserved,
+            @Value("${moa.llm.dispatch.draft.borrow-limit:8}") int draftBorrowLimit,
+            @Value("${moa.llm.dispatch.draft.max-wait-ms:300}") long draftMaxWaitMs,
+            @Value("${moa.llm.dispatch.interactive-digest.reserved:2}") int interactiveReserved,
+            @Value("${moa.llm.dispatch.interactive-digest.borrow-limit:6}") int interactiveBorrowLimit,
+            @Value("${moa.llm.dispatch.interactive-digest.max-wait-ms:5000}") long interactiveMaxWaitMs,
+            @Value("${moa.llm.dispatch.scheduled-digest.reserved:0}") int scheduledReserved,
+            @Value("${moa.llm.dispatch.scheduled-digest.borrow-limit:4}") int scheduledBorrowLimit,
+            @Value("${moa.llm.dispatch.scheduled-digest.max-wait-ms:60000}") long scheduledMaxWaitMs,
+            AdaptiveConcurrencyLimiter concurrencyLimiter,
+            MeterRegistry meterRegistry
+    ) {
+        this.shared = shared;
+        this.concurrencyLimiter = concurrencyLimiter;
+        configs.put(LlmPriority.DRAFT, new ClassConfig(draftReserved, draftBorrowLimit, draftMaxWaitMs));
+        configs.put(LlmPriority.INTERACTIVE_DIGEST, new ClassConfig(interactiveReserved, interactiveBorrowLimit, interactiveMaxWaitMs));
+        configs.put(LlmPriority.SCHEDULED_DIGEST, new ClassConfig(scheduledReserved, scheduledBorrowLimit, scheduledMaxWaitMs));
+
+        for (LlmPriority p : LlmPriority.values()) {
+            ClassConfig c = configs.get(p);
+            if (c.reserved() < 0 || c.borrowLimit() < 0 || c.reserved() + Math.min(c.borrowLimit(), shared) <= 0) {
+                throw new IllegalArgumentException("LLM dispatch class has no capacity. priority=" + p + ", config=" + c);
+            }
+            states.put(p, new ClassState());
+
+            String tag = p.name().toLowerCase();
+            timeouts.put(p, Counter.builder("moa.llm.dispatch.timeouts").tag("priority", tag).register(meterRegistry));
+            Gauge.builder("moa.llm.dispatch.in-use", this, d -> d.inUse(p)).tag("priority", tag).register(meterRegistry);
+            Gauge.builder("moa.llm.dispatch.waiting", this, d -> d.waiting(p)).tag("priority", tag).register(meterRegistry);
+        }
+    }
+
+    /**
+     * 슬롯 획득 (구독 시점에 시도, 없으면 대기)
+     * - 받은 Permit은 호출이 끝나면 release (여러 번 호출해도 1회만 반영)
+     */
+    public Mono<Permit> acquire(LlmPriority priority) {
+        ClassConfig config = configs.get(priority);
+
+        return Mono.<Permit>create(sink -> {
+                    Waiter waiter = new Waiter(priority, sink);
+                    sink.onCancel(waiter::cancel);
+                    enqueue(waiter);
+                })
+                .timeout(Duration.ofMillis(config.maxWaitMs()))
+                .onErrorMap(TimeoutException.class, e -> {
+                    timeouts.get(priority).increment();
+                    return new GeminiClientException("LLM dispatch wait exceeded. priority=" + priority, e);
+                });
+    }
+
+    /**
+     * 대기열에 넣고 바로 배정 시도 (대기자가 없으면 즉시 배정됨)
+     */
+    private void enqueue(Waiter waiter) {
+        synchronized (this) {
+            states.get(waiter.priority).waiters.addLast(waiter);
+        }
+        drain();
+    }
+
+    /**
+     * 높은 우선순위부터, 받을 수 있는 슬롯이 있는 동안 대기자에게 배정
+     * - 전체 배정 수가 동시성 limit에 닿으면 중단 (limit은 성공 시 늘어나고, 그 뒤 release가 다시 drain)
+     * - sink 호출은 모니터 밖에서 (downstream이 같은 스레드에서 바로 release할 수 있음)
+     */
+    private void drain() {
+        while (true) {
+            Waiter granted = null;
+            Permit permit = null;
+
+            synchronized (this) {
+                if (totalInUse() >= (int) concurrencyLimiter.limit()) return;
+
+                for (LlmPriority p : LlmPriority.values()) {
+                    ClassState st = states.get(p);
+                    ClassConfig c = configs.get(p);
+
+                    Waiter head;
+                    while ((head = st.waiters.peekFirst()) != null && head.isCancelled()) {
+                        st.waiters.pollFirst();
+                    }
+                    if (head == null) continue;
+
+                    boolean fromShared;
+                    if (st.reservedInUse < c.reserved()) {
+                        fromShared = false;
+                    } else if (sharedInUse < shared && st.sharedInUse < c.borrowLimit()) {
+                        fromShared = true;
+                    } else {
+                        continue;
+                    }
+
+                    st.waiters.pollFirst();
+                    if (fromShared) {
+                        sharedInUse++;
+                        st.sharedInUse++;
+                    } else {
+                        st.reservedInUse++;
+                    }
+                    granted = head;
+                    permit = new Permit(p, fromShared);
+                    break;
+                }
+            }
+
+            if (granted == null) return;
+            granted.grant(permit);
+        }
+    }
+
+    private void release(Permit permit) {
+        synchronized (this) {
+            ClassState st = states.get(permit.priority);
+            if (permit.fromShared) {
+                sharedInUse--;
+                st.sharedInUse--;
+            } else {
+                st.reservedInUse--;
+            }
+        }
+        drain();
+    }
+
+    private int totalInUse() {
+        int total = 0;
+        for (ClassState st : states.values()) total += st.reservedInUse + st.sharedInUse;
+        return total;
+    }
+
+    public synchronized int inUse(LlmPriority priority) {
+        ClassState st = states.get(priority);
+        return st.reservedInUse + st.sharedInUse;
+    }
+
+    public synchronized int waiting(LlmPriority priority) {
+        return (int) states.get(priority).waiters.stream().filter(w -> !w.isCancelled()).count();
+    }
+
+    /**
+     * 배정받은 슬롯 (호출 종료 시 release)
+     */
+    public final class Permit {
+        private final LlmPriority priority;
+        private final boolean fromShared;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        private Permit(LlmPriority priority, boolean fromShared) {
+            this.priority = priority;
+            this.fromShared = fromShared;
+        }
+
+        public LlmPriority priority() {
+            return priority;
+        }
+
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                LlmDispatcher.this.release(this);
+            }
+        }
+    }
+
+    private static final int WAITING = 0;
+    private static final int GRANTED = 1;
+    private static final int CANCELLED = 2;
+
+    private static final class Waiter {
+        private final LlmPriority priority;
+        private final MonoSink<Permit> sink;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+        private volatile Permit permit;
+
+        private Waiter(LlmPriority priority, MonoSink<Permit> sink) {
+            this.priority = priority;
+            this.sink = sink;
+        }
+
+        boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        void grant(Permit p) {
+            permit = p;
+            if (state.compareAndSet(WAITING, GRANTED)) {
+                sink.success(p);
+            } else {
+                p.release(); // 배정 직전에 취소(timeout)됨
+            }
+        }
+
+        void cancel() {
+            if (!state.compareAndSet(WAITING, CANCELLED)) {
+                // 배정과 취소가 겹쳐 success가 버려졌을 수 있음 -> 슬롯 반환 (release는 멱등)
+                Permit p = permit;
+                if (p != null) p.release();
+            }
+        }
+    }
+
+    private record ClassConfig(int reserved, int borrowLimit, long maxWaitMs) {
+    }
+
+    private static final class ClassState {
+        private final ArrayDeque<Waiter> waiters = new ArrayDeque<>();
+        private int reservedInUse;
+        private int sharedInUse;
+    }
+}
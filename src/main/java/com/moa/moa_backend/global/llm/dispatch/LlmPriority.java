@@ -0,0 +1,13 @@
+package com.moa.moa_backend.global.llm.dispatch;
+
+/**
+ * LLM 호출 우선순위 (선언 순서 = 높은 순)
+ * - DRAFT: 드래프트 추천 (짧은 timeout, 실패 시 heuristic fallback)
+ * - INTERACTIVE_DIGEST: 사용자가 누른 요약 refresh (동기/비동기/스트리밍)
+ * - SCHEDULED_DIGEST: 야간 자동 refresh 등 배치
+ */
+public enum LlmPriority {
+    DRAFT,
+    INTERACTIVE_DIGEST,
+    SCHEDULED_DIGEST
+}
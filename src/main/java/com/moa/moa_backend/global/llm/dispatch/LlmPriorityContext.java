@@ -0,0 +1,32 @@
+package com.moa.moa_backend.global.llm.dispatch;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 LLM 호출 우선순위
+ * - 지정이 없으면 INTERACTIVE_DIGEST (사용자 요청 경로)
+ * - GeminiClient는 호출 시점(구독 전)에 읽으므로, 호출하는 스레드에서 감싸야 한다.
+ */
+public final class LlmPriorityContext {
+
+    private static final ThreadLocal<LlmPriority> CURRENT = new ThreadLocal<>();
+
+    private LlmPriorityContext() {
+    }
+
+    public static LlmPriority current() {
+        LlmPriority p = CURRENT.get();
+        return (p == null) ? LlmPriority.INTERACTIVE_DIGEST : p;
+    }
+
+    public static <T> T with(LlmPriority priority, Supplier<T> body) {
+        LlmPriority previous = CURRENT.get();
+        CURRENT.set(priority);
+        try {
+            return body.get();
+        } finally {
+            if (previous == null) CURRENT.remove();
+            else CURRENT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.moa.moa_backend.global.llm.gemini;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Gemini 호출 circuit breaker (count 기반 sliding window)
+ * - CLOSED: 최근 window-size건 중 실패율이 failure-rate-threshold 이상이면 OPEN
+ * - OPEN: open-duration 동안 호출 없이 즉시 실패 (GeminiCircuitOpenException)
+ * - HALF_OPEN: probe 호출을 half-open-probes건까지만 허용, 모두 성공하면 CLOSED / 하나라도 실패하면 다시 OPEN
+ * <p>
+ * 실패 = provider 장애 신호(429/5xx/timeout/연결 실패). 400 등 요청 오류나 응답 파싱 실패는 성공으로 본다.
+ * <p>
+ * 결과 보고는 허가(Permission)에 담긴 상태 epoch 기준: 허가 이후 상태가 바뀌었으면(긴 digest 호출이 OPEN을 지나 늦게 끝난 경우 등)
+ * 그 결과는 버린다. probe 집계는 HALF_OPEN에서 probe로 받은 허가만 건드린다.
+ */
+@Slf4j
+@Component
+public class GeminiCircuitBreaker {
+
+    public enum State { CLOSED, HALF_OPEN, OPEN }
+
+    /**
+     * 호출 1건의 허가
+     *
+     * @param epoch 허가 시점의 상태 epoch (상태 전환마다 증가)
+     * @param probe HALF_OPEN probe로 받은 허가인지
+     */
+    public record Permission(long epoch, boolean probe) {}
+
+    private final LongSupplier nanoClock;
+
+    private final int windowSize;
+    private final int minCalls;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenProbes;
+
+    // ---- 아래 상태는 this 모니터로 보호 ----
+    private State state = State.CLOSED;
+    private final boolean[] window;     // true = 실패
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+    private long openedAtNanos;
+    private int probesInFlight;
+    private int probeSuccesses;
+    private long epoch;
+
+    @Autowired
+    public GeminiCircuitBreaker(
+            @Value("${moa.llm.circuit-breaker.window-size:20}") int windowSize,
+            @Value("${moa.llm.circuit-breaker.min-calls:10}") int minCalls,
+            @Value("${moa.llm.circuit-breaker.failure-rate-threshold:0.5}") double failureRateThreshold,
+            @Value("${moa.llm.circuit-breaker.open-duration-ms:30000}") long openDurationMs,
+            @Value("${moa.llm.circuit-breaker.half-open-probes:3}") int halfOpenProbes,
+            MeterRegistry meterRegistry
+    ) {
+        this(windowSize, minCalls, failureRateThreshold, openDurationMs, halfOpenProbes, System::nanoTime);
+        Gauge.builder("moa.llm.circuit.state", this, b -> b.state().ordinal())
+                .description("0=CLOSED, 1=HALF_OPEN, 2=OPEN")
+                .register(meterRegistry);
+    }
+
+    GeminiCircuitBreaker(
+            int windowSize, int minCalls, double failureRateThreshold,
+            long openDurationMs, int halfOpenProbes, LongSupplier nanoClock
+    ) {
+        if (windowSize <= 0 || minCalls <= 0 || halfOpenProbes <= 0) {
+            throw new IllegalArgumentException("invalid circuit breaker config. windowSize=" + windowSize
+                    + ", minCalls=" + minCalls + ", halfOpenProbes=" + halfOpenProbes);
+        }
+        this.windowSize = windowSize;
+        this.minCalls = Math.min(minCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(openDurationMs);
+        this.halfOpenProbes = halfOpenProbes;
+        this.nanoClock = nanoClock;
+        this.window = new boolean[windowSize];
+    }
+
+    /**
+     * 호출 허용 여부 확인
+     * - 허용되면 결과에 맞춰 onSuccess/onFailure/onIgnored 중 하나를 받은 Permission으로 정확히 한 번 호출
+     *
+     * @throws GeminiCircuitOpenException OPEN이거나 HALF_OPEN probe가 이미 다 나간 경우
+     */
+    public synchronized Permission acquirePermission() {
+        State s = state();
+        if (s == State.CLOSED) return new Permission(epoch, false);
+
+        if (s == State.HALF_OPEN && probesInFlight + probeSuccesses < halfOpenProbes) {
+            probesInFlight++;
+            return new Permission(epoch, true);
+        }
+        throw new GeminiCircuitOpenException(remainingOpen());
+    }
+
+    /**
+     * OPEN이면 즉시 실패 (permission은 잡지 않음: 대기열에 들어가기 전 빠른 거절용)
+     */
+    public synchronized void ensureNotOpen() {
+        if (state() == State.OPEN) {
+            throw new GeminiCircuitOpenException(remainingOpen());
+        }
+    }
+
+    public synchronized void onSuccess(Permission permission) {
+        if (isStale(permission)) return;
+
+        if (permission.probe()) {
+            probesInFlight--;
+            if (++probeSuccesses >= halfOpenProbes) {
+                transition(State.CLOSED);
+            }
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure(Permission permission) {
+        if (isStale(permission)) return;
+
+        if (permission.probe()) {
+            transition(State.OPEN);
+            return;
+        }
+        record(true);
+        if (windowCount >= minCalls && (double) windowFailures / windowCount >= failureRateThreshold) {
+            transition(State.OPEN);
+        }
+    }
+
+    /**
+     * 결과를 판단할 수 없는 종료(취소, 동시성 제한으로 미호출 등): probe 슬롯만 반환
+     */
+    public synchronized void onIgnored(Permission permission) {
+        if (isStale(permission)) return;
+
+        if (permission.probe()) {
+            probesInFlight--;
+        }
+    }
+
+    // 허가 이후 상태가 바뀌었으면 그 결과는 현재 상태와 무관
+    private boolean isStale(Permission permission) {
+        return permission.epoch() != epoch;
+    }
+
+    /**
+     * OPEN 기간이 지났으면 HALF_OPEN으로 전환해서 반환
+     */
+    public synchronized State state() {
+        if (state == State.OPEN && nanoClock.getAsLong() - openedAtNanos >= openDurationNanos) {
+            transition(State.HALF_OPEN);
+        }
+        return state;
+    }
+
+    public boolean isOpen() {
+        return state() == State.OPEN;
+    }
+
+    private void record(boolean failure) {
+        if (windowCount == windowSize) {
+            if (window[windowIndex]) windowFailures--;
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failure;
+        if (failure) windowFailures++;
+        windowIndex = (windowIndex + 1) % windowSize;
+    }
+
+    private Duration remainingOpen() {
+        if (state != State.OPEN) return Duration.ZERO;
+        long remaining = openDurationNanos - (nanoClock.getAsLong() - openedAtNanos);
+        return Duration.ofNanos(Math.max(0, remaining));
+    }
+
+    private void transition(State next) {
+        State prev = state;
+        state = next;
+        epoch++;
+        probesInFlight = 0;
+        probeSuccesses = 0;
+
+        switch (next) {
+            case OPEN -> {
+                openedAtNanos = nanoClock.getAsLong();
+                log.warn("[LLM][CIRCUIT] {} -> OPEN. failures={}/{}", prev, windowFailures, windowCount);
+            }
+            case HALF_OPEN -> log.info("[LLM][CIRCUIT] OPEN -> HALF_OPEN");
+            case CLOSED -> {
+                windowIndex = 0;
+                windowCount = 0;
+                windowFailures = 0;
+                log.info("[LLM][CIRCUIT] {} -> CLOSED", prev);
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.moa.moa_backend.global.llm.gemini;
+
+import java.time.Duration;
+
+/**
+ * circuit open 상태라 Gemini를 호출하지 않고 즉시 실패
+ * - retryAfter: open 해제(half-open 전환)까지 남은 시간
+ */
+public class GeminiCircuitOpenException extends GeminiClientException {
+
+    private final Duration retryAfter;
+
+    public GeminiCircuitOpenException(Duration retryAfter) {
+        super("Gemini circuit open. retryAfter=" + retryAfter.toSeconds() + "s");
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
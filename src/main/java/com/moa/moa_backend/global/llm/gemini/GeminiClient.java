@@ -1,13 +1,29 @@
 package com.moa.moa_backend.global.llm.gemini;
 
+import com.moa.moa_backend.global.llm.LlmTokenEstimator;
+import com.moa.moa_backend.global.llm.LlmTransactionGuard;
+import com.moa.moa_backend.global.llm.dispatch.LlmDispatcher;
+import com.moa.moa_backend.global.llm.dispatch.LlmPriority;
+import com.moa.moa_backend.global.llm.dispatch.LlmPriorityContext;
+import com.moa.moa_backend.global.llm.ratelimit.AdaptiveConcurrencyLimiter;
+import com.moa.moa_backend.global.llm.ratelimit.LlmRateLimiter;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 @Component
 public class GeminiClient {
@@ -16,32 +32,85 @@ public class GeminiClient {
     private final String apiKey;
     private final String model;
     private final Duration timeout;
+    private final LlmRateLimiter rateLimiter;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final GeminiCircuitBreaker circuitBreaker;
+    private final LlmDispatcher dispatcher;
+    private final LlmTransactionGuard transactionGuard;
 
     public GeminiClient(
-            WebClient.Builder builder,
+            @Qualifier("geminiWebClientBuilder") WebClient.Builder builder,
+            LlmRateLimiter rateLimiter,
+            AdaptiveConcurrencyLimiter concurrencyLimiter,
+            GeminiCircuitBreaker circuitBreaker,
+            LlmDispatcher dispatcher,
+            LlmTransactionGuard transactionGuard,
+            @Value("${moa.llm.gemini.base-url:https://generativelanguage.googleapis.com}") String baseUrl,
             @Value("${moa.llm.gemini.api-key}") String apiKey,
             @Value("${moa.llm.gemini.model:gemini-2.0-flash}") String model,
             @Value("${moa.llm.timeout-ms:3000}") long timeoutMs
     ) {
-        this.webClient = builder.baseUrl("https://generativelanguage.googleapis.com").build();
+        this.webClient = builder.baseUrl(baseUrl).build();
         this.apiKey = apiKey;
         this.model = model;
         this.timeout = Duration.ofMillis(timeoutMs);
+        this.rateLimiter = rateLimiter;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.circuitBreaker = circuitBreaker;
+        this.dispatcher = dispatcher;
+        this.transactionGuard = transactionGuard;
     }
+
+    /**
+     * 호출 모델명 (LLM 결과 캐시 key 구성용)
+     */
+    public String model() {
+        return model;
+    }
+
     // draft: 기본 timeout
     public String generateText(String prompt) {
-        return generateTextInternal(prompt, timeout);
+        return generateText(prompt, null);
     }
 
-    // digest: timeout override
+    /**
+     * digest: timeout override
+     * - 동기 API는 generateTextMono 위의 얇은 어댑터 (호출 스레드만 응답까지 대기)
+     * - 실패는 모두 GeminiClientException
+     */
     public String generateText(String prompt, Duration timeoutOverride) {
-        Duration t = (timeoutOverride != null) ? timeoutOverride : timeout;
-        return generateTextInternal(prompt, t);
+        return generateTextMono(prompt, timeoutOverride).block();
     }
 
-    private String generateTextInternal(String prompt, Duration t) {
-        try {
-            GeminiResponse response = webClient.post()
+    /**
+     * 비동기 API (CompletableFuture)
+     * - 완료/실패 콜백은 WebClient(event loop) 스레드에서 실행되므로, 이어지는 blocking 작업(DB 등)은 별도 executor로 넘긴다.
+     */
+    public CompletableFuture<String> generateTextAsync(String prompt) {
+        return generateTextAsync(prompt, null);
+    }
+
+    public CompletableFuture<String> generateTextAsync(String prompt, Duration timeoutOverride) {
+        return generateTextMono(prompt, timeoutOverride).toFuture();
+    }
+
+    /**
+     * 논블로킹 API (Reactor)
+     * - subscribe 시점에 호출, 스레드를 점유하지 않는다.
+     * - timeout/HTTP 오류/빈 응답은 GeminiClientException으로 변환
+     * - circuit open이면 호출 없이 GeminiCircuitOpenException
+     * - 우선순위(LlmPriorityContext)별 슬롯을 받은 뒤 호출 (슬롯은 동시성 limit 안에서만 배정), 슬롯 대기 초과는 GeminiClientException
+     * - 429/성공 피드백은 limiter에 반영
+     * - 드래프트/사용자 호출은 RPM/TPM bucket을 대기 없이 차감, 모자라면 GeminiClientException (배치는 스케줄러가 미리 차감)
+     * - DB 트랜잭션 안에서 호출하면 LlmTransactionGuard가 보고 (커넥션을 응답까지 점유하므로)
+     */
+    public Mono<String> generateTextMono(String prompt, Duration timeoutOverride) {
+        Duration t = (timeoutOverride != null) ? timeoutOverride : timeout;
+        transactionGuard.check("gemini");
+
+        return dispatched(LlmPriorityContext.current(), prompt, () -> {
+            Permit permit = acquirePermit(true);
+            return webClient.post()
                     .uri(uriBuilder -> uriBuilder
                             .path("/v1beta/models/{model}:generateContent")
                             .queryParam("key", apiKey)
@@ -50,20 +119,181 @@ public class GeminiClient {
                     .bodyValue(requestBody(prompt))
                     .retrieve()
                     .bodyToMono(GeminiResponse.class)
-                    .block(t);
+                    .timeout(t)
+                    .doOnSuccess(r -> permit.success())
+                    .doOnError(permit::failure)
+                    .doOnCancel(permit::cancel);
+        })
+                .switchIfEmpty(Mono.error(() -> new GeminiClientException("Gemini response is null")))
+                .map(this::extractText)
+                .doOnNext(text -> rateLimiter.onSuccess())
+                .onErrorMap(e -> !(e instanceof GeminiClientException), e -> toClientException(e, "Gemini call failed"));
+    }
+
+    /**
+     * 스트리밍 생성 (streamGenerateContent?alt=sse)
+     * - SSE data 1건 = GeminiResponse 1건, 각 응답의 text 조각을 순서대로 내보낸다.
+     * - timeout은 조각 사이 최대 대기 시간 (첫 조각 포함)
+     * - 429/성공 피드백은 generateText와 동일하게 limiter에 반영
+     */
+    public Flux<String> streamText(String prompt, Duration timeoutOverride) {
+        Duration t = (timeoutOverride != null) ? timeoutOverride : timeout;
+        transactionGuard.check("gemini");
 
-            if (response == null) throw new GeminiClientException("Gemini response is null");
-            return extractText(response);
+        return dispatchedMany(LlmPriorityContext.current(), prompt, () -> {
+            Permit permit = acquirePermit(false);
+            return webClient.post()
+                    .uri(uriBuilder -> uriBuilder
+                            .path("/v1beta/models/{model}:streamGenerateContent")
+                            .queryParam("alt", "sse")
+                            .queryParam("key", apiKey)
+                            .build(model)
+                    )
+                    .accept(MediaType.TEXT_EVENT_STREAM)
+                    .bodyValue(requestBody(prompt))
+                    .retrieve()
+                    .bodyToFlux(GeminiResponse.class)
+                    .timeout(t)
+                    .doOnComplete(permit::success)
+                    .doOnError(permit::failure)
+                    .doOnCancel(permit::cancel);
+        })
+                .map(this::extractChunk)
+                .filter(chunk -> !chunk.isEmpty())
+                .doOnComplete(rateLimiter::onSuccess)
+                .onErrorMap(e -> !(e instanceof GeminiClientException), e -> toClientException(e, "Gemini stream failed"));
+    }
+
+    /**
+     * 쿼터 차감 -> 우선순위 슬롯을 받은 뒤 call 실행, 끝나면(성공/실패/취소) 슬롯 반환
+     * - priority는 호출 스레드에서 미리 읽어 둔다 (구독은 다른 스레드일 수 있음)
+     * - circuit open이면 대기열에 들어가지 않고 바로 실패
+     */
+    private <T> Mono<T> dispatched(LlmPriority priority, String prompt, Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+                    circuitBreaker.ensureNotOpen();
+                    debitQuota(priority, prompt);
+                    return dispatcher.acquire(priority);
+                })
+                .flatMap(slot -> Mono.defer(call).doFinally(signal -> slot.release()));
+    }
 
-        } catch (WebClientResponseException e) {
-            throw new GeminiClientException("Gemini HTTP error: " + e.getStatusCode(), e);
-        } catch (GeminiClientException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new GeminiClientException("Gemini call failed", e);
+    private <T> Flux<T> dispatchedMany(LlmPriority priority, String prompt, Supplier<Flux<T>> call) {
+        return Mono.defer(() -> {
+                    circuitBreaker.ensureNotOpen();
+                    debitQuota(priority, prompt);
+                    return dispatcher.acquire(priority);
+                })
+                .flatMapMany(slot -> Flux.defer(call).doFinally(signal -> slot.release()));
+    }
+
+    /**
+     * RPM/TPM bucket 차감 (모든 호출이 같은 쿼터를 쓴다)
+     * - SCHEDULED_DIGEST: 스케줄러가 target마다 LlmRateLimiter.acquire로 미리 대기/차감했으므로 여기선 건너뜀
+     * - 그 외: 대기 없이 시도, 쿼터가 없으면 호출하지 않고 실패 (드래프트는 heuristic fallback)
+     */
+    private void debitQuota(LlmPriority priority, String prompt) {
+        if (priority == LlmPriority.SCHEDULED_DIGEST) return;
+        if (!rateLimiter.tryAcquire(LlmTokenEstimator.estimateTokens(prompt))) {
+            throw new GeminiClientException("Gemini rate limit quota exhausted. priority=" + priority);
         }
     }
 
+    /**
+     * circuit breaker -> 동시성 limiter 순으로 호출 허가
+     * - 디스패처가 limit 안에서 슬롯을 줬으므로 limiter 거절은 그 사이 limit이 줄어든 경우뿐
+     * - measureLatency=false: 스트리밍처럼 지연이 출력 길이에 비례하는 호출은 AIMD 지연 신호로 쓰지 않음
+     */
+    private Permit acquirePermit(boolean measureLatency) {
+        GeminiCircuitBreaker.Permission permission = circuitBreaker.acquirePermission();
+        if (!concurrencyLimiter.tryAcquire()) {
+            circuitBreaker.onIgnored(permission);
+            throw new GeminiClientException("Gemini concurrency limit exceeded");
+        }
+        return new Permit(permission, measureLatency, System.nanoTime());
+    }
+
+    /**
+     * 호출 1건의 결과를 circuit breaker / 동시성 limiter에 정확히 한 번 보고
+     */
+    private final class Permit {
+        private final GeminiCircuitBreaker.Permission permission;
+        private final boolean measureLatency;
+        private final long startedAtNanos;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        private Permit(GeminiCircuitBreaker.Permission permission, boolean measureLatency, long startedAtNanos) {
+            this.permission = permission;
+            this.measureLatency = measureLatency;
+            this.startedAtNanos = startedAtNanos;
+        }
+
+        void success() {
+            if (!released.compareAndSet(false, true)) return;
+            concurrencyLimiter.onSuccess(measureLatency ? System.nanoTime() - startedAtNanos : -1);
+            circuitBreaker.onSuccess(permission);
+        }
+
+        void failure(Throwable e) {
+            if (!released.compareAndSet(false, true)) return;
+            if (isProviderFailure(e)) {
+                concurrencyLimiter.onDropped();
+                circuitBreaker.onFailure(permission);
+            } else {
+                concurrencyLimiter.onIgnored();
+                circuitBreaker.onSuccess(permission);     // provider는 응답함 (요청 오류)
+            }
+        }
+
+        void cancel() {
+            if (!released.compareAndSet(false, true)) return;
+            concurrencyLimiter.onIgnored();
+            circuitBreaker.onIgnored(permission);
+        }
+    }
+
+    /**
+     * provider 장애 신호: 429/5xx, timeout, 연결 실패
+     */
+    private static boolean isProviderFailure(Throwable e) {
+        if (e instanceof WebClientResponseException w) {
+            int status = w.getStatusCode().value();
+            return status == 429 || status >= 500;
+        }
+        return e instanceof TimeoutException || e instanceof WebClientRequestException;
+    }
+
+    private GeminiClientException toClientException(Throwable e, String message) {
+        if (e instanceof WebClientResponseException w) {
+            // 429는 전역 limiter에 피드백 (스케줄러 등 다른 호출도 함께 pause)
+            if (w.getStatusCode().value() == 429) {
+                rateLimiter.onRateLimited(retryAfter(w));
+            }
+            return new GeminiClientException("Gemini HTTP error: " + w.getStatusCode(), w);
+        }
+        return new GeminiClientException(message, e);
+    }
+
+    /**
+     * 스트리밍 응답 1건의 text 조각 (중간 조각은 비어 있을 수 있음 → 빈 문자열)
+     */
+    private String extractChunk(GeminiResponse response) {
+        if (response.candidates() == null || response.candidates().isEmpty()) return "";
+        var content = response.candidates().get(0).content();
+        if (content == null || content.parts() == null || content.parts().isEmpty()) return "";
+        String text = content.parts().get(0).text();
+        return (text == null) ? "" : text;
+    }
+
+    private Duration retryAfter(WebClientResponseException e) {
+        String v = e.getHeaders().getFirst("Retry-After");
+        if (v == null || v.isBlank()) return null;
+        try {
+            return Duration.ofSeconds(Long.parseLong(v.trim()));
+        } catch (NumberFormatException ignored) {
+            return null; // HTTP-date 형식은 무시하고 기본 backoff 사용
+        }
+    }
 
     private Map<String, Object> requestBody(String prompt) {
         return Map.of(
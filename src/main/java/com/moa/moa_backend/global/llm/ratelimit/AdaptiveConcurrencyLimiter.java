@@ -0,0 +1,112 @@
+package com.moa.moa_backend.global.llm.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gemini 동시 호출 수 AIMD 제한
+ * - 지연이 목표 이내로 성공하면 limit을 천천히 증가 (limit당 +1/limit → 한 바퀴에 약 +1)
+ * - 지연이 목표를 넘으면 소폭 감소, 429/5xx/timeout이면 절반으로 감소
+ * - LlmDispatcher가 limit 안에서만 슬롯을 배정하므로 초과분은 우선순위 대기열에서 기다린다
+ *   (tryAcquire 거절은 배정 직후 limit이 줄어든 경우뿐)
+ * <p>
+ * LlmRateLimiter(분당 쿼터 페이싱)와 별개로, "지금 동시에 몇 건까지 보낼지"를 조절한다.
+ */
+@Slf4j
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyTargetNanos;
+    private final double slowBackoffRatio;
+    private final double dropBackoffRatio;
+
+    // ---- 아래 상태는 this 모니터로 보호 ----
+    private double limit;
+    private int inFlight;
+
+    private final Counter rejected;
+
+    public AdaptiveConcurrencyLimiter(
+            @Value("${moa.llm.concurrency.initial-limit:16}") int initialLimit,
+            @Value("${moa.llm.concurrency.min-limit:2}") int minLimit,
+            @Value("${moa.llm.concurrency.max-limit:64}") int maxLimit,
+            @Value("${moa.llm.concurrency.latency-target-ms:4000}") long latencyTargetMs,
+            @Value("${moa.llm.concurrency.slow-backoff-ratio:0.9}") double slowBackoffRatio,
+            @Value("${moa.llm.concurrency.drop-backoff-ratio:0.5}") double dropBackoffRatio,
+            MeterRegistry meterRegistry
+    ) {
+        if (minLimit <= 0 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("invalid concurrency limits. min=" + minLimit + ", max=" + maxLimit);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTargetNanos = TimeUnit.MILLISECONDS.toNanos(latencyTargetMs);
+        this.slowBackoffRatio = slowBackoffRatio;
+        this.dropBackoffRatio = dropBackoffRatio;
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+
+        this.rejected = Counter.builder("moa.llm.concurrency.rejected").register(meterRegistry);
+        Gauge.builder("moa.llm.concurrency.limit", this, AdaptiveConcurrencyLimiter::limit).register(meterRegistry);
+        Gauge.builder("moa.llm.concurrency.in-flight", this, AdaptiveConcurrencyLimiter::inFlight).register(meterRegistry);
+    }
+
+    /**
+     * 슬롯 획득 (limit 이상이면 false, 대기 없음)
+     * - true를 받았으면 결과에 맞춰 onSuccess/onDropped/onIgnored 중 하나를 정확히 한 번 호출
+     */
+    public synchronized boolean tryAcquire() {
+        if (inFlight >= (int) limit) {
+            rejected.increment();
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * 성공 (latencyNanos < 0 이면 지연 측정 없이 슬롯만 반환: 스트리밍처럼 지연이 출력 길이에 비례하는 호출)
+     */
+    public synchronized void onSuccess(long latencyNanos) {
+        inFlight--;
+        if (latencyNanos < 0) return;
+
+        if (latencyNanos <= latencyTargetNanos) {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        } else {
+            limit = Math.max(minLimit, limit * slowBackoffRatio);
+        }
+    }
+
+    /**
+     * provider 과부하 신호(429/5xx/timeout): 절반으로 감소
+     */
+    public synchronized void onDropped() {
+        inFlight--;
+        double before = limit;
+        limit = Math.max(minLimit, limit * dropBackoffRatio);
+        log.warn("[LLM][CONCURRENCY] limit decreased. {} -> {}", (int) before, (int) limit);
+    }
+
+    /**
+     * 취소/호출측 오류 등 provider 상태와 무관한 종료: 슬롯만 반환
+     */
+    public synchronized void onIgnored() {
+        inFlight--;
+    }
+
+    public synchronized double limit() {
+        return limit;
+    }
+
+    public synchronized int inFlight() {
+        return inFlight;
+    }
+}
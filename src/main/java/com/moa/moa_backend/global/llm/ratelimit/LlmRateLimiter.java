@@ -0,0 +1,194 @@
+package com.moa.moa_backend.global.llm.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Gemini 쿼터(RPM/TPM) 기준 공용 token bucket
+ * - 요청 1건 = RPM 토큰 1개 + TPM 토큰(추정 토큰 수)
+ * - 두 bucket 모두 분당 한도만큼 채워지고, 초과분은 대기
+ * - 429 발생 시 전역 pause (연속 429면 배수 증가, 성공 시 리셋)
+ * <p>
+ * 모든 Gemini 호출이 차감한다.
+ * - 드래프트/사용자 refresh: GeminiClient가 호출마다 tryAcquire (대기 없음, 쿼터가 없으면 즉시 실패)
+ * - 스케줄러 배치: 호출 전에 acquire로 대기하며 페이싱, batch-headroom 만큼은 남겨 둔다 (실시간 호출 몫)
+ * 429/성공 피드백은 GeminiClient가 모든 호출에 대해 보고한다.
+ */
+@Slf4j
+@Component
+public class LlmRateLimiter {
+
+    private static final long NANOS_PER_MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    private final LongSupplier nanoClock;
+    private final Sleeper sleeper;
+
+    private final long rpm;
+    private final long tpm;
+
+    /**
+     * acquire(배치)가 남겨 두는 bucket 몫 (tryAcquire는 전부 사용 가능)
+     */
+    private final double reservedRequests;
+    private final double reservedTokens;
+
+    private final long backoffInitialNanos;
+    private final long backoffMaxNanos;
+    private final double backoffMultiplier;
+
+    // ---- 아래 상태는 this 모니터로 보호 ----
+    private double requestTokens;
+    private double tokenTokens;
+    private long lastRefillNanos;
+
+    /**
+     * 429로 인한 전역 pause 종료 시각(nanoClock 기준), 0이면 pause 없음
+     */
+    private long pausedUntilNanos;
+    private long currentBackoffNanos;
+
+    @Autowired
+    public LlmRateLimiter(
+            @Value("${moa.llm.rate-limit.rpm:60}") long rpm,
+            @Value("${moa.llm.rate-limit.tpm:1000000}") long tpm,
+            @Value("${moa.llm.rate-limit.batch-headroom:0.2}") double batchHeadroom,
+            @Value("${moa.llm.rate-limit.backoff.initial-ms:1000}") long backoffInitialMs,
+            @Value("${moa.llm.rate-limit.backoff.max-ms:15000}") long backoffMaxMs,
+            @Value("${moa.llm.rate-limit.backoff.multiplier:1.8}") double backoffMultiplier
+    ) {
+        this(rpm, tpm, batchHeadroom, backoffInitialMs, backoffMaxMs, backoffMultiplier,
+                System::nanoTime, TimeUnit.NANOSECONDS::sleep);
+    }
+
+    LlmRateLimiter(
+            long rpm, long tpm, double batchHeadroom,
+            long backoffInitialMs, long backoffMaxMs, double backoffMultiplier,
+            LongSupplier nanoClock, Sleeper sleeper
+    ) {
+        if (rpm <= 0 || tpm <= 0) {
+            throw new IllegalArgumentException("rpm/tpm must be positive. rpm=" + rpm + ", tpm=" + tpm);
+        }
+        if (batchHeadroom < 0 || batchHeadroom >= 1) {
+            throw new IllegalArgumentException("batchHeadroom must be in [0, 1). batchHeadroom=" + batchHeadroom);
+        }
+        this.rpm = rpm;
+        this.tpm = tpm;
+        this.reservedRequests = Math.min(rpm * batchHeadroom, rpm - 1);   // 배치도 최소 1건은 받을 수 있게
+        this.reservedTokens = tpm * batchHeadroom;
+        this.backoffInitialNanos = TimeUnit.MILLISECONDS.toNanos(backoffInitialMs);
+        this.backoffMaxNanos = TimeUnit.MILLISECONDS.toNanos(backoffMaxMs);
+        this.backoffMultiplier = backoffMultiplier;
+        this.nanoClock = nanoClock;
+        this.sleeper = sleeper;
+
+        // 시작 시점엔 bucket을 가득 채워 둔다
+        this.requestTokens = rpm;
+        this.tokenTokens = tpm;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * 배치용: 요청 1건 + estimatedTokens 만큼 허용될 때까지 대기
+     * - 차감 후에도 batch-headroom 몫이 남아 있어야 허용 (실시간 호출이 쓸 쿼터를 배치가 다 쓰지 않도록)
+     * - maxWait 안에 허용되지 않으면 false (토큰은 소비하지 않음)
+     * - estimatedTokens가 (TPM - headroom)보다 크면 그 값으로 clamp (영원히 못 받는 상황 방지)
+     */
+    public boolean acquire(long estimatedTokens, Duration maxWait) throws InterruptedException {
+        long tokens = Math.max(0, Math.min(estimatedTokens, (long) (tpm - reservedTokens)));
+        long deadline = nanoClock.getAsLong() + maxWait.toNanos();
+
+        while (true) {
+            long waitNanos;
+            synchronized (this) {
+                long now = nanoClock.getAsLong();
+                refill(now);
+
+                waitNanos = Math.max(0, pausedUntilNanos - now);
+                if (waitNanos == 0) {
+                    waitNanos = Math.max(
+                            nanosUntil(requestTokens - reservedRequests, 1, rpm),
+                            nanosUntil(tokenTokens - reservedTokens, tokens, tpm)
+                    );
+                }
+                if (waitNanos == 0) {
+                    requestTokens -= 1;
+                    tokenTokens -= tokens;
+                    return true;
+                }
+                if (now + waitNanos > deadline) {
+                    return false;
+                }
+            }
+            sleeper.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * 실시간 호출용: 지금 바로 요청 1건 + estimatedTokens 차감 (대기 없음)
+     * - 429 pause 중이거나 bucket이 모자라면 false (토큰은 소비하지 않음)
+     * - estimatedTokens가 TPM보다 크면 TPM으로 clamp
+     */
+    public synchronized boolean tryAcquire(long estimatedTokens) {
+        long tokens = Math.max(0, Math.min(estimatedTokens, tpm));
+        long now = nanoClock.getAsLong();
+        refill(now);
+
+        if (pausedUntilNanos > now || requestTokens < 1 || tokenTokens < tokens) {
+            return false;
+        }
+        requestTokens -= 1;
+        tokenTokens -= tokens;
+        return true;
+    }
+
+    /**
+     * 429 피드백
+     * - retryAfter가 있으면 그 값(최대 backoff-max로 clamp), 없으면 initial -> x multiplier
+     */
+    public synchronized void onRateLimited(Duration retryAfter) {
+        long next;
+        if (retryAfter != null && !retryAfter.isNegative() && !retryAfter.isZero()) {
+            next = Math.min(backoffMaxNanos, retryAfter.toNanos());
+        } else if (currentBackoffNanos <= 0) {
+            next = backoffInitialNanos;
+        } else {
+            next = Math.min(backoffMaxNanos, (long) Math.ceil(currentBackoffNanos * backoffMultiplier));
+        }
+        currentBackoffNanos = next;
+        pausedUntilNanos = Math.max(pausedUntilNanos, nanoClock.getAsLong() + next);
+
+        log.warn("[LLM][RATE] rate limited. pauseMs={}", TimeUnit.NANOSECONDS.toMillis(next));
+    }
+
+    /**
+     * 성공 피드백: 연속 429 backoff 리셋 (이미 걸린 pause는 유지)
+     */
+    public synchronized void onSuccess() {
+        currentBackoffNanos = 0;
+    }
+
+    private void refill(long now) {
+        long elapsed = now - lastRefillNanos;
+        if (elapsed <= 0) return;
+        requestTokens = Math.min(rpm, requestTokens + (double) rpm * elapsed / NANOS_PER_MINUTE);
+        tokenTokens = Math.min(tpm, tokenTokens + (double) tpm * elapsed / NANOS_PER_MINUTE);
+        lastRefillNanos = now;
+    }
+
+    private static long nanosUntil(double available, long needed, long perMinute) {
+        double deficit = needed - available;
+        if (deficit <= 0) return 0;
+        return (long) Math.ceil(deficit * NANOS_PER_MINUTE / perMinute);
+    }
+
+    @FunctionalInterface
+    interface Sleeper {
+        void sleep(long nanos) throws InterruptedException;
+    }
+}
@@ -0,0 +1,53 @@
+package com.moa.moa_backend.global.lock;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * JVM 내부 락 (단일 인스턴스에서만 유효)
+ * - 기존 inFlight(ConcurrentHashMap) 방식과 동일한 동작
+ */
+@Component
+@ConditionalOnProperty(name = "moa.lock.provider", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRefreshLockProvider implements RefreshLockProvider {
+
+    private final ConcurrentHashMap<String, Object> held = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<RefreshLock> tryAcquire(String key) {
+        Object token = new Object();
+        if (held.putIfAbsent(key, token) != null) {
+            return Optional.empty();
+        }
+        return Optional.of(new InMemoryLock(key, token));
+    }
+
+    private final class InMemoryLock implements RefreshLock {
+
+        private final String key;
+        private final Object token;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        private InMemoryLock(String key, Object token) {
+            this.key = key;
+            this.token = token;
+        }
+
+        @Override
+        public String key() {
+            return key;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                // 내가 잡은 락만 해제 (token 비교)
+                held.remove(key, token);
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.moa.moa_backend.global.lock;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Postgres session advisory lock 기반 클러스터 락
+ * - key(문자열) -> 64bit 해시 -> pg_try_advisory_lock(bigint)
+ * - session 락이므로 획득한 커넥션을 락 보유 동안 유지하고, 같은 커넥션에서 unlock 한다.
+ *   (트랜잭션과 무관하게 DataSource에서 직접 커넥션을 가져온다)
+ * - 노드가 죽어 커넥션이 끊기면 Postgres가 락을 자동 해제한다.
+ * <p>
+ * 주의: 락 보유 동안 커넥션 풀에서 1개를 점유하므로,
+ *      동시 refresh 수만큼 Hikari 풀 여유가 있어야 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "moa.lock.provider", havingValue = "postgres")
+public class PostgresAdvisoryRefreshLockProvider implements RefreshLockProvider {
+
+    private static final String TRY_LOCK_SQL = "select pg_try_advisory_lock(?)";
+    private static final String UNLOCK_SQL = "select pg_advisory_unlock(?)";
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final DataSource dataSource;
+
+    public PostgresAdvisoryRefreshLockProvider(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public Optional<RefreshLock> tryAcquire(String key) {
+        long lockId = lockIdOf(key);
+        Connection conn = null;
+        try {
+            conn = dataSource.getConnection();
+            conn.setAutoCommit(true);
+
+            if (!queryBoolean(conn, TRY_LOCK_SQL, lockId)) {
+                closeQuietly(conn);
+                return Optional.empty();
+            }
+            return Optional.of(new AdvisoryLock(key, lockId, conn));
+
+        } catch (SQLException e) {
+            closeQuietly(conn);
+            throw new IllegalStateException("advisory lock acquire failed. key=" + key, e);
+        }
+    }
+
+    /**
+     * 문자열 key -> advisory lock id (FNV-1a 64bit)
+     * - 노드 간에 동일한 값이 나와야 하므로 String.hashCode 대신 고정 알고리즘 사용
+     */
+    static long lockIdOf(String key) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= (b & 0xff);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static boolean queryBoolean(Connection conn, String sql, long lockId) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setLong(1, lockId);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    private static void closeQuietly(Connection conn) {
+        if (conn == null) return;
+        try {
+            conn.close();
+        } catch (SQLException ignored) {
+            // 반납 실패는 풀에서 처리
+        }
+    }
+
+    private static final class AdvisoryLock implements RefreshLock {
+
+        private final String key;
+        private final long lockId;
+        private final Connection conn;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        private AdvisoryLock(String key, long lockId, Connection conn) {
+            this.key = key;
+            this.lockId = lockId;
+            this.conn = conn;
+        }
+
+        @Override
+        public String key() {
+            return key;
+        }
+
+        @Override
+        public void close() {
+            if (!released.compareAndSet(false, true)) return;
+            try {
+                if (!queryBoolean(conn, UNLOCK_SQL, lockId)) {
+                    log.warn("[LOCK] advisory unlock returned false. key={}, lockId={}", key, lockId);
+                }
+            } catch (SQLException e) {
+                // 커넥션이 닫히면 session 락은 Postgres가 해제하므로 경고만 남긴다
+                log.warn("[LOCK] advisory unlock failed. key={}, lockId={}", key, lockId, e);
+            } finally {
+                closeQuietly(conn);
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.moa.moa_backend.global.lock;
+
+import java.util.Optional;
+
+/**
+ * refresh 계열 작업(digest 갱신, 스케줄러 등)의 중복 실행 방지 락
+ * - 단일 인스턴스: InMemoryRefreshLockProvider (기본값)
+ * - 멀티 인스턴스: PostgresAdvisoryRefreshLockProvider (pg_try_advisory_lock)
+ * <p>
+ * 설정: moa.lock.provider = memory | postgres
+ */
+public interface RefreshLockProvider {
+
+    /**
+     * key에 대한 락 획득 시도 (대기 없음)
+     * - 획득 성공: RefreshLock 반환 (사용 후 반드시 close)
+     * - 이미 다른 스레드/노드가 보유 중: Optional.empty()
+     */
+    Optional<RefreshLock> tryAcquire(String key);
+
+    interface RefreshLock extends AutoCloseable {
+
+        String key();
+
+        /**
+         * 락 해제 (여러 번 호출해도 안전, 예외를 던지지 않음)
+         */
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,10 @@
+-- V10: scraps.normalized_text (digest 입력용 정규화 텍스트)
+-- - NULL : 아직 정규화 안 됨 (백필 대상)
+-- - ''   : 정규화 완료, 의미 있는 텍스트 없음
+ALTER TABLE scraps
+    ADD COLUMN normalized_text TEXT;
+
+-- 백필 대상 조회용 (정규화 완료되면 인덱스에서 빠진다)
+CREATE INDEX IF NOT EXISTS idx_scraps_normalized_text_pending
+    ON scraps (scrap_id)
+    WHERE normalized_text IS NULL;
@@ -0,0 +1,20 @@
+-- V11: llm_result_cache (content-addressed LLM 결과 캐시)
+-- - cache_key: sha256(model + 프롬프트 템플릿 버전 + 조립된 프롬프트) hex
+-- - 같은 입력으로 digest를 다시 만들 때(429 재시도, CUSTOM 재요청 등) Gemini 호출 없이 재사용
+-- - expires_at(TTL) 지난 항목 + last_accessed_at 오래된 항목(LRU)부터 주기적으로 정리
+CREATE TABLE IF NOT EXISTS llm_result_cache (
+    cache_key        VARCHAR(64)  PRIMARY KEY,
+    model            VARCHAR(100) NOT NULL,
+    template         VARCHAR(100) NOT NULL,
+    result_text      TEXT         NOT NULL,
+    hit_count        BIGINT       NOT NULL DEFAULT 0,
+    created_at       TIMESTAMPTZ  NOT NULL,
+    last_accessed_at TIMESTAMPTZ  NOT NULL,
+    expires_at       TIMESTAMPTZ  NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_llm_result_cache_expires_at
+    ON llm_result_cache (expires_at);
+
+CREATE INDEX IF NOT EXISTS idx_llm_result_cache_last_accessed_at
+    ON llm_result_cache (last_accessed_at);
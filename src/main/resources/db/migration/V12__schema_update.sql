@@ -0,0 +1,38 @@
+-- V12: scrap_activity (user, project, stage) 단위 최신 활동 요약
+-- - scraps 저장 트랜잭션에서 같이 갱신 (ScrapService.createFromDraftCommit)
+-- - 최신 captured_at / 최근 맥락 / 자동 refresh 대상 조회를 scraps 집계 대신 PK 조회로 처리
+-- - 프로젝트/사용자 삭제 시 FK cascade로 같이 삭제
+CREATE TABLE IF NOT EXISTS scrap_activity (
+    user_id          BIGINT      NOT NULL,
+    project_id       BIGINT      NOT NULL,
+    stage            VARCHAR(30) NOT NULL,
+    last_captured_at TIMESTAMPTZ NOT NULL,
+    last_scrap_id    BIGINT      NOT NULL,
+    scrap_count      BIGINT      NOT NULL DEFAULT 0,
+
+    CONSTRAINT pk_scrap_activity PRIMARY KEY (user_id, project_id, stage),
+    CONSTRAINT fk_scrap_activity_project
+        FOREIGN KEY (project_id) REFERENCES projects(project_id) ON DELETE CASCADE,
+    CONSTRAINT fk_scrap_activity_user
+        FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+);
+
+-- 최근 맥락(사용자별 최신순) / 자동 refresh 대상(기간 필터)
+CREATE INDEX IF NOT EXISTS idx_scrap_activity_user_last
+    ON scrap_activity (user_id, last_captured_at DESC);
+
+CREATE INDEX IF NOT EXISTS idx_scrap_activity_last
+    ON scrap_activity (last_captured_at DESC);
+
+-- 기존 scraps 백필
+INSERT INTO scrap_activity (user_id, project_id, stage, last_captured_at, last_scrap_id, scrap_count)
+SELECT DISTINCT ON (s.user_id, s.project_id, s.stage)
+       s.user_id,
+       s.project_id,
+       s.stage,
+       s.captured_at,
+       s.scrap_id,
+       count(*) OVER (PARTITION BY s.user_id, s.project_id, s.stage)
+FROM scraps s
+ORDER BY s.user_id, s.project_id, s.stage, s.captured_at DESC, s.scrap_id DESC
+ON CONFLICT DO NOTHING;
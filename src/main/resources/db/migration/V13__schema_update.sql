@@ -0,0 +1,12 @@
+-- V13: 추천 방식에 LLM_CACHED 추가
+-- - 동일 내용/동일 프로젝트 구성/동일 최근 맥락이면 LLM 결과 캐시에서 추천 (DraftRecommendationCache)
+-- - 수락률 분석에서 실제 LLM 호출과 구분하기 위해 별도 값으로 저장
+ALTER TABLE drafts DROP CONSTRAINT IF EXISTS chk_drafts_rec_method;
+ALTER TABLE drafts
+    ADD CONSTRAINT chk_drafts_rec_method
+        CHECK (rec_method IN ('LLM', 'LLM_CACHED', 'FALLBACK_RECENT', 'NONE'));
+
+ALTER TABLE scraps DROP CONSTRAINT IF EXISTS chk_scraps_rec_method;
+ALTER TABLE scraps
+    ADD CONSTRAINT chk_scraps_rec_method
+        CHECK (rec_method IN ('LLM', 'LLM_CACHED', 'FALLBACK_RECENT', 'NONE'));
@@ -0,0 +1,11 @@
+-- V14: 추천 방식에 LOCAL 추가
+-- - 사용자 스크랩으로 학습한 로컬 분류 모델의 추천 (LocalDraftClassifier, LLM 호출 없음)
+ALTER TABLE drafts DROP CONSTRAINT IF EXISTS chk_drafts_rec_method;
+ALTER TABLE drafts
+    ADD CONSTRAINT chk_drafts_rec_method
+        CHECK (rec_method IN ('LLM', 'LLM_CACHED', 'LOCAL', 'FALLBACK_RECENT', 'NONE'));
+
+ALTER TABLE scraps DROP CONSTRAINT IF EXISTS chk_scraps_rec_method;
+ALTER TABLE scraps
+    ADD CONSTRAINT chk_scraps_rec_method
+        CHECK (rec_method IN ('LLM', 'LLM_CACHED', 'LOCAL', 'FALLBACK_RECENT', 'NONE'));
@@ -0,0 +1,5 @@
+-- V9: stage_digests 증분 갱신 횟수
+-- - 0: 전체 재생성(full rebuild)으로 만들어진 요약
+-- - N: 마지막 full rebuild 이후 증분(이전 요약 + 신규 스크랩) 갱신 횟수
+ALTER TABLE stage_digests
+    ADD COLUMN incremental_count INTEGER NOT NULL DEFAULT 0;
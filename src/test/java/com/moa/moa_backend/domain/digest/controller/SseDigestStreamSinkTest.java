@@ -0,0 +1,81 @@
+package com.moa.moa_backend.domain.digest.controller;
+
+import com.moa.moa_backend.global.error.ApiException;
+import com.moa.moa_backend.global.error.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SseDigestStreamSinkTest {
+
+    /**
+     * 보낸 이벤트를 "event:<name>\ndata:<data>" 문자열로 기록하는 emitter
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+        final List<String> events = new ArrayList<>();
+        boolean completed = false;
+        boolean disconnected = false;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (disconnected) throw new IOException("Broken pipe");
+            StringBuilder sb = new StringBuilder();
+            builder.build().forEach(part -> sb.append(part.getData()));
+            events.add(sb.toString().trim());
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+
+    private final RecordingEmitter emitter = new RecordingEmitter();
+    private final SseDigestStreamSink<String> sink = new SseDigestStreamSink<>(emitter, "/api/digests/stream");
+
+    @Test
+    void chunks_are_sent_in_order_and_done_carries_the_final_response() {
+        sink.chunk("## 요약");
+        sink.chunk("- a");
+        sink.done("saved-digest");
+
+        assertThat(emitter.events).containsExactly(
+                "event:chunk\ndata:## 요약",
+                "event:chunk\ndata:- a",
+                "event:done\ndata:saved-digest"
+        );
+        assertThat(emitter.completed).isTrue();
+    }
+
+    @Test
+    void error_is_sent_as_error_response_code() {
+        sink.chunk("## 요약");
+        sink.error(new ApiException(ErrorCode.PROJECT_NOT_FOUND));
+
+        assertThat(emitter.events).hasSize(2);
+        assertThat(emitter.events.get(1))
+                .startsWith("event:error\ndata:")
+                .contains(ErrorCode.PROJECT_NOT_FOUND.code())
+                .contains("/api/digests/stream");
+        assertThat(emitter.completed).isTrue();
+    }
+
+    @Test
+    void disconnected_client_stops_sends_without_completing() {
+        sink.chunk("## 요약");
+        emitter.disconnected = true;
+
+        sink.chunk("- a");
+        sink.chunk("- b");
+        sink.done("saved-digest");
+
+        // 생성/저장은 서비스에서 계속 진행, sink는 더 보내지 않음
+        assertThat(emitter.events).containsExactly("event:chunk\ndata:## 요약");
+        assertThat(emitter.completed).isFalse();
+    }
+}
@@ -0,0 +1,129 @@
+package com.moa.moa_backend.domain.digest.llm.impl;
+
+import com.moa.moa_backend.domain.digest.llm.StageDigestInput;
+import com.moa.moa_backend.domain.scrap.repository.projection.ScrapForDigestView;
+import com.moa.moa_backend.global.llm.LlmTokenEstimator;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DigestPromptPackerTest {
+
+    private final DigestPromptPacker packer = new DigestPromptPacker(1200, 200);
+
+    private ScrapForDigestView scrap(long id, long epochSec, String text) {
+        return new ScrapForDigestView(id, "설계", "sub" + id, null, null, text, Instant.ofEpochSecond(epochSec));
+    }
+
+    private StageDigestInput digest(String stage, String text) {
+        return new StageDigestInput(stage, text, OffsetDateTime.of(2026, 1, 10, 9, 0, 0, 0, ZoneOffset.UTC));
+    }
+
+    private int textLength(String prompt, String marker) {
+        int start = prompt.indexOf("[text] " + marker);
+        int end = prompt.indexOf('\n', start);
+        return end - start;
+    }
+
+    @Test
+    void estimates_ascii_as_quarter_and_non_ascii_as_one() {
+        assertThat(LlmTokenEstimator.estimateTokens("abcd")).isEqualTo(1);
+        assertThat(LlmTokenEstimator.estimateTokens("abcde")).isEqualTo(2);
+        assertThat(LlmTokenEstimator.estimateTokens("가나다")).isEqualTo(3);
+        assertThat(LlmTokenEstimator.estimateTokens(null)).isZero();
+    }
+
+    @Test
+    void keeps_everything_when_under_budget_in_chronological_order() {
+        String prompt = packer.pack("H\n", List.of(
+                scrap(2, 200, "newer text"),
+                scrap(1, 100, "older text")
+        ), 10_000, false);
+
+        assertThat(prompt).startsWith("H\n");
+        assertThat(prompt.indexOf("older text")).isLessThan(prompt.indexOf("newer text"));
+        assertThat(prompt).doesNotContain("…").doesNotContain("[stage]");
+    }
+
+    @Test
+    void newest_scrap_gets_larger_share_when_over_budget() {
+        String old = "o".repeat(4000);
+        String recent = "n".repeat(4000);
+
+        String prompt = packer.pack("", List.of(
+                scrap(1, 100, old),
+                scrap(2, 200, recent)
+        ), 600, true);
+
+        assertThat(prompt).contains("[stage] 설계");
+        assertThat(prompt).contains("…");
+        assertThat(textLength(prompt, "n")).isGreaterThan(textLength(prompt, "o"));
+        assertThat(LlmTokenEstimator.estimateTokens(prompt)).isLessThanOrEqualTo(600);
+    }
+
+    @Test
+    void short_scrap_leaves_budget_for_others() {
+        String prompt = packer.pack("", List.of(
+                scrap(1, 100, "o".repeat(4000)),
+                scrap(2, 200, "short")
+        ), 600, false);
+
+        assertThat(prompt).contains("[text] short\n");
+        assertThat(textLength(prompt, "o")).isGreaterThan(1500);
+    }
+
+    @Test
+    void drops_oldest_when_meta_does_not_fit() {
+        String prompt = packer.pack("", List.of(
+                scrap(1, 100, "first"),
+                scrap(2, 200, "second"),
+                scrap(3, 300, "third")
+        ), 20, false);
+
+        assertThat(prompt).contains("sub3").doesNotContain("sub1");
+    }
+
+    @Test
+    void throws_when_every_scrap_is_empty() {
+        ScrapForDigestView empty = new ScrapForDigestView(1L, "설계", " ", null, null, "", Instant.EPOCH);
+
+        assertThatThrownBy(() -> packer.pack("H", List.of(empty), 1000, false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void stage_digests_are_trimmed_to_budget_without_fallback_scraps() {
+        String prompt = packer.packHierarchical("H\n", List.of(
+                digest("기획", "p".repeat(4000)),
+                digest("설계", "짧은 요약"),
+                digest("구현", "i".repeat(4000))
+        ), "\n[추가 스크랩]\n", List.of(), 800);
+
+        assertThat(LlmTokenEstimator.estimateTokens(prompt)).isLessThanOrEqualTo(800);
+        assertThat(prompt).contains("[stage] 기획", "[stage] 설계", "[stage] 구현", "기준 시각: 2026-01-10 18:00");
+        assertThat(prompt).contains("짧은 요약\n").contains("…").doesNotContain("[추가 스크랩]");
+        // 짧은 요약이 남긴 몫은 긴 요약 둘이 나눠 가진다
+        assertThat(prompt.chars().filter(c -> c == 'p').count())
+                .isEqualTo(prompt.chars().filter(c -> c == 'i').count());
+    }
+
+    @Test
+    void stage_digests_leave_room_for_fallback_scraps() {
+        String fallback = "n".repeat(400);
+
+        String prompt = packer.packHierarchical("H\n", List.of(
+                digest("기획", "p".repeat(10_000)),
+                digest("설계", "d".repeat(10_000))
+        ), "\n[추가 스크랩]\n", List.of(scrap(1, 100, fallback)), 1000);
+
+        assertThat(LlmTokenEstimator.estimateTokens(prompt)).isLessThanOrEqualTo(1000);
+        assertThat(prompt).contains("[stage] 기획", "[stage] 설계", "[추가 스크랩]");
+        assertThat(prompt).contains("[text] " + fallback + "\n");
+    }
+}
@@ -3,16 +3,22 @@ package com.moa.moa_backend.domain.digest.scheduler;
 import com.moa.moa_backend.domain.digest.service.StageDigestService;
 import com.moa.moa_backend.domain.scrap.repository.ScrapDigestQueryRepository;
 import com.moa.moa_backend.domain.scrap.repository.projection.DigestRefreshTarget;
+import com.moa.moa_backend.global.llm.gemini.GeminiCircuitBreaker;
+import com.moa.moa_backend.global.llm.ratelimit.LlmRateLimiter;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
+import java.time.Instant;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @SpringBootTest
@@ -28,22 +34,42 @@ class StageDigestAutoRefreshSchedulerTest {
     @MockitoBean
     StageDigestService stageDigestService;
 
+    @MockitoBean
+    LlmRateLimiter rateLimiter;
+
+    @MockitoBean
+    GeminiCircuitBreaker circuitBreaker;
+
+    private final Instant latest = Instant.parse("2026-01-10T00:00:00Z");
+    private final DigestRefreshTarget design = new DigestRefreshTarget(1L, 10L, "설계", "moa", latest);
+    private final DigestRefreshTarget impl = new DigestRefreshTarget(1L, 10L, "구현", "moa", latest);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(rateLimiter.acquire(anyLong(), any())).thenReturn(true);
+        when(scrapDigestQueryRepository.findStaleTargetsForAutoRefresh(any(), anyInt()))
+                .thenReturn(List.of(design, impl));
+    }
+
     @Test
     void runDailyRefresh_calls_refresh_for_each_target() {
-        // given
-        List<DigestRefreshTarget> targets = List.of(
-                new DigestRefreshTarget(1L, 10L, "설계"),
-                new DigestRefreshTarget(1L, 10L, "구현")
-        );
+        // when
+        scheduler.runDailyRefresh();
+
+        // then: 쿼리가 준 프로젝트명/최신 시각을 그대로 넘기고, 재조회용 refresh(userId, projectId, stage)는 쓰지 않는다
+        verify(stageDigestService).refresh(design);
+        verify(stageDigestService).refresh(impl);
+        verify(stageDigestService, never()).refresh(anyLong(), anyLong(), anyString());
+    }
 
-        when(scrapDigestQueryRepository.findRecentTargetsForAutoRefresh(any(), anyInt()))
-                .thenReturn(targets);
+    @Test
+    void open_circuit_stops_before_waiting_for_quota() throws Exception {
+        when(circuitBreaker.isOpen()).thenReturn(true);
 
-        // when
         scheduler.runDailyRefresh();
 
-        // then
-        verify(stageDigestService).refresh(1L, 10L, "설계");
-        verify(stageDigestService).refresh(1L, 10L, "구현");
+        // open 중에는 쿼터를 기다리거나 차감하지 않는다
+        verify(rateLimiter, never()).acquire(anyLong(), any());
+        verifyNoInteractions(stageDigestService);
     }
 }
@@ -0,0 +1,138 @@
+package com.moa.moa_backend.domain.digest.service;
+
+import com.moa.moa_backend.domain.digest.entity.StageDigest;
+import com.moa.moa_backend.domain.digest.llm.StageDigestGeneratorPort;
+import com.moa.moa_backend.domain.digest.repository.StageDigestRepository;
+import com.moa.moa_backend.domain.draft.entity.RecMethod;
+import com.moa.moa_backend.domain.project.entity.Project;
+import com.moa.moa_backend.domain.project.repository.ProjectRepository;
+import com.moa.moa_backend.domain.scrap.entity.Scrap;
+import com.moa.moa_backend.domain.scrap.repository.ScrapDigestQueryRepository;
+import com.moa.moa_backend.domain.scrap.repository.ScrapRepository;
+import com.moa.moa_backend.domain.scrap.repository.projection.ScrapForDigestView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * stage digest 증분 갱신 (H2, LLM은 mock)
+ * - 최신 스크랩 시각(scrap_activity)은 mock으로 고정해서 "조회 이후에 커밋된 스크랩"을 재현한다
+ */
+@SpringBootTest(properties = "moa.digest.incremental.full-rebuild-every=2")
+@ActiveProfiles("test")
+class StageDigestIncrementalRefreshTest {
+
+    private static final String STAGE = "설계";
+    private static final Long USER_ID = 1L;
+
+    @Autowired
+    StageDigestService stageDigestService;
+
+    @Autowired
+    StageDigestRepository stageDigestRepository;
+
+    @Autowired
+    ScrapRepository scrapRepository;
+
+    @Autowired
+    ProjectRepository projectRepository;
+
+    @MockitoBean
+    StageDigestGeneratorPort digestGenerator;
+
+    @MockitoBean
+    ScrapDigestQueryRepository scrapDigestQueryRepository;
+
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() {
+        stageDigestRepository.deleteAll();
+        scrapRepository.deleteAll();
+        projectRepository.deleteAll();
+
+        projectId = projectRepository.save(Project.create(USER_ID, "MOA", "프로젝트 설명")).getId();
+
+        when(digestGenerator.generateMarkdown(anyString(), anyString(), anyList())).thenReturn("## 한줄 요약\n- full");
+        when(digestGenerator.updateMarkdown(anyString(), anyString(), anyString(), anyList())).thenReturn("## 한줄 요약\n- incremental");
+    }
+
+    private Long saveScrap(long epochSec) {
+        return scrapRepository.save(Scrap.create(
+                projectId, USER_ID, "<p>API 설계 메모 " + epochSec + "</p>", "sub" + epochSec, STAGE, null,
+                "CHATGPT", "https://example.com", true, true, true, Instant.ofEpochSecond(epochSec), RecMethod.LLM
+        )).getId();
+    }
+
+    // refresh 시점에 scrap_activity가 돌려줄 최신 captured_at
+    private void latestCapturedAt(long epochSec) {
+        when(scrapDigestQueryRepository.findLatestCapturedAt(USER_ID, projectId, STAGE))
+                .thenReturn(Instant.ofEpochSecond(epochSec));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> incrementalInputIds() {
+        ArgumentCaptor<List<ScrapForDigestView>> captor = ArgumentCaptor.forClass(List.class);
+        verify(digestGenerator).updateMarkdown(anyString(), eq(STAGE), anyString(), captor.capture());
+        return captor.getValue().stream().map(ScrapForDigestView::scrapId).toList();
+    }
+
+    private StageDigest digest() {
+        return stageDigestRepository.findByUserIdAndProjectIdAndStage(USER_ID, projectId, STAGE).orElseThrow();
+    }
+
+    @Test
+    void new_scraps_are_sent_exactly_once_and_full_rebuild_resets_count() {
+        saveScrap(1_000);
+        saveScrap(2_000);
+        latestCapturedAt(2_000);
+        stageDigestService.refresh(USER_ID, projectId, STAGE);
+        assertThat(digest().getIncrementalCount()).isZero();
+
+        // s3는 최신 시각 조회에 반영됐고, s4는 그 뒤에 커밋됨 -> 이번 증분에는 s3만
+        Long s3 = saveScrap(3_000);
+        Long s4 = saveScrap(4_000);
+        latestCapturedAt(3_000);
+        clearInvocations(digestGenerator);
+        stageDigestService.refresh(USER_ID, projectId, STAGE);
+
+        assertThat(incrementalInputIds()).containsExactly(s3);
+        assertThat(digest().getIncrementalCount()).isEqualTo(1);
+        assertThat(digest().getSourceLastCapturedAt().toInstant()).isEqualTo(Instant.ofEpochSecond(3_000));
+
+        // 다음 증분은 기준 시각 이후인 s4만 (s3를 다시 보내지 않음)
+        latestCapturedAt(4_000);
+        clearInvocations(digestGenerator);
+        stageDigestService.refresh(USER_ID, projectId, STAGE);
+
+        assertThat(incrementalInputIds()).containsExactly(s4);
+        assertThat(digest().getIncrementalCount()).isEqualTo(2);
+
+        // full-rebuild-every(2)에 도달 -> full rebuild, 증분 횟수 초기화
+        saveScrap(5_000);
+        latestCapturedAt(5_000);
+        clearInvocations(digestGenerator);
+        stageDigestService.refresh(USER_ID, projectId, STAGE);
+
+        verify(digestGenerator, never()).updateMarkdown(anyString(), anyString(), anyString(), anyList());
+        verify(digestGenerator).generateMarkdown(anyString(), eq(STAGE), anyList());
+        assertThat(digest().getIncrementalCount()).isZero();
+        assertThat(digest().getDigestText()).isEqualTo("## 한줄 요약\n- full");
+    }
+}
@@ -0,0 +1,43 @@
+package com.moa.moa_backend.domain.draft.llm.impl;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DraftLatencyWindowTest {
+
+    @Test
+    void percentile_is_empty_until_min_samples() {
+        DraftLatencyWindow window = new DraftLatencyWindow(10, 3);
+
+        window.record(100);
+        window.record(200);
+
+        assertThat(window.percentile(0.9)).isEmpty();
+
+        window.record(300);
+        assertThat(window.percentile(0.9)).hasValue(300);
+    }
+
+    @Test
+    void p90_uses_nearest_rank() {
+        DraftLatencyWindow window = new DraftLatencyWindow(10, 1);
+        for (int i = 1; i <= 10; i++) {
+            window.record(i * 100L);
+        }
+
+        assertThat(window.percentile(0.9)).hasValue(900);
+        assertThat(window.percentile(0.5)).hasValue(500);
+    }
+
+    @Test
+    void old_samples_roll_off() {
+        DraftLatencyWindow window = new DraftLatencyWindow(3, 1);
+        window.record(5000);
+        window.record(100);
+        window.record(100);
+        window.record(100);  // 5000 밀려남
+
+        assertThat(window.percentile(0.9)).hasValue(100);
+    }
+}
@@ -0,0 +1,154 @@
+package com.moa.moa_backend.domain.draft.llm.impl;
+
+import com.moa.moa_backend.domain.draft.dto.DraftRecommendCommand;
+import com.moa.moa_backend.domain.draft.dto.DraftRecommendation;
+import com.moa.moa_backend.domain.draft.entity.RecMethod;
+import com.moa.moa_backend.global.llm.gemini.GeminiCircuitOpenException;
+import com.moa.moa_backend.global.llm.gemini.GeminiClient;
+import com.moa.moa_backend.global.llm.gemini.GeminiClientException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * draft 추천 hedging (GeminiClient는 stub)
+ * - deadline 1000ms, 표본이 없으므로 hedge 지연은 default-delay
+ */
+class GeminiLlmAdapterTest {
+
+    private static final long DEADLINE_MS = 1000;
+    private static final String LLM_JSON = """
+            {"projectId": 10, "stage": "설계", "subtitle": "API 설계"}
+            """;
+
+    private final GeminiClient geminiClient = mock(GeminiClient.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // 표본 1개부터 p90 사용 -> 호출 뒤 hedge-delay gauge로 기록된 지연을 확인할 수 있다
+    private GeminiLlmAdapter adapter(long hedgeDelayMs, long minBudgetMs) {
+        return new GeminiLlmAdapter(geminiClient, new GeminiDraftCodec(), new HeuristicLlmAdapter(),
+                DEADLINE_MS, true, hedgeDelayMs, 50, minBudgetMs, 200, 1, meterRegistry);
+    }
+
+    private static DraftRecommendCommand command() {
+        return new DraftRecommendCommand(
+                1L,
+                "API 설계 초안",
+                "CHATGPT",
+                "https://chat.openai.com/c/1",
+                List.of(new DraftRecommendCommand.ProjectOption(10L, "MOA")),
+                List.of("기획", "설계"),
+                null,
+                Instant.now()
+        );
+    }
+
+    // 1차 호출은 deadline 전체, hedge는 deadline - 지연을 timeout으로 받는다
+    private void stubPrimary(Mono<String> response) {
+        when(geminiClient.generateTextMono(anyString(), eq(Duration.ofMillis(DEADLINE_MS)))).thenReturn(response);
+    }
+
+    private void stubHedge(long hedgeDelayMs, Mono<String> response) {
+        when(geminiClient.generateTextMono(anyString(), eq(Duration.ofMillis(DEADLINE_MS - hedgeDelayMs)))).thenReturn(response);
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+
+    @Test
+    void hedge_fires_after_delay_and_first_value_wins() {
+        AtomicBoolean primaryCancelled = new AtomicBoolean(false);
+        AtomicLong hedgeSubscribedAt = new AtomicLong();
+
+        stubPrimary(Mono.<String>never().doOnCancel(() -> primaryCancelled.set(true)));
+        stubHedge(200, Mono.defer(() -> {
+            hedgeSubscribedAt.set(System.nanoTime());
+            return Mono.just(LLM_JSON);
+        }));
+        GeminiLlmAdapter adapter = adapter(200, 100);
+
+        long startedAt = System.nanoTime();
+        DraftRecommendation rec = adapter.recommend(command());
+
+        assertThat(rec.recMethod()).isEqualTo(RecMethod.LLM);
+        assertThat(rec.stage()).isEqualTo("설계");
+        assertThat(TimeUnit.NANOSECONDS.toMillis(hedgeSubscribedAt.get() - startedAt)).isGreaterThanOrEqualTo(200);
+
+        // 진 1차 호출은 취소되고, 취소 시점까지의 지연(>= hedge 지연)도 표본으로 남는다
+        assertThat(primaryCancelled).isTrue();
+        assertThat(meterRegistry.get("moa.llm.draft.hedge-delay-ms").gauge().value()).isGreaterThanOrEqualTo(200);
+        assertThat(counter("moa.llm.draft.hedges")).isEqualTo(1);
+        assertThat(counter("moa.llm.draft.hedge-wins")).isEqualTo(1);
+    }
+
+    @Test
+    void circuit_open_fails_fast_without_waiting_for_hedge() {
+        AtomicBoolean hedgeSubscribed = new AtomicBoolean(false);
+
+        stubPrimary(Mono.error(new GeminiCircuitOpenException(Duration.ofSeconds(30))));
+        stubHedge(500, Mono.defer(() -> {
+            hedgeSubscribed.set(true);
+            return Mono.just(LLM_JSON);
+        }));
+        GeminiLlmAdapter adapter = adapter(500, 100);
+
+        long startedAt = System.nanoTime();
+        DraftRecommendation rec = adapter.recommend(command());
+
+        assertThat(rec.recMethod()).isEqualTo(RecMethod.FALLBACK_RECENT);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(500);
+        assertThat(hedgeSubscribed).isFalse();
+        assertThat(counter("moa.llm.draft.hedges")).isZero();
+    }
+
+    @Test
+    void no_hedge_when_remaining_budget_is_below_min_budget() {
+        // deadline 1000 - 지연 900 = 100 < min-budget 200
+        stubPrimary(Mono.just(LLM_JSON));
+        GeminiLlmAdapter adapter = adapter(900, 200);
+
+        DraftRecommendation rec = adapter.recommend(command());
+
+        assertThat(rec.recMethod()).isEqualTo(RecMethod.LLM);
+        verify(geminiClient, times(1)).generateTextMono(anyString(), any(Duration.class));
+        assertThat(counter("moa.llm.draft.hedges")).isZero();
+    }
+
+    @Test
+    void both_attempts_failing_falls_back_to_heuristic() {
+        AtomicBoolean hedgeSubscribed = new AtomicBoolean(false);
+
+        stubPrimary(Mono.error(new GeminiClientException("Gemini 503")));
+        stubHedge(100, Mono.defer(() -> {
+            hedgeSubscribed.set(true);
+            return Mono.error(new GeminiClientException("Gemini 503"));
+        }));
+        GeminiLlmAdapter adapter = adapter(100, 100);
+
+        DraftRecommendation rec = adapter.recommend(command());
+
+        // 둘 다 실패 -> GeminiClientException으로 변환되어 heuristic fallback
+        assertThat(hedgeSubscribed).isTrue();
+        assertThat(rec.recMethod()).isEqualTo(RecMethod.FALLBACK_RECENT);
+        assertThat(rec.projectId()).isEqualTo(10L);
+        assertThat(counter("moa.llm.draft.hedges")).isEqualTo(1);
+        assertThat(counter("moa.llm.draft.hedge-wins")).isZero();
+    }
+}
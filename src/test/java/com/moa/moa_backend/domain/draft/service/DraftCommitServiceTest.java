@@ -9,10 +9,12 @@ import com.moa.moa_backend.domain.project.repository.ProjectRepository;
 import com.moa.moa_backend.domain.scrap.repository.ScrapRepository;
 import com.moa.moa_backend.global.error.ApiException;
 import com.moa.moa_backend.global.error.ErrorCode;
+import com.moa.moa_backend.support.PostgresContainerConfig;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestConstructor;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -27,6 +29,7 @@ import static org.mockito.Mockito.when;
 
 @SpringBootTest
 @ActiveProfiles("test")
+@Import(PostgresContainerConfig.class)   // commit 경로의 scrap_activity upsert(ON CONFLICT)는 H2 미지원
 @TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)   // 생성자 주입 자동화
 class DraftCommitServiceTest {
 
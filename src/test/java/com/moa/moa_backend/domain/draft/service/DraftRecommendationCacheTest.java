@@ -0,0 +1,71 @@
+package com.moa.moa_backend.domain.draft.service;
+
+import com.moa.moa_backend.domain.draft.dto.DraftRecommendCommand;
+import com.moa.moa_backend.domain.draft.dto.DraftRecommendation;
+import com.moa.moa_backend.domain.draft.entity.RecMethod;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DraftRecommendationCacheTest {
+
+    private final DraftRecommendationCache cache = new DraftRecommendationCache(true, 100, 60, new SimpleMeterRegistry());
+
+    private static DraftRecommendCommand command(String content, Long recentProjectId) {
+        return command(content, recentProjectId, "https://chat.openai.com/c/1");
+    }
+
+    private static DraftRecommendCommand command(String content, Long recentProjectId, String aiSourceUrl) {
+        return new DraftRecommendCommand(
+                1L,
+                content,
+                "CHATGPT",
+                aiSourceUrl,
+                List.of(new DraftRecommendCommand.ProjectOption(10L, "moa")),
+                List.of("기획", "설계"),
+                (recentProjectId == null) ? null
+                        : new DraftRecommendCommand.RecentContext(recentProjectId, "설계", Instant.EPOCH),
+                Instant.now()
+        );
+    }
+
+    @Test
+    void hit_is_marked_as_llm_cached_and_ignores_whitespace_differences() {
+        DraftRecommendation rec = new DraftRecommendation(10L, "설계", "ERD 정리", RecMethod.LLM);
+        cache.put(command("ERD  설계\n정리", 10L), 1L, rec);
+
+        assertThat(cache.get(command("  ERD 설계 정리 ", 10L), 1L))
+                .hasValueSatisfying(hit -> {
+                    assertThat(hit.projectId()).isEqualTo(10L);
+                    assertThat(hit.subtitle()).isEqualTo("ERD 정리");
+                    assertThat(hit.recMethod()).isEqualTo(RecMethod.LLM_CACHED);
+                });
+    }
+
+    @Test
+    void project_set_version_or_recent_context_change_misses() {
+        cache.put(command("same", 10L), 1L, new DraftRecommendation(10L, "설계", null, RecMethod.LLM));
+
+        assertThat(cache.get(command("same", 10L), 2L)).isEmpty();
+        assertThat(cache.get(command("same", null), 1L)).isEmpty();
+    }
+
+    @Test
+    void different_source_misses() {
+        cache.put(command("same", 10L), 1L, new DraftRecommendation(10L, "설계", null, RecMethod.LLM));
+
+        // aiSourceUrl도 프롬프트 입력 -> 같은 내용이라도 다른 대화에서 온 것은 새로 추천
+        assertThat(cache.get(command("same", 10L, "https://chat.openai.com/c/2"), 1L)).isEmpty();
+    }
+
+    @Test
+    void fallback_results_are_not_cached() {
+        cache.put(command("same", 10L), 1L, new DraftRecommendation(10L, "설계", null, RecMethod.FALLBACK_RECENT));
+
+        assertThat(cache.get(command("same", 10L), 1L)).isEmpty();
+    }
+}
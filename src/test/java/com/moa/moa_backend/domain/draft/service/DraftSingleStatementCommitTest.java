@@ -0,0 +1,194 @@
+package com.moa.moa_backend.domain.draft.service;
+
+import com.moa.moa_backend.domain.draft.dto.DraftCommitRequest;
+import com.moa.moa_backend.domain.draft.dto.DraftCommitResponse;
+import com.moa.moa_backend.domain.draft.entity.Draft;
+import com.moa.moa_backend.domain.draft.entity.RecMethod;
+import com.moa.moa_backend.domain.draft.repository.DraftRepository;
+import com.moa.moa_backend.domain.project.entity.Project;
+import com.moa.moa_backend.domain.project.repository.ProjectRepository;
+import com.moa.moa_backend.domain.scrap.entity.Scrap;
+import com.moa.moa_backend.domain.scrap.repository.ScrapRepository;
+import com.moa.moa_backend.global.error.ApiException;
+import com.moa.moa_backend.global.error.ErrorCode;
+import com.moa.moa_backend.support.PostgresContainerConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestConstructor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * moa.draft.commit.single-statement=true 경로 (ScrapDraftCommitRepository CTE) - 실제 Postgres에서 실행
+ * - 응답 코드가 기존 경로와 같은지: 성공 / 404 / 410 / 프로젝트 404 / 동시 commit 409
+ */
+@SpringBootTest(properties = "moa.draft.commit.single-statement=true")
+@ActiveProfiles("test")
+@Import(PostgresContainerConfig.class)   // data-modifying CTE는 H2 미지원
+@TestConstructor(autowireMode = TestConstructor.AutowireMode.ALL)
+class DraftSingleStatementCommitTest {
+
+    private static final String STAGE = "설계";
+
+    private final DraftService draftService;
+    private final DraftRepository draftRepository;
+    private final ScrapRepository scrapRepository;
+    private final ProjectRepository projectRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    DraftSingleStatementCommitTest(
+            DraftService draftService,
+            DraftRepository draftRepository,
+            ScrapRepository scrapRepository,
+            ProjectRepository projectRepository,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.draftService = draftService;
+        this.draftRepository = draftRepository;
+        this.scrapRepository = scrapRepository;
+        this.projectRepository = projectRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    private Long userId;
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("delete from scrap_activity");
+        scrapRepository.deleteAll();
+        draftRepository.deleteAll();
+        projectRepository.deleteAll();
+
+        userId = 1L;
+        projectId = projectRepository.save(Project.create(userId, "MOA", "프로젝트 설명")).getId();
+    }
+
+    private Long saveDraft(Instant expiredAt) {
+        Instant createdAt = expiredAt.minus(Duration.ofHours(1));
+        return draftRepository.save(Draft.create(
+                userId, "임시 원문 contentPlain", "CHATGPT", "https://example.com",
+                projectId, STAGE, "API 설계 초안", RecMethod.LLM, createdAt, expiredAt
+        )).getId();
+    }
+
+    private Long aliveDraft() {
+        return saveDraft(Instant.now().plus(Duration.ofHours(1)));
+    }
+
+    private DraftCommitRequest commitReq(Long projectId) {
+        return new DraftCommitRequest(
+                projectId, STAGE, "소제목", null, "<p>Hello</p>", "CHATGPT", "https://example.com",
+                true, true, false
+        );
+    }
+
+    private static ErrorCode errorCodeOf(Throwable e) {
+        assertThat(e).isInstanceOf(ApiException.class);
+        return ((ApiException) e).getErrorCode();
+    }
+
+    @Test
+    void commit_inserts_scrap_records_activity_and_deletes_draft() {
+        Long draftId = aliveDraft();
+
+        DraftCommitResponse first = draftService.commit(userId, draftId, commitReq(projectId));
+        DraftCommitResponse second = draftService.commit(userId, aliveDraft(), commitReq(projectId));
+
+        assertThat(draftRepository.count()).isZero();
+        Scrap scrap = scrapRepository.findById(first.scrapId()).orElseThrow();
+        assertThat(scrap.getRecMethod()).isEqualTo(RecMethod.LLM);   // draft row에서 복사
+
+        // 같은 (user, project, stage) -> upsert로 1행, 최신 scrap을 가리킴
+        assertThat(jdbcTemplate.queryForMap(
+                "select scrap_count, last_scrap_id from scrap_activity where user_id = ? and project_id = ? and stage = ?",
+                userId, projectId, STAGE))
+                .containsEntry("scrap_count", 2L)
+                .containsEntry("last_scrap_id", second.scrapId());
+    }
+
+    @Test
+    void missing_draft_is_404() {
+        assertThatThrownBy(() -> draftService.commit(userId, 999_999L, commitReq(projectId)))
+                .satisfies(e -> assertThat(errorCodeOf(e)).isEqualTo(ErrorCode.DRAFT_NOT_FOUND));
+        assertThat(scrapRepository.count()).isZero();
+    }
+
+    @Test
+    void expired_draft_is_410_and_kept() {
+        Long draftId = saveDraft(Instant.now().minus(Duration.ofMinutes(1)));
+
+        assertThatThrownBy(() -> draftService.commit(userId, draftId, commitReq(projectId)))
+                .satisfies(e -> assertThat(errorCodeOf(e)).isEqualTo(ErrorCode.DRAFT_EXPIRED));
+        assertThat(draftRepository.existsById(draftId)).isTrue();
+        assertThat(scrapRepository.count()).isZero();
+    }
+
+    @Test
+    void missing_project_is_404_and_draft_is_kept() {
+        Long draftId = aliveDraft();
+        Long deletedProjectId = projectId + 1000;
+
+        assertThatThrownBy(() -> draftService.commit(userId, draftId, commitReq(deletedProjectId)))
+                .satisfies(e -> assertThat(errorCodeOf(e)).isEqualTo(ErrorCode.PROJECT_NOT_FOUND));
+        assertThat(draftRepository.existsById(draftId)).isTrue();
+        assertThat(scrapRepository.count()).isZero();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from scrap_activity", Long.class)).isZero();
+    }
+
+    @Test
+    void draft_deleted_concurrently_is_409_and_rolls_back_insert() throws Exception {
+        Long draftId = aliveDraft();
+
+        // 다른 트랜잭션이 draft를 먼저 지우고(미커밋) 있는 동안 commit 실행
+        // -> commit은 draft를 보고 insert까지 한 뒤 delete에서 대기, 상대가 커밋하면 0건 삭제
+        CompletableFuture<Throwable> commit = transactionTemplate.execute(status -> {
+            jdbcTemplate.update("delete from drafts where draft_id = ?", draftId);
+
+            CompletableFuture<Throwable> pending = CompletableFuture.supplyAsync(
+                    () -> catchThrowable(() -> draftService.commit(userId, draftId, commitReq(projectId))));
+            awaitLockWaiter();
+            return pending;
+        });
+
+        Throwable result = commit.get(10, TimeUnit.SECONDS);
+        assertThat(errorCodeOf(result)).isEqualTo(ErrorCode.DRAFT_ALREADY_COMMITTED);
+        assertThat(scrapRepository.count()).isZero();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from scrap_activity", Long.class)).isZero();
+    }
+
+    // 다른 세션이 row lock을 기다리기 시작할 때까지 (pg_stat_activity는 트랜잭션 안에서 snapshot이라 매번 비움)
+    private void awaitLockWaiter() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            jdbcTemplate.execute("select pg_stat_clear_snapshot()");
+            Long waiting = jdbcTemplate.queryForObject(
+                    "select count(*) from pg_stat_activity where wait_event_type = 'Lock' and datname = current_database()",
+                    Long.class);
+            if (waiting != null && waiting > 0) return;
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+        throw new IllegalStateException("commit did not block on the draft row lock");
+    }
+}
@@ -0,0 +1,153 @@
+package com.moa.moa_backend.domain.draft.service;
+
+import com.moa.moa_backend.domain.draft.dto.DraftRecommendCommand;
+import com.moa.moa_backend.domain.draft.entity.RecMethod;
+import com.moa.moa_backend.domain.scrap.repository.ScrapRepository;
+import com.moa.moa_backend.domain.scrap.service.ScrapCommittedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LocalDraftClassifierTest {
+
+    private static final long USER_ID = 1L;
+
+    private final ScrapRepository scrapRepository = mock(ScrapRepository.class);
+    private LocalDraftClassifier classifier;
+
+    @BeforeEach
+    void setUp() {
+        when(scrapRepository.findClassifierTrainingRows(anyLong(), anyInt(), any())).thenReturn(List.of());
+        classifier = new LocalDraftClassifier(
+                scrapRepository, true, 0.3, 4, 3, 2000, 300, 20000, 2.0, 100, 24, new SimpleMeterRegistry());
+    }
+
+    private static DraftRecommendCommand command(String content, Long... projectIds) {
+        return new DraftRecommendCommand(
+                USER_ID,
+                content,
+                "CHATGPT",
+                "https://chat.openai.com/c/1",
+                Arrays.stream(projectIds)
+                        .map(id -> new DraftRecommendCommand.ProjectOption(id, "p" + id))
+                        .toList(),
+                List.of("기획", "설계", "개발"),
+                null,
+                Instant.now()
+        );
+    }
+
+    private void learn(long projectId, String stage, String text) {
+        classifier.onScrapCommitted(event(null, projectId, stage, text));
+    }
+
+    private static ScrapCommittedEvent event(Long scrapId, long projectId, String stage, String text) {
+        return new ScrapCommittedEvent(USER_ID, scrapId, projectId, stage, "소제목", null, text, true, true);
+    }
+
+    private void trainTwoTopics() {
+        for (int i = 0; i < 3; i++) {
+            learn(10L, "개발", "Spring JPA 엔티티 매핑과 트랜잭션 설정 repository query");
+            learn(20L, "기획", "마케팅 캠페인 타겟 고객 페르소나 설문 결과 정리");
+        }
+    }
+
+    @Test
+    void untrained_model_defers_to_llm() {
+        classifier.recommend(command("Spring JPA 트랜잭션", 10L, 20L));   // bootstrap (학습 데이터 없음)
+        learn(10L, "개발", "Spring JPA 엔티티 매핑과 트랜잭션 설정");
+
+        assertThat(classifier.recommend(command("Spring JPA 트랜잭션 설정", 10L, 20L))).isEmpty();
+    }
+
+    @Test
+    void confident_prediction_is_returned_as_local_without_subtitle() {
+        classifier.recommend(command("bootstrap only text", 10L, 20L));
+        trainTwoTopics();
+
+        assertThat(classifier.recommend(command("JPA repository 트랜잭션 설정 질문", 10L, 20L)))
+                .hasValueSatisfying(rec -> {
+                    assertThat(rec.projectId()).isEqualTo(10L);
+                    assertThat(rec.stage()).isEqualTo("개발");
+                    assertThat(rec.subtitle()).isNull();
+                    assertThat(rec.recMethod()).isEqualTo(RecMethod.LOCAL);
+                });
+        assertThat(classifier.recommend(command("고객 페르소나 설문 캠페인", 10L, 20L)))
+                .hasValueSatisfying(rec -> assertThat(rec.projectId()).isEqualTo(20L));
+    }
+
+    @Test
+    void deleted_project_is_never_recommended() {
+        classifier.recommend(command("bootstrap only text", 10L, 20L));
+        trainTwoTopics();
+
+        // 남은 프로젝트와는 맞지 않는 내용 -> 억지로 20을 고르지 않고 LLM으로
+        assertThat(classifier.recommend(command("JPA repository 트랜잭션 설정 질문", 20L))).isEmpty();
+    }
+
+    @Test
+    void mixed_content_is_not_confident() {
+        classifier.recommend(command("bootstrap only text", 10L, 20L));
+        trainTwoTopics();
+
+        assertThat(classifier.recommend(command("Spring 마케팅 설정 고객", 10L, 20L))).isEmpty();
+    }
+
+    @Test
+    void events_committed_during_bootstrap_are_not_lost() {
+        ScrapRepository.ClassifierTrainingRow row = mock(ScrapRepository.ClassifierTrainingRow.class);
+        when(row.getScrapId()).thenReturn(1L);
+        when(row.getProjectId()).thenReturn(10L);
+        when(row.getStage()).thenReturn("개발");
+        when(row.getNormalizedText()).thenReturn("Spring JPA 엔티티 매핑과 트랜잭션 설정 repository query");
+
+        // 조회와 모델 등록 사이에 커밋 이벤트가 도착: 하나는 조회 결과에도 있는 스크랩, 나머지는 새 스크랩
+        doAnswer(invocation -> {
+            classifier.onScrapCommitted(event(1L, 10L, "개발", "Spring JPA 엔티티 매핑과 트랜잭션 설정 repository query"));
+            for (long id = 2; id <= 4; id++) {
+                classifier.onScrapCommitted(event(id, 20L, "기획", "마케팅 캠페인 타겟 고객 페르소나 설문 결과 정리"));
+            }
+            return List.of(row);
+        }).when(scrapRepository).findClassifierTrainingRows(anyLong(), anyInt(), any());
+
+        classifier.recommend(command("bootstrap only text", 10L, 20L));
+        for (int i = 0; i < 2; i++) {
+            learn(10L, "개발", "Spring JPA 엔티티 매핑과 트랜잭션 설정 repository query");
+        }
+
+        // 조회 결과 1건 + bootstrap 중 이벤트 3건(20번) + 이후 2건 -> 20번 주제가 학습되어 있어야 함
+        assertThat(classifier.recommend(command("고객 페르소나 설문 캠페인", 10L, 20L)))
+                .map(rec -> rec.projectId())
+                .isEqualTo(Optional.of(20L));
+    }
+
+    @Test
+    void unrelated_content_is_not_confident() {
+        classifier.recommend(command("bootstrap only text", 10L, 20L));
+        trainTwoTopics();
+
+        assertThat(classifier.recommend(command("오늘 점심 메뉴 추천 부탁해 weather", 10L, 20L))).isEmpty();
+    }
+
+    @Test
+    void hangul_bigrams_survive_particles() {
+        int[] stem = DraftTextFeatures.extract("트랜잭션", 100);
+        int[] withParticle = DraftTextFeatures.extract("트랜잭션을", 100);
+
+        assertThat(withParticle).contains(stem);
+        assertThat(DraftTextFeatures.extract("JPA jpa a", 100)).hasSize(1);
+    }
+}
@@ -0,0 +1,97 @@
+package com.moa.moa_backend.domain.draft.store;
+
+import com.moa.moa_backend.domain.draft.entity.Draft;
+import com.moa.moa_backend.domain.draft.entity.RecMethod;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryDraftStoreTest {
+
+    private final InMemoryDraftStore store = new InMemoryDraftStore(2, 128, 0, 1000, new SimpleMeterRegistry());
+
+    private static Draft draft(Long userId, Instant expiredAt) {
+        return Draft.create(userId, "content", "CHATGPT", "https://chat.openai.com/c/1",
+                10L, "설계", null, RecMethod.LLM, expiredAt.minus(Duration.ofHours(1)), expiredAt);
+    }
+
+    @Test
+    void latest_skips_expired_and_per_user_limit_evicts_oldest() {
+        Instant now = Instant.now();
+        Draft first = store.save(draft(1L, now.plusSeconds(3600)));
+        Draft second = store.save(draft(1L, now.plusSeconds(3600)));
+        Draft expired = store.save(draft(1L, now.minusSeconds(1)));
+
+        assertThat(store.findByIdAndUserId(first.getId(), 1L)).isEmpty();
+        assertThat(store.findLatest(1L, now)).contains(second);
+        assertThat(store.findByIdAndUserId(expired.getId(), 1L)).contains(expired);
+        assertThat(store.findByIdAndUserId(second.getId(), 2L)).isEmpty();
+    }
+
+    @Test
+    void timing_wheel_removes_after_expiry() {
+        Instant now = Instant.now();
+        Draft d = store.save(draft(1L, now.plusSeconds(90)));
+
+        store.expire(now.plusSeconds(60).toEpochMilli());
+        assertThat(store.findByIdAndUserId(d.getId(), 1L)).isPresent();
+
+        store.expire(now.plusSeconds(92).toEpochMilli());
+        assertThat(store.findByIdAndUserId(d.getId(), 1L)).isEmpty();
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    void delete_inside_rolled_back_transaction_is_restored() {
+        Draft d = store.save(draft(1L, Instant.now().plusSeconds(3600)));
+
+        TransactionSynchronizationManager.initSynchronization();
+        List<TransactionSynchronization> syncs;
+        try {
+            assertThat(store.deleteByIdAndUserId(d.getId(), 1L)).isEqualTo(1);
+            assertThat(store.deleteByIdAndUserId(d.getId(), 1L)).isZero();   // 동시 commit은 한쪽만 성공
+            syncs = new ArrayList<>(TransactionSynchronizationManager.getSynchronizations());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        syncs.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(store.findByIdAndUserId(d.getId(), 1L)).isPresent();
+    }
+
+    @Test
+    void wheel_fires_across_levels_in_deadline_order() {
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(1000, 0);
+        wheel.schedule(1, 5_000);          // level 0
+        wheel.schedule(2, 200_000);        // level 1
+        wheel.schedule(3, 5_000_000);      // level 2
+        wheel.schedule(4, 400_000_000);    // 범위 밖 (최상위에서 재배치)
+
+        List<Long> fired = new ArrayList<>();
+        wheel.advance(4_999, fired::add);
+        assertThat(fired).isEmpty();
+
+        wheel.advance(5_000, fired::add);
+        assertThat(fired).containsExactly(1L);
+
+        wheel.advance(199_999, fired::add);
+        assertThat(fired).containsExactly(1L);
+        wheel.advance(200_000, fired::add);
+        wheel.advance(5_000_000, fired::add);
+        assertThat(fired).containsExactly(1L, 2L, 3L);
+
+        wheel.advance(399_999_999, fired::add);
+        assertThat(fired).containsExactly(1L, 2L, 3L);
+        wheel.advance(400_000_000, fired::add);
+        assertThat(fired).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(wheel.size()).isZero();
+    }
+}
@@ -0,0 +1,79 @@
+package com.moa.moa_backend.global.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedTtlCacheTest {
+
+    private final AtomicLong now = new AtomicLong(0);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private BoundedTtlCache<String, String> cache(int maxSize) {
+        return new BoundedTtlCache<>("test", maxSize, Duration.ofSeconds(10), registry, now::get);
+    }
+
+    private double counter(String name, String tagKey, String tagValue) {
+        return registry.get(name).tag("cache", "test").tag(tagKey, tagValue).counter().count();
+    }
+
+    @Test
+    void evicts_oldest_when_over_max_size() {
+        BoundedTtlCache<String, String> cache = cache(2);
+
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.put("c", "3");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getIfPresent("a")).isNull();
+        assertThat(cache.getIfPresent("c")).isEqualTo("3");
+        assertThat(counter("moa.cache.evictions", "cause", "size")).isEqualTo(1);
+    }
+
+    @Test
+    void rewrite_moves_key_to_newest() {
+        BoundedTtlCache<String, String> cache = cache(2);
+
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.put("a", "1'");
+        cache.put("c", "3");
+
+        assertThat(cache.getIfPresent("a")).isEqualTo("1'");
+        assertThat(cache.getIfPresent("b")).isNull();
+    }
+
+    @Test
+    void sweep_removes_unread_expired_entries() {
+        BoundedTtlCache<String, String> cache = cache(100);
+
+        cache.put("a", "1");
+        now.addAndGet(Duration.ofSeconds(5).toNanos());
+        cache.put("b", "2");
+        now.addAndGet(Duration.ofSeconds(6).toNanos()); // a 만료, b 유효
+
+        assertThat(cache.sweepExpired()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.getIfPresent("b")).isEqualTo("2");
+        assertThat(counter("moa.cache.evictions", "cause", "expired")).isEqualTo(1);
+    }
+
+    @Test
+    void counts_hits_and_misses() {
+        BoundedTtlCache<String, String> cache = cache(10);
+
+        cache.put("a", "1");
+        cache.getIfPresent("a");
+        cache.getIfPresent("x");
+        now.addAndGet(Duration.ofSeconds(11).toNanos());
+        cache.getIfPresent("a");
+
+        assertThat(counter("moa.cache.gets", "result", "hit")).isEqualTo(1);
+        assertThat(counter("moa.cache.gets", "result", "miss")).isEqualTo(2);
+    }
+}
@@ -0,0 +1,59 @@
+package com.moa.moa_backend.global.db;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConnectionHoldDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConnectionHoldRecorder recorder = new ConnectionHoldRecorder(1000, 2, List.of(), meterRegistry);
+    private final ConnectionHoldDataSource dataSource = new ConnectionHoldDataSource(
+            new DriverManagerDataSource("jdbc:h2:mem:connection_hold;DB_CLOSE_DELAY=-1", "sa", ""), recorder);
+
+    @Test
+    void records_hold_time_and_statement_count_per_caller() throws Exception {
+        try (Connection conn = dataSource.getConnection();
+             Statement st = conn.createStatement();
+             PreparedStatement ps = conn.prepareStatement("select 1")) {
+            st.execute("select 1");
+            ps.executeQuery().close();
+        }
+
+        assertThat(recorder.topOffenders(10)).singleElement().satisfies(o -> {
+            assertThat(o.caller()).isEqualTo("ConnectionHoldDataSourceTest.records_hold_time_and_statement_count_per_caller");
+            assertThat(o.checkouts()).isEqualTo(1);
+            assertThat(o.avgStatements()).isEqualTo(2.0);
+        });
+        assertThat(meterRegistry.get("moa.db.connection.hold").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void double_close_is_recorded_once_and_unwrap_reaches_target() throws Exception {
+        Connection conn = dataSource.getConnection();
+        assertThat(conn.isWrapperFor(Connection.class)).isTrue();
+        conn.close();
+        conn.close();
+
+        assertThat(recorder.topOffenders(10)).singleElement()
+                .satisfies(o -> assertThat(o.checkouts()).isEqualTo(1));
+    }
+
+    @Test
+    void callers_beyond_limit_are_grouped_as_other() {
+        recorder.record("A.a", 1_000, 1);
+        recorder.record("B.b", 2_000, 1);
+        recorder.record("C.c", 3_000, 1);
+
+        assertThat(recorder.topOffenders(10))
+                .extracting(ConnectionHoldRecorder.Offender::caller)
+                .containsExactlyInAnyOrder("A.a", "B.b", ConnectionHoldRecorder.OTHER);
+    }
+}
@@ -0,0 +1,111 @@
+package com.moa.moa_backend.global.llm.dispatch;
+
+import com.moa.moa_backend.global.llm.gemini.GeminiClientException;
+import com.moa.moa_backend.global.llm.ratelimit.AdaptiveConcurrencyLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LlmDispatcherTest {
+
+    /**
+     * shared 2, draft(reserved 1, borrow 2), interactive(reserved 0, borrow 2), scheduled(reserved 0, borrow 1)
+     */
+    private final LlmDispatcher dispatcher = dispatcher(new AdaptiveConcurrencyLimiter(
+            64, 1, 64, 4000, 0.9, 0.5, new SimpleMeterRegistry()));
+
+    private static LlmDispatcher dispatcher(AdaptiveConcurrencyLimiter concurrencyLimiter) {
+        return new LlmDispatcher(
+                2,
+                1, 2, 200,
+                0, 2, 2000,
+                0, 1, 2000,
+                concurrencyLimiter,
+                new SimpleMeterRegistry()
+        );
+    }
+
+    private CompletableFuture<LlmDispatcher.Permit> acquire(LlmPriority p) {
+        return dispatcher.acquire(p).toFuture();
+    }
+
+    @Test
+    void scheduled_cannot_borrow_more_than_its_limit() {
+        assertThat(acquire(LlmPriority.SCHEDULED_DIGEST)).isCompleted();
+
+        CompletableFuture<LlmDispatcher.Permit> second = acquire(LlmPriority.SCHEDULED_DIGEST);
+        assertThat(second).isNotDone();
+        assertThat(dispatcher.waiting(LlmPriority.SCHEDULED_DIGEST)).isEqualTo(1);
+
+        // 공용 슬롯 1개는 남아 있으므로 interactive는 바로 받는다
+        assertThat(acquire(LlmPriority.INTERACTIVE_DIGEST)).isCompleted();
+    }
+
+    @Test
+    void draft_uses_reserved_slot_when_shared_is_full() {
+        acquire(LlmPriority.INTERACTIVE_DIGEST).join();
+        acquire(LlmPriority.INTERACTIVE_DIGEST).join();
+
+        assertThat(acquire(LlmPriority.DRAFT)).isCompleted();
+        assertThat(dispatcher.inUse(LlmPriority.DRAFT)).isEqualTo(1);
+    }
+
+    @Test
+    void released_slot_goes_to_higher_priority_waiter_first() {
+        LlmDispatcher.Permit a = acquire(LlmPriority.INTERACTIVE_DIGEST).join();
+        acquire(LlmPriority.INTERACTIVE_DIGEST).join();
+
+        CompletableFuture<LlmDispatcher.Permit> scheduled = acquire(LlmPriority.SCHEDULED_DIGEST);
+        CompletableFuture<LlmDispatcher.Permit> interactive = acquire(LlmPriority.INTERACTIVE_DIGEST);
+
+        a.release();
+        a.release(); // 멱등
+
+        assertThat(interactive).isCompleted();
+        assertThat(scheduled).isNotDone();
+    }
+
+    @Test
+    void wait_over_max_fails_with_client_exception_and_frees_queue() {
+        acquire(LlmPriority.DRAFT).join();      // reserved
+        acquire(LlmPriority.DRAFT).join();      // shared
+        acquire(LlmPriority.DRAFT).join();      // shared (borrow 2)
+
+        CompletableFuture<LlmDispatcher.Permit> waiting = acquire(LlmPriority.DRAFT);
+
+        assertThatThrownBy(waiting::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(GeminiClientException.class);
+        assertThat(dispatcher.waiting(LlmPriority.DRAFT)).isZero();
+    }
+
+    @Test
+    void shrunk_concurrency_limit_queues_instead_of_granting() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 8, 4000, 0.9, 0.5, new SimpleMeterRegistry());
+        LlmDispatcher gated = dispatcher(limiter);
+
+        LlmDispatcher.Permit a = gated.acquire(LlmPriority.INTERACTIVE_DIGEST).toFuture().join();
+        gated.acquire(LlmPriority.INTERACTIVE_DIGEST).toFuture().join();
+
+        // 429 -> limit 4 -> 2: 배정 2건으로 limit에 닿음
+        assertThat(limiter.tryAcquire()).isTrue();
+        limiter.onDropped();
+        assertThat((int) limiter.limit()).isEqualTo(2);
+
+        // draft 전용 슬롯이 비어 있어도 limit을 넘겨 배정하지 않고 대기 (거절 아님)
+        CompletableFuture<LlmDispatcher.Permit> scheduled = gated.acquire(LlmPriority.SCHEDULED_DIGEST).toFuture();
+        CompletableFuture<LlmDispatcher.Permit> draft = gated.acquire(LlmPriority.DRAFT).toFuture();
+        assertThat(draft).isNotDone();
+        assertThat(scheduled).isNotDone();
+
+        // 반환된 자리는 높은 우선순위 대기자에게
+        a.release();
+        assertThat(draft).isCompleted();
+        assertThat(scheduled).isNotDone();
+    }
+}
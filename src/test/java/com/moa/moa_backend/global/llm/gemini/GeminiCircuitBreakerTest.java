@@ -0,0 +1,112 @@
+package com.moa.moa_backend.global.llm.gemini;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GeminiCircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong(0);
+
+    /**
+     * window 4건, 최소 4건, 실패율 50%, open 10초, probe 2건
+     */
+    private GeminiCircuitBreaker breaker() {
+        return new GeminiCircuitBreaker(4, 4, 0.5, 10_000, 2, now::get);
+    }
+
+    private void call(GeminiCircuitBreaker b, boolean fail) {
+        GeminiCircuitBreaker.Permission p = b.acquirePermission();
+        if (fail) b.onFailure(p);
+        else b.onSuccess(p);
+    }
+
+    @Test
+    void opens_when_failure_rate_reaches_threshold() {
+        GeminiCircuitBreaker b = breaker();
+
+        call(b, true);
+        call(b, true);
+        call(b, false);
+        assertThat(b.state()).isEqualTo(GeminiCircuitBreaker.State.CLOSED); // min-calls 미달
+
+        call(b, false);
+        call(b, true);  // window: [F, F, S, S] -> 첫 F 밀려나고 [F, S, S, F] = 50%
+        assertThat(b.isOpen()).isTrue();
+
+        assertThatThrownBy(b::acquirePermission)
+                .isInstanceOf(GeminiCircuitOpenException.class)
+                .satisfies(e -> assertThat(((GeminiCircuitOpenException) e).getRetryAfter()).hasSeconds(10));
+    }
+
+    @Test
+    void half_open_closes_after_successful_probes() {
+        GeminiCircuitBreaker b = breaker();
+        for (int i = 0; i < 4; i++) call(b, true);
+        assertThat(b.isOpen()).isTrue();
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertThat(b.state()).isEqualTo(GeminiCircuitBreaker.State.HALF_OPEN);
+
+        GeminiCircuitBreaker.Permission p1 = b.acquirePermission();
+        GeminiCircuitBreaker.Permission p2 = b.acquirePermission();
+        assertThatThrownBy(b::acquirePermission).isInstanceOf(GeminiCircuitOpenException.class); // probe 한도
+
+        b.onSuccess(p1);
+        b.onSuccess(p2);
+        assertThat(b.state()).isEqualTo(GeminiCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void half_open_probe_failure_reopens() {
+        GeminiCircuitBreaker b = breaker();
+        for (int i = 0; i < 4; i++) call(b, true);
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        call(b, true);
+
+        assertThat(b.isOpen()).isTrue();
+    }
+
+    @Test
+    void ignored_probe_returns_slot() {
+        GeminiCircuitBreaker b = breaker();
+        for (int i = 0; i < 4; i++) call(b, true);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        b.acquirePermission();
+        GeminiCircuitBreaker.Permission cancelled = b.acquirePermission();
+        b.onIgnored(cancelled);
+
+        b.acquirePermission(); // 취소된 probe 자리를 다시 사용
+        assertThat(b.state()).isEqualTo(GeminiCircuitBreaker.State.HALF_OPEN);
+    }
+
+    @Test
+    void late_result_from_closed_permit_does_not_touch_half_open() {
+        GeminiCircuitBreaker b = breaker();
+        GeminiCircuitBreaker.Permission slow = b.acquirePermission();   // CLOSED에서 받은 긴 호출
+        for (int i = 0; i < 4; i++) call(b, true);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertThat(b.state()).isEqualTo(GeminiCircuitBreaker.State.HALF_OPEN);
+
+        GeminiCircuitBreaker.Permission probe = b.acquirePermission();
+
+        // 늦게 끝난 CLOSED 호출: probe 성공으로 세지도, 다시 OPEN 시키지도 않는다
+        b.onSuccess(slow);
+        b.onFailure(slow);
+        b.onIgnored(slow);
+        assertThat(b.state()).isEqualTo(GeminiCircuitBreaker.State.HALF_OPEN);
+
+        // probe 슬롯 수도 그대로 (음수로 내려가 추가 probe를 허용하지 않음)
+        b.acquirePermission();
+        assertThatThrownBy(b::acquirePermission).isInstanceOf(GeminiCircuitOpenException.class);
+
+        b.onSuccess(probe);
+        assertThat(b.state()).isEqualTo(GeminiCircuitBreaker.State.HALF_OPEN);   // probe 2건 중 1건만 성공
+    }
+}
@@ -0,0 +1,181 @@
+package com.moa.moa_backend.global.llm.gemini;
+
+import com.moa.moa_backend.global.llm.LlmTransactionGuard;
+import com.moa.moa_backend.global.llm.dispatch.LlmDispatcher;
+import com.moa.moa_backend.global.llm.dispatch.LlmPriority;
+import com.moa.moa_backend.global.llm.ratelimit.AdaptiveConcurrencyLimiter;
+import com.moa.moa_backend.global.llm.ratelimit.LlmRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GeminiClientTest {
+
+    private static final String OK_BODY = """
+            {"candidates":[{"content":{"parts":[{"text":"hello"}]}}]}
+            """;
+
+    private final LlmRateLimiter limiter = new LlmRateLimiter(60, 1_000_000, 0.2, 1000, 15000, 2.0);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter =
+            new AdaptiveConcurrencyLimiter(4, 1, 8, 4000, 0.9, 0.5, meterRegistry);
+    private final GeminiCircuitBreaker circuitBreaker =
+            new GeminiCircuitBreaker(2, 2, 0.5, 30000, 1, meterRegistry);
+    private final LlmDispatcher dispatcher =
+            new LlmDispatcher(4, 2, 4, 300, 1, 2, 5000, 0, 1, 60000, concurrencyLimiter, meterRegistry);
+    private final LlmTransactionGuard transactionGuard = new LlmTransactionGuard(true, meterRegistry);
+
+    private final AtomicInteger exchanges = new AtomicInteger();
+
+    private GeminiClient client(Mono<ClientResponse> response) {
+        WebClient.Builder builder = WebClient.builder().exchangeFunction(request -> {
+            exchanges.incrementAndGet();
+            return response;
+        });
+        return new GeminiClient(builder, limiter, concurrencyLimiter, circuitBreaker, dispatcher, transactionGuard,
+                "http://gemini.test", "key", "gemini-test", 3000);
+    }
+
+    private static ClientResponse json(HttpStatus status, String body) {
+        return ClientResponse.create(status)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build();
+    }
+
+    // streamGenerateContent?alt=sse 응답 한 이벤트
+    private static DataBuffer sseEvent(String text) {
+        String event = "data: {\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"" + text + "\"}]}}]}\n\n";
+        return DefaultDataBufferFactory.sharedInstance.wrap(event.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ClientResponse eventStream(Flux<DataBuffer> body) {
+        return ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_EVENT_STREAM_VALUE)
+                .body(body)
+                .build();
+    }
+
+    @Test
+    void async_call_does_not_wait_for_response() throws Exception {
+        Sinks.One<ClientResponse> pending = Sinks.one();
+        GeminiClient client = client(pending.asMono());
+
+        CompletableFuture<String> future = client.generateTextAsync("prompt");
+        assertThat(future).isNotDone();
+
+        pending.tryEmitValue(json(HttpStatus.OK, OK_BODY));
+        assertThat(future.get()).isEqualTo("hello");
+    }
+
+    @Test
+    void async_429_fails_with_client_exception_and_pauses_limiter() throws Exception {
+        GeminiClient client = client(Mono.just(json(HttpStatus.TOO_MANY_REQUESTS, "{}")));
+
+        CompletableFuture<String> future = client.generateTextAsync("prompt");
+
+        assertThatThrownBy(future::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(GeminiClientException.class);
+        assertThat(limiter.acquire(0, Duration.ZERO)).isFalse();
+    }
+
+    @Test
+    void open_circuit_fails_fast_without_calling_provider() {
+        GeminiClient client = client(Mono.just(json(HttpStatus.SERVICE_UNAVAILABLE, "{}")));
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> client.generateText("prompt")).isInstanceOf(GeminiClientException.class);
+        }
+        assertThat(circuitBreaker.isOpen()).isTrue();
+
+        assertThatThrownBy(() -> client.generateText("prompt")).isInstanceOf(GeminiCircuitOpenException.class);
+        assertThat(exchanges).hasValue(2);
+        assertThat(concurrencyLimiter.inFlight()).isZero();
+    }
+
+    @Test
+    void blocking_call_is_thin_adapter_over_mono() {
+        GeminiClient ok = client(Mono.just(json(HttpStatus.OK, OK_BODY)));
+        assertThat(ok.generateText("prompt")).isEqualTo("hello");
+
+        GeminiClient empty = client(Mono.just(json(HttpStatus.OK, "{\"candidates\":[]}")));
+        assertThatThrownBy(() -> empty.generateText("prompt"))
+                .isInstanceOf(GeminiClientException.class)
+                .hasMessageContaining("candidates empty");
+    }
+
+    @Test
+    void call_inside_db_transaction_is_reported() {
+        GeminiClient client = client(Mono.just(json(HttpStatus.OK, OK_BODY)));
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertThatThrownBy(() -> client.generateText("prompt"))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("LLM call inside DB transaction");
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        assertThat(exchanges).hasValue(0);
+        assertThat(meterRegistry.counter("moa.llm.tx-spanning-calls", "client", "gemini").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void interactive_call_fails_fast_when_quota_exhausted() {
+        GeminiClient client = client(Mono.just(json(HttpStatus.OK, OK_BODY)));
+        while (limiter.tryAcquire(0)) {
+            // RPM bucket 소진 (배치 등 다른 호출이 다 쓴 상황)
+        }
+
+        assertThatThrownBy(() -> client.generateText("prompt"))
+                .isInstanceOf(GeminiClientException.class)
+                .hasMessageContaining("quota exhausted");
+        assertThat(exchanges).hasValue(0);
+    }
+
+    @Test
+    void stream_emits_chunks_in_order_and_releases_permit() {
+        GeminiClient client = client(Mono.just(eventStream(Flux.just(sseEvent("## 요약"), sseEvent("\\n- a"), sseEvent("\\n- b")))));
+
+        List<String> chunks = client.streamText("prompt", null).collectList().block(Duration.ofSeconds(5));
+
+        assertThat(chunks).containsExactly("## 요약", "\n- a", "\n- b");
+        assertThat(concurrencyLimiter.inFlight()).isZero();
+        assertThat(dispatcher.inUse(LlmPriority.INTERACTIVE_DIGEST)).isZero();
+    }
+
+    @Test
+    void cancelled_stream_releases_limiter_permit_and_slot() {
+        // 첫 조각 이후 응답이 끝나지 않는 스트림 -> 구독 취소 (클라이언트 끊김)
+        GeminiClient client = client(Mono.just(eventStream(Flux.concat(Flux.just(sseEvent("first")), Flux.never()))));
+
+        List<String> chunks = client.streamText("prompt", null).take(1).collectList().block(Duration.ofSeconds(5));
+
+        assertThat(chunks).containsExactly("first");
+        assertThat(concurrencyLimiter.inFlight()).isZero();
+        assertThat(dispatcher.inUse(LlmPriority.INTERACTIVE_DIGEST)).isZero();
+        assertThat(circuitBreaker.isOpen()).isFalse();
+    }
+}
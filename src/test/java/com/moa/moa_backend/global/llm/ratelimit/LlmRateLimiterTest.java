@@ -0,0 +1,119 @@
+package com.moa.moa_backend.global.llm.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LlmRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(0);
+
+    /**
+     * sleep 하면 가짜 시계만 진행
+     */
+    private LlmRateLimiter limiter(long rpm, long tpm) {
+        return limiter(rpm, tpm, 0.0);
+    }
+
+    private LlmRateLimiter limiter(long rpm, long tpm, double batchHeadroom) {
+        return new LlmRateLimiter(rpm, tpm, batchHeadroom, 1000, 15000, 2.0, now::get, now::addAndGet);
+    }
+
+    @Test
+    void acquire_within_rpm_does_not_wait() throws Exception {
+        LlmRateLimiter limiter = limiter(3, 1_000_000);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.acquire(100, Duration.ZERO)).isTrue();
+        }
+        assertThat(now.get()).isZero();
+    }
+
+    @Test
+    void acquire_over_rpm_waits_for_refill() throws Exception {
+        LlmRateLimiter limiter = limiter(60, 1_000_000); // 1초에 1건씩 채워짐
+
+        for (int i = 0; i < 60; i++) {
+            limiter.acquire(0, Duration.ZERO);
+        }
+
+        assertThat(limiter.acquire(0, Duration.ZERO)).isFalse();
+        assertThat(limiter.acquire(0, Duration.ofSeconds(5))).isTrue();
+        assertThat(now.get()).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    void acquire_respects_tpm() throws Exception {
+        LlmRateLimiter limiter = limiter(1000, 6000); // 1초에 100 토큰
+
+        assertThat(limiter.acquire(6000, Duration.ZERO)).isTrue();
+        assertThat(limiter.acquire(500, Duration.ofSeconds(10))).isTrue();
+        assertThat(now.get()).isEqualTo(TimeUnit.SECONDS.toNanos(5));
+    }
+
+    @Test
+    void rate_limited_pauses_all_callers_with_multiplicative_backoff() throws Exception {
+        LlmRateLimiter limiter = limiter(1000, 1_000_000);
+
+        limiter.onRateLimited(null);      // 1s
+        assertThat(limiter.acquire(0, Duration.ofMillis(500))).isFalse();
+        assertThat(limiter.acquire(0, Duration.ofSeconds(2))).isTrue();
+        assertThat(now.get()).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+
+        limiter.onRateLimited(null);      // 2s (x2)
+        long before = now.get();
+        assertThat(limiter.acquire(0, Duration.ofSeconds(5))).isTrue();
+        assertThat(now.get() - before).isEqualTo(TimeUnit.SECONDS.toNanos(2));
+
+        limiter.onSuccess();
+        limiter.onRateLimited(null);      // 리셋 후 다시 1s
+        before = now.get();
+        assertThat(limiter.acquire(0, Duration.ofSeconds(5))).isTrue();
+        assertThat(now.get() - before).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    void retry_after_is_clamped_to_max_backoff() throws Exception {
+        LlmRateLimiter limiter = limiter(1000, 1_000_000);
+
+        limiter.onRateLimited(Duration.ofSeconds(60));
+
+        assertThat(limiter.acquire(0, Duration.ofSeconds(30))).isTrue();
+        assertThat(now.get()).isEqualTo(TimeUnit.SECONDS.toNanos(15));
+    }
+
+    @Test
+    void try_acquire_never_waits() {
+        LlmRateLimiter limiter = limiter(2, 1_000_000);
+
+        assertThat(limiter.tryAcquire(100)).isTrue();
+        assertThat(limiter.tryAcquire(100)).isTrue();
+        assertThat(limiter.tryAcquire(100)).isFalse();     // bucket 소진: 대기하지 않고 false
+        assertThat(now.get()).isZero();
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(30));        // RPM 1건 다시 참
+        limiter.onRateLimited(null);                        // 429 pause 1s
+        assertThat(limiter.tryAcquire(0)).isFalse();
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(limiter.tryAcquire(0)).isTrue();
+    }
+
+    @Test
+    void batch_acquire_leaves_headroom_for_live_calls() throws Exception {
+        LlmRateLimiter limiter = limiter(10, 1_000_000, 0.2);   // 배치는 8건까지, 2건은 실시간 몫
+
+        for (int i = 0; i < 8; i++) {
+            assertThat(limiter.acquire(0, Duration.ZERO)).isTrue();
+        }
+        assertThat(limiter.acquire(0, Duration.ZERO)).isFalse();
+
+        assertThat(limiter.tryAcquire(0)).isTrue();
+        assertThat(limiter.tryAcquire(0)).isTrue();
+        assertThat(limiter.tryAcquire(0)).isFalse();
+    }
+}
@@ -0,0 +1,21 @@
+package com.moa.moa_backend.support;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+/**
+ * Postgres 전용 SQL(ON CONFLICT upsert, data-modifying CTE)을 쓰는 테스트용 DataSource
+ * - test 프로필의 H2 대신 컨테이너 Postgres에 연결 (스키마는 test 프로필 그대로 Hibernate create-drop)
+ * - 사용: @Import(PostgresContainerConfig.class)
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class PostgresContainerConfig {
+
+    @Bean
+    @ServiceConnection
+    PostgreSQLContainer postgresContainer() {
+        return new PostgreSQLContainer("postgres:16");
+    }
+}